@@ -0,0 +1,67 @@
+package com.kin.ecosystem.benchmark;
+
+import com.kin.ecosystem.core.network.ApiClient;
+import com.kin.ecosystem.core.network.ApiException;
+import com.kin.ecosystem.core.network.Pair;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import okhttp3.Request;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Building the requests, the part of every API call that runs before the network.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ApiClientBenchmark {
+
+	private static final String PATH = "/users/me/orders";
+	private static final String[] AUTH_NAMES = new String[]{};
+
+	private ApiClient apiClient;
+	private List<Pair> queryParams;
+	private List<Pair> collectionQueryParams;
+	private Map<String, String> headerParams;
+	private Map<String, Object> formParams;
+
+	@Setup
+	public void setUp() {
+		apiClient = new ApiClient("https://api.kinmarketplace.com/v1");
+		queryParams = new ArrayList<>();
+		queryParams.addAll(apiClient.parameterToPair("limit", 25));
+		queryParams.addAll(apiClient.parameterToPair("before", "b3JkZXJfaWRfMTIz"));
+		collectionQueryParams = new ArrayList<>();
+		headerParams = new HashMap<>();
+		headerParams.put("X-REQUEST-ID", "6f2d7a49-5a66-4b0c-9f6a-0b1e7d2c4e11");
+		headerParams.put("Accept", apiClient.selectHeaderAccept(new String[]{ApiClient.APPLICATION_JSON_KEY}));
+		headerParams.put("Content-Type", apiClient.selectHeaderContentType(new String[]{}));
+		formParams = new HashMap<>();
+	}
+
+	@Benchmark
+	public String buildUrl() {
+		return apiClient.buildUrl(PATH, queryParams, collectionQueryParams);
+	}
+
+	@Benchmark
+	public Request buildRequest() throws ApiException {
+		return apiClient.buildRequest(PATH, ApiClient.GET, queryParams, collectionQueryParams, null,
+			headerParams, formParams, AUTH_NAMES, null);
+	}
+}
@@ -0,0 +1,59 @@
+package com.kin.ecosystem.benchmark;
+
+import com.kin.ecosystem.core.bi.EventsStore;
+import com.kin.ecosystem.core.bi.events.ClientReadonly;
+import com.kin.ecosystem.core.bi.events.CommonReadonly;
+import com.kin.ecosystem.core.bi.events.UserReadonly;
+import java.util.concurrent.TimeUnit;
+import kin.ecosystem.test.base.ClientModifierFake;
+import kin.ecosystem.test.base.CommonModifierFake;
+import kin.ecosystem.test.base.UserModifierFake;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The store snapshots every BI event is created with.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventsStoreBenchmark {
+
+	@Setup
+	public void setUp() {
+		EventsStore.init(new UserModifierFake(), new CommonModifierFake(), new ClientModifierFake());
+	}
+
+	@Benchmark
+	public UserReadonly userSnapshot() {
+		return EventsStore.user();
+	}
+
+	@Benchmark
+	public CommonReadonly commonSnapshot() {
+		return EventsStore.common();
+	}
+
+	@Benchmark
+	public ClientReadonly clientSnapshot() {
+		return EventsStore.client();
+	}
+
+	@Benchmark
+	@Threads(4)
+	public CommonReadonly commonSnapshotContended() {
+		return EventsStore.common();
+	}
+}
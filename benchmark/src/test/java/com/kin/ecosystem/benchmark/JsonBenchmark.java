@@ -0,0 +1,200 @@
+package com.kin.ecosystem.benchmark;
+
+import com.google.gson.Gson;
+import com.kin.ecosystem.core.bi.EventsStore;
+import com.kin.ecosystem.core.bi.events.EarnOrderCompleted;
+import com.kin.ecosystem.core.bi.events.SpendOrderCompleted;
+import com.kin.ecosystem.core.network.JSON;
+import com.kin.ecosystem.core.network.model.BlockchainData;
+import com.kin.ecosystem.core.network.model.Offer;
+import com.kin.ecosystem.core.network.model.Offer.ContentTypeEnum;
+import com.kin.ecosystem.core.network.model.Offer.OfferType;
+import com.kin.ecosystem.core.network.model.OfferList;
+import com.kin.ecosystem.core.network.model.Order;
+import com.kin.ecosystem.core.network.model.Order.Status;
+import com.kin.ecosystem.core.network.model.OrderList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import kin.ecosystem.test.base.ClientModifierFake;
+import kin.ecosystem.test.base.CommonModifierFake;
+import kin.ecosystem.test.base.UserModifierFake;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Serialization of the network models and the BI events, with the {@link JSON} the SDK is using.
+ * The *Reflective benchmarks use a plain Gson, the baseline for the generated type adapters.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonBenchmark {
+
+	// Same as the page sizes the SDK is requesting.
+	private static final int ORDERS_COUNT = 100;
+	private static final int OFFERS_COUNT = 25;
+
+	private JSON json;
+	private Gson reflectiveGson;
+
+	private Order order;
+	private OrderList orderList;
+	private OfferList offerList;
+	private SpendOrderCompleted spendOrderCompleted;
+	private EarnOrderCompleted earnOrderCompleted;
+
+	private String orderJson;
+	private String orderListJson;
+	private String offerListJson;
+
+	@Setup
+	public void setUp() {
+		EventsStore.init(new UserModifierFake(), new CommonModifierFake(), new ClientModifierFake());
+		json = new JSON();
+		reflectiveGson = new Gson();
+
+		order = createOrder(0);
+		final List<Order> orders = new ArrayList<>(ORDERS_COUNT);
+		for (int i = 0; i < ORDERS_COUNT; i++) {
+			orders.add(createOrder(i));
+		}
+		orderList = new OrderList().orders(orders);
+
+		final List<Offer> offers = new ArrayList<>(OFFERS_COUNT);
+		for (int i = 0; i < OFFERS_COUNT; i++) {
+			offers.add(createOffer(i));
+		}
+		offerList = new OfferList(offers);
+
+		spendOrderCompleted = SpendOrderCompleted.create("offer_id", "order_id", true);
+		earnOrderCompleted = EarnOrderCompleted
+			.create(EarnOrderCompleted.OfferType.POLL, 10.0, "offer_id", "order_id");
+
+		orderJson = json.serialize(order);
+		orderListJson = json.serialize(orderList);
+		offerListJson = json.serialize(offerList);
+	}
+
+	@Benchmark
+	public String serializeOrder() {
+		return json.serialize(order);
+	}
+
+	@Benchmark
+	public Order deserializeOrder() {
+		return json.deserialize(orderJson, Order.class);
+	}
+
+	@Benchmark
+	public String serializeOrderList() {
+		return json.serialize(orderList);
+	}
+
+	@Benchmark
+	public OrderList deserializeOrderList() {
+		return json.deserialize(orderListJson, OrderList.class);
+	}
+
+	@Benchmark
+	public String serializeOfferList() {
+		return json.serialize(offerList);
+	}
+
+	@Benchmark
+	public OfferList deserializeOfferList() {
+		return json.deserialize(offerListJson, OfferList.class);
+	}
+
+	@Benchmark
+	public String serializeSpendOrderCompleted() {
+		return json.serialize(spendOrderCompleted);
+	}
+
+	@Benchmark
+	public String serializeEarnOrderCompleted() {
+		return json.serialize(earnOrderCompleted);
+	}
+
+	@Benchmark
+	public String serializeOrderListReflective() {
+		return reflectiveGson.toJson(orderList);
+	}
+
+	@Benchmark
+	public OrderList deserializeOrderListReflective() {
+		return reflectiveGson.fromJson(orderListJson, OrderList.class);
+	}
+
+	@Benchmark
+	public OfferList deserializeOfferListReflective() {
+		return reflectiveGson.fromJson(offerListJson, OfferList.class);
+	}
+
+	@Benchmark
+	public String serializeSpendOrderCompletedReflective() {
+		return reflectiveGson.toJson(spendOrderCompleted);
+	}
+
+	@Benchmark
+	public OrderList firstUseDeserializeOrderList() {
+		// A new instance builds its adapters on first use, like the first request after the SDK started.
+		return new JSON().deserialize(orderListJson, OrderList.class);
+	}
+
+	@Benchmark
+	public OrderList firstUseDeserializeOrderListReflective() {
+		return new Gson().fromJson(orderListJson, OrderList.class);
+	}
+
+	@Benchmark
+	public String createAndSerializeEvent() {
+		// What EventLogger.send pays per event, the store snapshots and the serialization.
+		return json.serialize(SpendOrderCompleted.create("offer_id", "order_id", true));
+	}
+
+	private static Order createOrder(int index) {
+		return new Order()
+			.orderId("order_id_" + index)
+			.offerId("offer_id_" + index)
+			.offerType(OfferType.SPEND)
+			.status(Status.COMPLETED)
+			.title("Gift Card")
+			.description("$10 gift card")
+			.callToAction("Tap to reveal the code")
+			.amount(1000)
+			.completionDate("2018-01-01T12:00:00.000Z")
+			.blockchainData(createBlockchainData(index));
+	}
+
+	private static Offer createOffer(int index) {
+		return new Offer()
+			.id("offer_id_" + index)
+			.title("Answer a poll")
+			.description("Tell us about yourself")
+			.image("https://cdn.kinecosystem.com/thumbnails/offers/poll.png")
+			.amount(100)
+			.offerType(OfferType.EARN)
+			.contentType(ContentTypeEnum.POLL)
+			.content("{\"pages\":[{\"type\":0,\"title\":\"Do you like benchmarks?\"}]}")
+			.blockchainData(createBlockchainData(index));
+	}
+
+	private static BlockchainData createBlockchainData(int index) {
+		return new BlockchainData()
+			.transactionId("transaction_id_" + index)
+			.senderAddress("GDV4NYMMYPMCL2OMCSQMU6FRG5ZHP3EA5WSPX5FZ2OJP3Z5MXTQT5DSI")
+			.recipientAddress("GBS43BF24ENNS3KPACUZVKK2VYPOZVBQO2CISGZ777RYGOPYC2FT6S3K");
+	}
+}
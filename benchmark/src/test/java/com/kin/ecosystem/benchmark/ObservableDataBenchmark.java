@@ -0,0 +1,53 @@
+package com.kin.ecosystem.benchmark;
+
+import com.kin.ecosystem.common.ObservableData;
+import com.kin.ecosystem.common.Observer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Dispatching a new value to the observers, like a balance update.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ObservableDataBenchmark {
+
+	@Param({"1", "4", "16"})
+	public int observersCount;
+
+	private ObservableData<Integer> observableData;
+	private int value;
+
+	@Setup
+	public void setUp(final Blackhole blackhole) {
+		observableData = ObservableData.create(0);
+		for (int i = 0; i < observersCount; i++) {
+			observableData.addObserver(new Observer<Integer>() {
+				@Override
+				public void onChanged(Integer value) {
+					blackhole.consume(value);
+				}
+			});
+		}
+	}
+
+	@Benchmark
+	public void setValue() {
+		observableData.setValue(value++);
+	}
+}
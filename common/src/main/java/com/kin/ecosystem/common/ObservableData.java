@@ -4,32 +4,43 @@ import android.os.Handler;
 import android.os.Looper;
 import android.support.annotation.NonNull;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 
+/**
+ * Holds a value and notifies the observers when it changes.
+ * Observers are kept in a copy on write array, so dispatching never takes a lock
+ * and observers can be added or removed while a value is dispatched.
+ */
 public class ObservableData<T> {
 
     static final Observer[] EMPTY = new Observer[0];
+    private static final Object NOT_SET = new Object();
 
-    private AtomicReference<T> value;
+    private volatile T value;
     private final AtomicReference<Observer<T>[]> observers;
     private final Handler mainThreadHandler;
 
-    private final ReadWriteLock lock;
-    private final Lock writeLock;
+    // The latest value posted by postLatestValue and not dispatched yet, NOT_SET if there is none.
+    private final AtomicReference<Object> pendingValue = new AtomicReference<>(NOT_SET);
+    private final Runnable postLatestValueRunnable = new Runnable() {
+        @Override
+        @SuppressWarnings("unchecked")
+        public void run() {
+            final Object newValue = pendingValue.getAndSet(NOT_SET);
+            if (newValue != NOT_SET) {
+                setValue((T) newValue);
+            }
+        }
+    };
 
+    @SuppressWarnings("unchecked")
     ObservableData() {
-        this.lock = new ReentrantReadWriteLock();
-        this.writeLock = lock.writeLock();
         this.mainThreadHandler = new Handler(Looper.getMainLooper());
-        this.value = new AtomicReference<>();
         this.observers = new AtomicReference<Observer<T>[]>(EMPTY);
     }
 
     ObservableData(@NonNull final T defaultValue) {
         this();
-        this.value.lazySet(defaultValue);
+        this.value = defaultValue;
     }
 
     public static <T> ObservableData<T> create() {
@@ -40,48 +51,55 @@ public class ObservableData<T> {
         return new ObservableData<>(defaultValue);
     }
 
+    /**
+     * @return true, the observer is always added, also when it races with other changes to the observers.
+     */
     public boolean addObserver(Observer<T> observer) {
-        Observer<T>[] oldList = observers.get();
-
-        int len = oldList.length;
-        @SuppressWarnings("unchecked")
-        Observer<T>[] newList = new Observer[len + 1];
-        System.arraycopy(oldList, 0, newList, 0, len);
-        newList[len] = observer;
-        return observers.compareAndSet(oldList, newList);
-
+        while (true) {
+            final Observer<T>[] oldList = observers.get();
+            final int len = oldList.length;
+            @SuppressWarnings("unchecked")
+            Observer<T>[] newList = new Observer[len + 1];
+            System.arraycopy(oldList, 0, newList, 0, len);
+            newList[len] = observer;
+            if (observers.compareAndSet(oldList, newList)) {
+                return true;
+            }
+        }
     }
 
+    @SuppressWarnings("unchecked")
     public void removeObserver(Observer<T> observer) {
-        Observer<T>[] oldList = observers.get();
-        if (oldList == EMPTY) {
-            return;
-        }
-        int len = oldList.length;
-        int observerIndex = -1;
-        for (int i = 0; i < len; i++) {
-            if (oldList[i] == observer) {
-                observerIndex = i;
-                break;
+        while (true) {
+            final Observer<T>[] oldList = observers.get();
+            final int len = oldList.length;
+            int observerIndex = -1;
+            for (int i = 0; i < len; i++) {
+                if (oldList[i] == observer) {
+                    observerIndex = i;
+                    break;
+                }
             }
-        }
 
-        if (observerIndex < 0) {
-            return;
-        }
-        Observer<T>[] newList;
-        if (len == 1) {
-            newList = EMPTY;
-        } else {
-            newList = new Observer[len - 1];
-            System.arraycopy(oldList, 0, newList, 0, observerIndex);
-            System.arraycopy(oldList, observerIndex + 1, newList, observerIndex, len - observerIndex - 1);
+            if (observerIndex < 0) {
+                return;
+            }
+            Observer<T>[] newList;
+            if (len == 1) {
+                newList = EMPTY;
+            } else {
+                newList = new Observer[len - 1];
+                System.arraycopy(oldList, 0, newList, 0, observerIndex);
+                System.arraycopy(oldList, observerIndex + 1, newList, observerIndex, len - observerIndex - 1);
+            }
+            if (observers.compareAndSet(oldList, newList)) {
+                return;
+            }
         }
-        observers.compareAndSet(oldList, newList);
     }
 
     public T getValue() {
-        return value.get();
+        return value;
     }
 
     /**
@@ -89,14 +107,12 @@ public class ObservableData<T> {
      * @param value
      */
     public void setValue(T value) {
-        this.writeLock.lock();
-        this.value.lazySet(value);
-        this.onChanged();
-        this.writeLock.unlock();
+        this.value = value;
+        onChanged(value);
     }
 
     /**
-     * Set value on the main thread
+     * Set value on the main thread, the observers are notified once for every posted value.
      * @param value
      */
     public void postValue(final T value) {
@@ -112,9 +128,28 @@ public class ObservableData<T> {
         }
     }
 
-    private void onChanged() {
-        for (Observer observer : observers.get()) {
-            observer.onChanged(value.get());
+    /**
+     * Set value on the main thread, for values that are a state and not events.
+     * Values that are posted before the main thread dispatched the previous one are conflated,
+     * the observers are notified once with the latest value.
+     * Should not be mixed with {@link #postValue(Object)} on the same data, their values are not ordered.
+     * @param value
+     */
+    public void postLatestValue(final T value) {
+        if (Looper.myLooper() != Looper.getMainLooper()) {
+            if (pendingValue.getAndSet(value) == NOT_SET) {
+                mainThreadHandler.post(postLatestValueRunnable);
+            }
+        } else {
+            // Newer than any value that is waiting to be dispatched.
+            pendingValue.set(NOT_SET);
+            setValue(value);
+        }
+    }
+
+    private void onChanged(T value) {
+        for (Observer<T> observer : observers.get()) {
+            observer.onChanged(value);
         }
     }
-}
\ No newline at end of file
+}
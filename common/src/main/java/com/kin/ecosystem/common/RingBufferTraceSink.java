@@ -0,0 +1,70 @@
+package com.kin.ecosystem.common;
+
+import com.kin.ecosystem.common.model.TraceEvent;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps the last events in memory, so they can be dumped when investigating a slow flow.
+ */
+public class RingBufferTraceSink implements TraceSink {
+
+    public static final int DEFAULT_CAPACITY = 512;
+
+    private final TraceEvent[] events;
+    // Guarded by this.
+    private int next;
+    private int size;
+
+    public RingBufferTraceSink() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public RingBufferTraceSink(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.events = new TraceEvent[capacity];
+    }
+
+    @Override
+    public synchronized void onEvent(TraceEvent event) {
+        events[next] = event;
+        next = (next + 1) % events.length;
+        if (size < events.length) {
+            size++;
+        }
+    }
+
+    /**
+     * @return the kept events, oldest first.
+     */
+    public synchronized List<TraceEvent> getEvents() {
+        final List<TraceEvent> list = new ArrayList<>(size);
+        final int first = (next - size + events.length) % events.length;
+        for (int i = 0; i < size; i++) {
+            list.add(events[(first + i) % events.length]);
+        }
+        return list;
+    }
+
+    public synchronized void clear() {
+        for (int i = 0; i < events.length; i++) {
+            events[i] = null;
+        }
+        next = 0;
+        size = 0;
+    }
+
+    /**
+     * @return the kept events, oldest first, one per line.
+     */
+    public String dump() {
+        final List<TraceEvent> list = getEvents();
+        final StringBuilder builder = new StringBuilder(list.size() * 64);
+        for (TraceEvent event : list) {
+            builder.append(event).append('\n');
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,13 @@
+package com.kin.ecosystem.common;
+
+import com.kin.ecosystem.common.model.TraceEvent;
+
+/**
+ * Receives the SDK spans and counters.
+ * Events are delivered on the thread that emitted them, which can be the main thread or an SDK thread,
+ * so implementations should be thread safe and return quickly.
+ */
+public interface TraceSink {
+
+    void onEvent(TraceEvent event);
+}
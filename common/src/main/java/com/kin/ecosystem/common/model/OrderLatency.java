@@ -0,0 +1,85 @@
+package com.kin.ecosystem.common.model;
+
+/**
+ * How long one phase of the orders of an offer type and origin took, over the recent completed orders.
+ * The phases are:
+ * <ul>
+ * <li>create - creating the order on the server.</li>
+ * <li>submit - submitting the order to the server.</li>
+ * <li>blockchain - from sending a spend transaction, or submitting an earn order, until the payment is seen on the
+ * blockchain.</li>
+ * <li>confirm - from the payment until the server reports the order completed.</li>
+ * <li>total - from creating the order until it completed.</li>
+ * </ul>
+ */
+public class OrderLatency {
+
+    private final String offerType;
+    private final String origin;
+    private final String phase;
+    private final long count;
+    private final long p50Millis;
+    private final long p95Millis;
+    private final long p99Millis;
+
+    public OrderLatency(String offerType, String origin, String phase, long count, long p50Millis, long p95Millis,
+        long p99Millis) {
+        this.offerType = offerType;
+        this.origin = origin;
+        this.phase = phase;
+        this.count = count;
+        this.p50Millis = p50Millis;
+        this.p95Millis = p95Millis;
+        this.p99Millis = p99Millis;
+    }
+
+    /**
+     * @return spend or earn.
+     */
+    public String getOfferType() {
+        return offerType;
+    }
+
+    /**
+     * @return marketplace or external.
+     */
+    public String getOrigin() {
+        return origin;
+    }
+
+    public String getPhase() {
+        return phase;
+    }
+
+    /**
+     * @return how many orders were measured since the SDK was created, the percentiles are of the recent ones.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    public long getP50Millis() {
+        return p50Millis;
+    }
+
+    public long getP95Millis() {
+        return p95Millis;
+    }
+
+    public long getP99Millis() {
+        return p99Millis;
+    }
+
+    @Override
+    public String toString() {
+        return "OrderLatency{" +
+            "offerType='" + offerType + '\'' +
+            ", origin='" + origin + '\'' +
+            ", phase='" + phase + '\'' +
+            ", count=" + count +
+            ", p50Millis=" + p50Millis +
+            ", p95Millis=" + p95Millis +
+            ", p99Millis=" + p99Millis +
+            '}';
+    }
+}
@@ -0,0 +1,82 @@
+package com.kin.ecosystem.common.model;
+
+/**
+ * A span, counter or gauge emitted by the SDK instrumentation.
+ */
+public class TraceEvent {
+
+    public enum Type {
+        /**
+         * A timed operation, the value is its duration in nanoseconds.
+         */
+        SPAN,
+        /**
+         * Something that happened, the value is how many times.
+         */
+        COUNTER,
+        /**
+         * A sampled level such as a queue depth, the value is the level when it was sampled.
+         */
+        GAUGE
+    }
+
+    private final Type type;
+    private final String name;
+    private final String detail;
+    private final long timestamp;
+    private final long value;
+
+    public TraceEvent(Type type, String name, String detail, long timestamp, long value) {
+        this.type = type;
+        this.name = name;
+        this.detail = detail;
+        this.timestamp = timestamp;
+        this.value = value;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * @return the operation or metric, e.g. {@code http.OrdersApi.getOrder} or {@code order.blockchain}.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the outcome of a span, e.g. the http status code, or null.
+     */
+    public String getDetail() {
+        return detail;
+    }
+
+    /**
+     * @return the wall clock time in millis when a span started or a counter or gauge was recorded.
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public long getValue() {
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder(64)
+            .append(timestamp).append(' ')
+            .append(type).append(' ')
+            .append(name);
+        if (type == Type.SPAN) {
+            builder.append(' ').append(value / 1000000).append('.').append(value / 100000 % 10).append("ms");
+        } else {
+            builder.append(' ').append(value);
+        }
+        if (detail != null) {
+            builder.append(' ').append(detail);
+        }
+        return builder.toString();
+    }
+}
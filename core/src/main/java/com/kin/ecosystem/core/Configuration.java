@@ -21,12 +21,14 @@ import com.kin.ecosystem.core.network.ApiClient;
 import com.kin.ecosystem.core.network.model.AuthToken;
 import java.io.IOException;
 import kin.ecosystem.core.BuildConfig;
+import okhttp3.Authenticator;
 import okhttp3.Interceptor;
 import okhttp3.MediaType;
 import okhttp3.Protocol;
 import okhttp3.Request;
 import okhttp3.Response;
 import okhttp3.ResponseBody;
+import okhttp3.Route;
 
 public class Configuration {
 
@@ -46,7 +48,7 @@ public class Configuration {
 	private static KinEnvironment environment;
 
 	private static final Object apiClientLock = new Object();
-	private static ApiClient defaultApiClient;
+	private static volatile ApiClient defaultApiClient;
 
 
 	/**
@@ -58,44 +60,75 @@ public class Configuration {
 	public static ApiClient getDefaultApiClient() {
 		if (defaultApiClient == null) {
 			synchronized (apiClientLock) {
-				defaultApiClient = new ApiClient(environment.getEcosystemServerUrl());
-				defaultApiClient.addInterceptor(new Interceptor() {
-					@Override
-					public Response intercept(Chain chain) throws IOException {
-						Request originalRequest = chain.request();
-						final String path = originalRequest.url().encodedPath();
-
-						if (path.equals(USERS_PATH)) {
-							return chain.proceed(originalRequest);
-						} else {
-							AuthToken authToken = AuthRepository.getInstance().getAuthTokenSync();
-							if (authToken != null) {
-								Request authorisedRequest = originalRequest.newBuilder()
-									.header(AUTHORIZATION, BEARER + authToken.getToken())
-									.build();
-								return chain.proceed(authorisedRequest);
-							} else {
-								// Stop the request from being executed.
-								Logger.log(new Log().withTag("ApiClient").text("No token - response error on client"));
-								return new Response.Builder()
-									.code(NO_TOKEN_ERROR_CODE)
-									.body(ResponseBody.create(MediaType.parse("application/json"),
-										"{error: \"" + AUTH_TOKEN_COULD_NOT_BE_GENERATED + "\"}"))
-									.message(AUTH_TOKEN_COULD_NOT_BE_GENERATED)
-									.protocol(Protocol.HTTP_2)
-									.request(originalRequest)
-									.build();
-							}
-						}
-					}
-				});
+				if (defaultApiClient == null) {
+					defaultApiClient = createDefaultApiClient();
+				}
 			}
 		}
-
-		addHeaders(defaultApiClient);
 		return defaultApiClient;
 	}
 
+	private static ApiClient createDefaultApiClient() {
+		ApiClient apiClient = new ApiClient(environment.getEcosystemServerUrl());
+		apiClient.addInterceptor(new Interceptor() {
+			@Override
+			public Response intercept(Chain chain) throws IOException {
+				Request originalRequest = chain.request();
+				final String path = originalRequest.url().encodedPath();
+
+				if (path.equals(USERS_PATH)) {
+					return chain.proceed(originalRequest);
+				} else {
+					AuthToken authToken = AuthRepository.getInstance().getAuthTokenSync();
+					if (authToken != null) {
+						Request authorisedRequest = originalRequest.newBuilder()
+							.header(AUTHORIZATION, BEARER + authToken.getToken())
+							.build();
+						return chain.proceed(authorisedRequest);
+					} else {
+						// Stop the request from being executed.
+						Logger.log(Log.create("ApiClient").text("No token - response error on client"));
+						return new Response.Builder()
+							.code(NO_TOKEN_ERROR_CODE)
+							.body(ResponseBody.create(MediaType.parse("application/json"),
+								"{error: \"" + AUTH_TOKEN_COULD_NOT_BE_GENERATED + "\"}"))
+							.message(AUTH_TOKEN_COULD_NOT_BE_GENERATED)
+							.protocol(Protocol.HTTP_2)
+							.request(originalRequest)
+							.build();
+					}
+				}
+			}
+		});
+		apiClient.setAuthenticator(new Authenticator() {
+			@Override
+			public Request authenticate(Route route, Response response) throws IOException {
+				final Request request = response.request();
+				if (request.url().encodedPath().equals(USERS_PATH) || response.priorResponse() != null) {
+					// Sign in was rejected, or the request was rejected again with a new token.
+					return null;
+				}
+				final AuthToken authToken = AuthRepository.getInstance()
+					.refreshAuthTokenSync(getToken(request.header(AUTHORIZATION)));
+				if (authToken == null) {
+					return null;
+				}
+				return request.newBuilder()
+					.header(AUTHORIZATION, BEARER + authToken.getToken())
+					.build();
+			}
+		});
+		addHeaders(apiClient);
+		return apiClient;
+	}
+
+	private static String getToken(String authorizationHeader) {
+		if (authorizationHeader != null && authorizationHeader.startsWith(BEARER)) {
+			return authorizationHeader.substring(BEARER.length());
+		}
+		return null;
+	}
+
 	private static void addHeaders(ApiClient apiClient) {
 		apiClient.addDefaultHeader(OS_HEADER, "android " + VERSION.RELEASE);
 		apiClient.addDefaultHeader(SDK_VERSION_HEADER, BuildConfig.VERSION_NAME);
@@ -5,14 +5,26 @@ import static java.lang.annotation.RetentionPolicy.SOURCE;
 import android.support.annotation.IntDef;
 import java.lang.annotation.Retention;
 
+/**
+ * Log message builder, use {@link #create(String)} so nothing is built or formatted while logs are disabled:
+ * <pre>
+ * Logger.log(Log.create(TAG).put("balance", balance));
+ * </pre>
+ * Primitive values have their own put overloads, so they are not boxed,
+ * values that are expensive to compute should be guarded with {@link Logger#isEnabled()}.
+ */
 public class Log {
 	private static String COLON = ": ";
 	private static String COMMA = ", ";
 	private static String SPACE = " ";
 
+	// Shared instance returned while logs are disabled, it ignores everything.
+	private static final Log DISABLED = new Log(false);
+
+	private final boolean isEnabled;
 	private int priority = DEBUG;
 	private String tag;
-	private StringBuilder content = new StringBuilder();
+	private StringBuilder content;
 
 	public static final int DEBUG = 3;
 	public static final int INFO = 4;
@@ -25,33 +37,86 @@ public class Log {
 
 	}
 
+	public Log() {
+		this(true);
+	}
+
+	private Log(boolean isEnabled) {
+		this.isEnabled = isEnabled;
+	}
+
+	/**
+	 * @return a new log with the given tag, or a shared no-op log if logs are disabled.
+	 */
+	public static Log create(String tag) {
+		return Logger.isEnabled() ? new Log().withTag(tag) : DISABLED;
+	}
+
 	public Log priority(@Priority final int priority) {
-		this.priority = priority;
+		if (isEnabled) {
+			this.priority = priority;
+		}
 		return this;
 	}
 
 	public Log withTag(String tag) {
-		this.tag = tag;
+		if (isEnabled) {
+			this.tag = tag;
+		}
 		return this;
 	}
 
 	public Log put(String name, Object value) {
-		content.append(name)
-			.append(COLON)
-			.append(value)
-			.append(COMMA);
+		if (isEnabled) {
+			appendName(name).append(value).append(COMMA);
+		}
+		return this;
+	}
 
+	public Log put(String name, int value) {
+		if (isEnabled) {
+			appendName(name).append(value).append(COMMA);
+		}
+		return this;
+	}
+
+	public Log put(String name, long value) {
+		if (isEnabled) {
+			appendName(name).append(value).append(COMMA);
+		}
+		return this;
+	}
+
+	public Log put(String name, boolean value) {
+		if (isEnabled) {
+			appendName(name).append(value).append(COMMA);
+		}
 		return this;
 	}
 
 	public Log text(String name) {
-		content.append(SPACE)
-			.append(name)
-			.append(SPACE);
+		if (isEnabled) {
+			getContent().append(SPACE)
+				.append(name)
+				.append(SPACE);
+		}
 		return this;
 	}
 
 	public void log() {
-		Logger.log(priority, tag, content.substring(0, content.length() - 1));
+		if (isEnabled && content != null) {
+			Logger.log(priority, tag, content.substring(0, content.length() - 1));
+		}
+	}
+
+	private StringBuilder appendName(String name) {
+		return getContent().append(name).append(COLON);
+	}
+
+	private StringBuilder getContent() {
+		if (content == null) {
+			content = new StringBuilder();
+		}
+		return content;
 	}
 }
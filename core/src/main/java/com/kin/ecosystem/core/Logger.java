@@ -7,13 +7,19 @@ public class Logger {
 
 	private static final String BASE_TAG = "KinEcosystem - ";
 
-	private static boolean shouldLog;
+	private static volatile boolean shouldLog;
 
 	private Logger() {
 	}
 
 	public static void log(com.kin.ecosystem.core.Log ecosystemLog) {
-		ecosystemLog.log();
+		if (shouldLog) {
+			ecosystemLog.log();
+		}
+	}
+
+	public static boolean isEnabled() {
+		return shouldLog;
 	}
 
 	public static void log(@Priority final int priority, final String tag, final String content) {
@@ -0,0 +1,131 @@
+package com.kin.ecosystem.core;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import com.kin.ecosystem.common.TraceSink;
+import com.kin.ecosystem.common.model.TraceEvent;
+import com.kin.ecosystem.common.model.TraceEvent.Type;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Emits spans, counters and gauges to the sinks the host app registered.
+ * While no sink is registered nothing is recorded, spans are a shared no-op instance and nothing is allocated.
+ */
+public class Tracer {
+
+	private static final String TAG = Tracer.class.getSimpleName();
+
+	private static final Object lock = new Object();
+	private static volatile TraceSink[] sinks = new TraceSink[0];
+
+	private Tracer() {
+	}
+
+	public static void addSink(@NonNull TraceSink sink) {
+		synchronized (lock) {
+			for (TraceSink existing : sinks) {
+				if (existing == sink) {
+					return;
+				}
+			}
+			final TraceSink[] updated = new TraceSink[sinks.length + 1];
+			System.arraycopy(sinks, 0, updated, 0, sinks.length);
+			updated[sinks.length] = sink;
+			sinks = updated;
+		}
+	}
+
+	public static void removeSink(@NonNull TraceSink sink) {
+		synchronized (lock) {
+			for (int i = 0; i < sinks.length; i++) {
+				if (sinks[i] == sink) {
+					final TraceSink[] updated = new TraceSink[sinks.length - 1];
+					System.arraycopy(sinks, 0, updated, 0, i);
+					System.arraycopy(sinks, i + 1, updated, i, sinks.length - i - 1);
+					sinks = updated;
+					return;
+				}
+			}
+		}
+	}
+
+	public static boolean isEnabled() {
+		return sinks.length > 0;
+	}
+
+	/**
+	 * Start timing an operation, end it with {@link Span#end()} on any thread.
+	 */
+	@NonNull
+	public static Span startSpan(@NonNull String name) {
+		return isEnabled() ? new Span(name) : Span.NOOP;
+	}
+
+	/**
+	 * Record an operation that was timed by the caller.
+	 */
+	public static void span(@NonNull String name, @Nullable String detail, long startTimeMillis, long durationNanos) {
+		if (isEnabled()) {
+			emit(new TraceEvent(Type.SPAN, name, detail, startTimeMillis, durationNanos));
+		}
+	}
+
+	public static void count(@NonNull String name) {
+		count(name, 1);
+	}
+
+	public static void count(@NonNull String name, long count) {
+		if (isEnabled()) {
+			emit(new TraceEvent(Type.COUNTER, name, null, System.currentTimeMillis(), count));
+		}
+	}
+
+	public static void gauge(@NonNull String name, long value) {
+		if (isEnabled()) {
+			emit(new TraceEvent(Type.GAUGE, name, null, System.currentTimeMillis(), value));
+		}
+	}
+
+	private static void emit(TraceEvent event) {
+		for (TraceSink sink : sinks) {
+			try {
+				sink.onEvent(event);
+			} catch (RuntimeException e) {
+				// A broken sink should not break the SDK flow that emitted the event.
+				Logger.log(Log.create(TAG).priority(Log.ERROR).put("sink failed", e));
+			}
+		}
+	}
+
+	public static class Span {
+
+		static final Span NOOP = new Span(null);
+
+		private final String name;
+		private final long startTimeMillis;
+		private final long startNanos;
+
+		private Span(String name) {
+			this.name = name;
+			this.startTimeMillis = name != null ? System.currentTimeMillis() : 0;
+			this.startNanos = name != null ? System.nanoTime() : 0;
+		}
+
+		public void end() {
+			end(null);
+		}
+
+		/**
+		 * @param detail the outcome, e.g. a status code.
+		 */
+		public void end(@Nullable String detail) {
+			if (this != NOOP) {
+				span(name, detail, startTimeMillis, System.nanoTime() - startNanos);
+			}
+		}
+
+		public long getElapsedMillis() {
+			return this != NOOP ? TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos) : 0;
+		}
+	}
+}
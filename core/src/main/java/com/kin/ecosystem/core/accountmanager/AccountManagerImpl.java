@@ -9,12 +9,13 @@ import com.kin.ecosystem.core.bi.events.StellarKinTrustlineSetupFailed;
 import com.kin.ecosystem.core.bi.events.StellarKinTrustlineSetupSucceeded;
 import com.kin.ecosystem.core.bi.events.WalletCreationSucceeded;
 import com.kin.ecosystem.core.data.auth.AuthDataSource;
+import com.kin.ecosystem.core.data.blockchain.BlockchainSource;
 import com.kin.ecosystem.core.data.blockchain.CreateTrustLineCall;
 import com.kin.ecosystem.core.data.blockchain.CreateTrustLineCall.TrustlineCallback;
 import com.kin.ecosystem.core.network.model.AuthToken;
+import com.kin.ecosystem.core.util.ExecutorsUtil;
 import kin.core.EventListener;
 import kin.core.KinAccount;
-import kin.core.ListenerRegistration;
 import kin.core.exception.OperationFailedException;
 import com.kin.ecosystem.common.KinCallback;
 import com.kin.ecosystem.common.ObservableData;
@@ -29,28 +30,39 @@ public class AccountManagerImpl implements AccountManager {
 
 	private final AccountManager.Local local;
 	private final EventLogger eventLogger;
+	private final ExecutorsUtil executorsUtil;
+	private final BlockchainSource blockchainSource;
 	private AuthDataSource authRepository;
 	private KinAccount kinAccount;
 	private final ObservableData<Integer> accountState;
 
-	private ListenerRegistration accountCreationRegistration;
+	// Modified only on the scheduler thread.
+	private EventListener<Void> accountCreationListener;
+	private CreateTrustLineCall createTrustLineCall;
 
 	private AccountManagerImpl(@NonNull final AccountManager.Local local,
 		@NonNull final EventLogger eventLogger,
-		@NonNull final AuthDataSource authRepository) {
+		@NonNull final AuthDataSource authRepository,
+		@NonNull final BlockchainSource blockchainSource,
+		@NonNull final ExecutorsUtil executorsUtil) {
 		this.local = local;
 		this.eventLogger = eventLogger;
+		this.executorsUtil = executorsUtil;
+		this.blockchainSource = blockchainSource;
 		this.authRepository = authRepository;
 		this.accountState = ObservableData.create(local.getAccountState());
 	}
 
 	public static void init(@NonNull final AccountManager.Local local,
 		@NonNull final EventLogger eventLogger,
-		@NonNull final AuthDataSource authRepository) {
+		@NonNull final AuthDataSource authRepository,
+		@NonNull final BlockchainSource blockchainSource,
+		@NonNull final ExecutorsUtil executorsUtil) {
 		if (instance == null) {
 			synchronized (AccountManagerImpl.class) {
 				if (instance == null) {
-					instance = new AccountManagerImpl(local, eventLogger, authRepository);
+					instance = new AccountManagerImpl(local, eventLogger, authRepository, blockchainSource,
+						executorsUtil);
 				}
 			}
 		}
@@ -74,7 +86,7 @@ public class AccountManagerImpl implements AccountManager {
 	@Override
 	public void addAccountStateObserver(@NonNull Observer<Integer> observer) {
 		accountState.addObserver(observer);
-		accountState.postValue(accountState.getValue());
+		accountState.postLatestValue(accountState.getValue());
 	}
 
 	@Override
@@ -92,22 +104,36 @@ public class AccountManagerImpl implements AccountManager {
 	@Override
 	public void start(@NonNull final KinAccount kinAccount) {
 		this.kinAccount = kinAccount;
-		Logger.log(new Log().withTag(TAG).put("setAccountState", "start"));
+		Logger.log(Log.create(TAG).put("setAccountState", "start"));
 		if (getAccountState() != CREATION_COMPLETED) {
 			this.setAccountState(local.getAccountState());
 		}
 	}
 
+	/**
+	 * The state transitions run one after the other on the shared scheduler thread, whichever thread
+	 * the callbacks that trigger them are called on.
+	 * The state is saved before the work of the state starts, so onboarding resumes from it after a restart.
+	 */
 	private void setAccountState(@AccountState final int accountState) {
+		executorsUtil.scheduled().execute(new Runnable() {
+			@Override
+			public void run() {
+				onAccountStateChanged(accountState);
+			}
+		});
+	}
+
+	private void onAccountStateChanged(@AccountState final int accountState) {
 		if (isValidState(this.accountState.getValue(), accountState)) {
 			if (accountState != ERROR) {
 				this.local.setAccountState(accountState);
 			}
-			this.accountState.postValue(accountState);
+			this.accountState.postLatestValue(accountState);
 			switch (accountState) {
 				case REQUIRE_CREATION:
 					eventLogger.send(StellarAccountCreationRequested.create());
-					Logger.log(new Log().withTag(TAG).put("setAccountState", "REQUIRE_CREATION"));
+					Logger.log(Log.create(TAG).put("setAccountState", "REQUIRE_CREATION"));
 					// Trigger account creation from server side.
 					authRepository.getAuthToken(new KinCallback<AuthToken>() {
 						@Override
@@ -122,24 +148,27 @@ public class AccountManagerImpl implements AccountManager {
 					});
 					break;
 				case PENDING_CREATION:
-					Logger.log(new Log().withTag(TAG).put("setAccountState", "PENDING_CREATION"));
+					Logger.log(Log.create(TAG).put("setAccountState", "PENDING_CREATION"));
 					// Start listen for account creation on the blockchain side.
-					if (accountCreationRegistration != null) {
-						removeAccountCreationRegistration();
+					if (accountCreationListener != null) {
+						removeAccountCreationListener();
 					}
-					accountCreationRegistration = kinAccount.blockchainEvents()
-						.addAccountCreationListener(new EventListener<Void>() {
-							@Override
-							public void onEvent(Void data) {
-								removeAccountCreationRegistration();
-								setAccountState(REQUIRE_TRUSTLINE);
-							}
-						});
+					accountCreationListener = new EventListener<Void>() {
+						@Override
+						public void onEvent(Void data) {
+							setAccountState(REQUIRE_TRUSTLINE);
+						}
+					};
+					blockchainSource.addAccountCreationListener(accountCreationListener);
 					break;
 				case REQUIRE_TRUSTLINE:
-					Logger.log(new Log().withTag(TAG).put("setAccountState", "REQUIRE_TRUSTLINE"));
+					Logger.log(Log.create(TAG).put("setAccountState", "REQUIRE_TRUSTLINE"));
+					if (accountCreationListener != null) {
+						removeAccountCreationListener();
+					}
 					// Create trustline transaction with KIN
-					new CreateTrustLineCall(kinAccount, new TrustlineCallback() {
+					cancelCreateTrustLineCall();
+					createTrustLineCall = new CreateTrustLineCall(kinAccount, executorsUtil, new TrustlineCallback() {
 						@Override
 						public void onSuccess() {
 							eventLogger.send(StellarKinTrustlineSetupSucceeded.create());
@@ -151,25 +180,36 @@ public class AccountManagerImpl implements AccountManager {
 							eventLogger.send(StellarKinTrustlineSetupFailed.create(e.getMessage()));
 							setAccountState(ERROR);
 						}
-					}).start();
+					});
+					createTrustLineCall.start();
 					break;
 				case CREATION_COMPLETED:
 					// Mark account creation completed.
 					eventLogger.send(WalletCreationSucceeded.create());
-					Logger.log(new Log().withTag(TAG).put("setAccountState", "CREATION_COMPLETED"));
+					Logger.log(Log.create(TAG).put("setAccountState", "CREATION_COMPLETED"));
+					createTrustLineCall = null;
 					break;
 				default:
 				case AccountManager.ERROR:
-					Logger.log(new Log().withTag(TAG).put("setAccountState", "ERROR"));
+					Logger.log(Log.create(TAG).put("setAccountState", "ERROR"));
+					// Stop the pending retries, retry() starts over from the saved state.
+					cancelCreateTrustLineCall();
 					break;
 
 			}
 		}
 	}
 
-	private void removeAccountCreationRegistration() {
-		accountCreationRegistration.remove();
-		accountCreationRegistration = null;
+	private void cancelCreateTrustLineCall() {
+		if (createTrustLineCall != null) {
+			createTrustLineCall.cancel();
+			createTrustLineCall = null;
+		}
+	}
+
+	private void removeAccountCreationListener() {
+		blockchainSource.removeAccountCreationListener(accountCreationListener);
+		accountCreationListener = null;
 	}
 
 	private boolean isValidState(int currentState, int newState) {
@@ -1,58 +1,193 @@
 package com.kin.ecosystem.core.bi;
 
+import android.content.Context;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.support.annotation.VisibleForTesting;
+import com.kin.ecosystem.core.Log;
+import com.kin.ecosystem.core.Logger;
 import com.kin.ecosystem.core.network.ApiException;
+import com.kin.ecosystem.core.network.JSON;
+import com.kin.ecosystem.core.util.ExecutorsUtil;
+import java.io.File;
+import java.nio.charset.Charset;
 import java.util.List;
-import java.util.Map;
-import com.kin.ecosystem.core.network.ApiCallback;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Events are persisted to an on-disk queue and sent to BI in batches,
+ * when enough events are waiting or when the oldest waiting event reached the flush interval.
+ * Failed batches stay in the queue and are retried with exponential backoff, the same events with the same request id,
+ * so the server can drop a batch it already received.
+ * The queue is managed on the shared scheduler thread, and batches are sent from the network pool.
+ */
 public class EventLoggerImpl implements EventLogger {
 
-    private static EventLoggerImpl instance;
+    private static final String TAG = EventLoggerImpl.class.getSimpleName();
+
+    private static final String EVENTS_QUEUE_FILE_NAME = "kinecosystem_bi_events";
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private static final int MAX_QUEUE_SIZE = 500;
+    private static final int FLUSH_BATCH_SIZE = 20;
+    private static final int MAX_BATCH_SIZE = 50;
+    private static final long FLUSH_INTERVAL_MILLIS = TimeUnit.SECONDS.toMillis(15);
+    private static final long MIN_RETRY_DELAY_MILLIS = TimeUnit.SECONDS.toMillis(5);
+    private static final long MAX_RETRY_DELAY_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
+    private static final int REQUEST_TIMEOUT_CODE = 408;
+    private static final int TOO_MANY_REQUESTS_CODE = 429;
+
+    private static volatile EventLoggerImpl instance;
 
     private final EventsApi eventsApi;
+    private final JSON json;
+    private final EventsQueue eventsQueue;
+    private final ScheduledExecutorService executor;
+    private final Executor networkIO;
 
-    private EventLoggerImpl(EventsApi eventsApi) {
+    // Accessed only from the executor thread.
+    private ScheduledFuture<?> scheduledFlush;
+    private long retryDelayMillis;
+    private boolean isSending;
+
+    @VisibleForTesting
+    EventLoggerImpl(@NonNull EventsApi eventsApi, @NonNull EventsQueue eventsQueue,
+        @NonNull ScheduledExecutorService executor, @NonNull Executor networkIO) {
         this.eventsApi = eventsApi;
+        this.json = eventsApi.getApiClient().getJSON();
+        this.eventsQueue = eventsQueue;
+        this.executor = executor;
+        this.networkIO = networkIO;
+        scheduleFlush(FLUSH_INTERVAL_MILLIS); // Send what was left from the previous session.
     }
 
-    public static EventLoggerImpl getInstance() {
+    public static void init(@NonNull Context context, @NonNull ExecutorsUtil executorsUtil) {
         if (instance == null) {
             synchronized (EventLoggerImpl.class) {
                 if (instance == null) {
-                    instance = new EventLoggerImpl(new EventsApi());
+                    final File queueFile = new File(context.getApplicationContext().getFilesDir(),
+                        EVENTS_QUEUE_FILE_NAME);
+                    instance = new EventLoggerImpl(new EventsApi(), new EventsQueue(queueFile, MAX_QUEUE_SIZE),
+                        executorsUtil.scheduled(), executorsUtil.networkIO());
                 }
             }
         }
-        return  instance;
     }
 
+    public static EventLoggerImpl getInstance() {
+        return instance;
+    }
 
     @Override
-    public void send(Event event) {
-        try {
-            eventsApi.sendEventAsync(event, new ApiCallback<String>() {
-                @Override
-                public void onFailure(ApiException e, int statusCode, Map<String, List<String>> responseHeaders) {
-
+    public void send(final Event event) {
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                eventsQueue.add(json.serialize(event));
+                if (eventsQueue.size() >= FLUSH_BATCH_SIZE && retryDelayMillis == 0) {
+                    scheduleFlush(0);
+                } else if (scheduledFlush == null) {
+                    scheduleFlush(FLUSH_INTERVAL_MILLIS);
                 }
+            }
+        });
+    }
 
-                @Override
-                public void onSuccess(String result, int statusCode, Map<String, List<String>> responseHeaders) {
+    private void scheduleFlush(long delayMillis) {
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+        }
+        scheduledFlush = executor.schedule(new Runnable() {
+            @Override
+            public void run() {
+                scheduledFlush = null;
+                flush();
+            }
+        }, delayMillis, TimeUnit.MILLISECONDS);
+    }
 
+    private void flush() {
+        if (isSending) {
+            // The next flush is scheduled when the batch in flight is done.
+            return;
+        }
+        // A failed batch is kept by the queue, so it is retried with the same events.
+        final List<String> batch = eventsQueue.peekBatch(MAX_BATCH_SIZE);
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        isSending = true;
+        final byte[] events = toJsonArray(batch);
+        // Derived from the events, which have unique ids, so a retry of the batch has the same id.
+        final String requestId = UUID.nameUUIDFromBytes(events).toString();
+        networkIO.execute(new Runnable() {
+            @Override
+            public void run() {
+                ApiException error = null;
+                try {
+                    eventsApi.sendEvents(events, requestId);
+                } catch (ApiException e) {
+                    error = e;
                 }
+                final ApiException finalError = error;
+                executor.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        isSending = false;
+                        onBatchSent(finalError);
+                    }
+                });
+            }
+        });
+    }
 
-                @Override
-                public void onUploadProgress(long bytesWritten, long contentLength, boolean done) {
+    private void onBatchSent(@Nullable ApiException e) {
+        if (e == null) {
+            onBatchDone();
+        } else if (isClientError(e)) {
+            // The server will never accept this batch, drop it instead of retrying forever.
+            Logger.log(Log.create(TAG).priority(Log.ERROR).put("Batch rejected, code", e.getCode()));
+            onBatchDone();
+        } else {
+            retryDelayMillis = retryDelayMillis == 0 ? MIN_RETRY_DELAY_MILLIS
+                : Math.min(retryDelayMillis * 2, MAX_RETRY_DELAY_MILLIS);
+            Logger.log(Log.create(TAG).put("Batch failed, retry in millis", retryDelayMillis));
+            scheduleFlush(retryDelayMillis);
+        }
+    }
 
-                }
+    private void onBatchDone() {
+        eventsQueue.removeBatch();
+        retryDelayMillis = 0;
+        final int remaining = eventsQueue.size();
+        if (remaining >= FLUSH_BATCH_SIZE) {
+            scheduleFlush(0);
+        } else if (remaining > 0) {
+            scheduleFlush(FLUSH_INTERVAL_MILLIS);
+        }
+    }
 
-                @Override
-                public void onDownloadProgress(long bytesRead, long contentLength, boolean done) {
+    private static boolean isClientError(ApiException e) {
+        final int code = e.getCode();
+        return code >= 400 && code < 500 && code != REQUEST_TIMEOUT_CODE && code != TOO_MANY_REQUESTS_CODE;
+    }
 
-                }
-            });
-        } catch (ApiException e) {
-            e.printStackTrace();
+    private static byte[] toJsonArray(List<String> serializedEvents) {
+        StringBuilder builder = new StringBuilder();
+        builder.append('[');
+        for (int i = 0; i < serializedEvents.size(); i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append(serializedEvents.get(i));
         }
+        builder.append(']');
+        return builder.toString().getBytes(UTF_8);
     }
 }
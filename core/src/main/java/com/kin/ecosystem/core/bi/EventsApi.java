@@ -1,12 +1,9 @@
 package com.kin.ecosystem.core.bi;
 
-import com.google.gson.reflect.TypeToken;
 import com.kin.ecosystem.core.Configuration;
-import com.kin.ecosystem.core.network.ApiCallback;
 import com.kin.ecosystem.core.network.ApiClient;
 import com.kin.ecosystem.core.network.ApiException;
 import com.kin.ecosystem.core.network.Pair;
-import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -24,14 +21,20 @@ class EventsApi {
 		apiClient = new ApiClient(Configuration.getEnvironment().getBiUrl());
 	}
 
+	public ApiClient getApiClient() {
+		return apiClient;
+	}
+
 	/**
-	 * Build call for sendEvent
+	 * Build call for sendEvents
 	 *
+	 * @param events JSON array of serialized events
+	 * @param requestId A unique id for the request. A retransmitted request will have the same id
 	 * @return Call to execute
 	 * @throws ApiException If fail to serialize the request body object
 	 */
-	public Call sendEventCall(Event event) throws ApiException {
-		Object localVarPostBody = event;
+	public Call sendEventsCall(byte[] events, String requestId) throws ApiException {
+		Object localVarPostBody = events;
 
 		// create path and map variables
 		String localVarPath = "";
@@ -40,10 +43,7 @@ class EventsApi {
 		List<Pair> localVarCollectionQueryParams = new ArrayList<Pair>();
 
 		Map<String, String> localVarHeaderParams = new HashMap<String, String>();
-
-		final String eventId = apiClient.parameterToString(event.getCommon().getEventId());
-		localVarHeaderParams.put("X-REQUEST-ID", eventId);
-
+		localVarHeaderParams.put("X-REQUEST-ID", apiClient.parameterToString(requestId));
 
 		Map<String, Object> localVarFormParams = new HashMap<String, Object>();
 
@@ -59,25 +59,15 @@ class EventsApi {
 				localVarHeaderParams, localVarFormParams, null, null);
 	}
 
-	@SuppressWarnings("rawtypes")
-	private Call sendEventValidateBeforeCall(Event event) throws ApiException {
-		Call call = sendEventCall(event);
-		return call;
-	}
-
 	/**
-	 * Send event to BI
+	 * Send a batch of events to BI, blocking the calling thread.
 	 *
-	 * @param callback The callback to be executed when the API call finishes
-	 * @return The request call
-	 * @throws ApiException If fail to process the API call, e.g. serializing the request body object
+	 * @param events JSON array of serialized events
+	 * @param requestId A unique id for the request. A retransmitted request will have the same id
+	 * @throws ApiException If fail to call the API, e.g. server error
 	 */
-	public Call sendEventAsync(Event event, final ApiCallback<String> callback)
-		throws ApiException {
-		Call call = sendEventValidateBeforeCall(event);
-		Type localVarReturnType = new TypeToken<String>() {
-		}.getType();
-		apiClient.executeAsync(call, localVarReturnType, callback);
-		return call;
+	public void sendEvents(byte[] events, String requestId) throws ApiException {
+		Call call = sendEventsCall(events, requestId);
+		apiClient.execute(call, null, "EventsApi.sendEvents");
 	}
 }
@@ -0,0 +1,169 @@
+package com.kin.ecosystem.core.bi;
+
+import android.support.annotation.NonNull;
+import com.kin.ecosystem.core.Log;
+import com.kin.ecosystem.core.Logger;
+import com.kin.ecosystem.core.Tracer;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.ListIterator;
+
+/**
+ * Append-only, newline delimited file of serialized events waiting to be sent.
+ * The file is mirrored in memory, it is read once on load and rewritten only when events are removed.
+ * The oldest events are sent as a batch, which stays reserved until it is removed, so a retry sends the same events.
+ * When the queue is full the oldest events that are not in the batch are evicted.
+ */
+class EventsQueue {
+
+	private static final String TAG = EventsQueue.class.getSimpleName();
+	private static final Charset UTF_8 = Charset.forName("UTF-8");
+	private static final char NEW_LINE = '\n';
+
+	private final File file;
+	private final int maxSize;
+	private final int evictCount;
+	private final LinkedList<String> events = new LinkedList<>();
+
+	private boolean isLoaded;
+	// The number of events at the head of the queue that are in the batch, 0 if there is no batch.
+	private int batchSize;
+
+	EventsQueue(@NonNull File file, int maxSize) {
+		this.file = file;
+		this.maxSize = maxSize;
+		this.evictCount = Math.max(1, maxSize / 10);
+	}
+
+	synchronized void add(@NonNull String serializedEvent) {
+		loadIfNeeded();
+		if (events.size() >= maxSize) {
+			evictOldest();
+		}
+		events.addLast(serializedEvent);
+		append(serializedEvent);
+		Tracer.gauge("bi.queue", events.size());
+	}
+
+	/**
+	 * @return the batch to send, up to max of the oldest events. The same batch is returned until
+	 * {@link #removeBatch()} is called, and the events of the batch are never evicted.
+	 */
+	synchronized List<String> peekBatch(int max) {
+		loadIfNeeded();
+		if (batchSize == 0) {
+			batchSize = Math.min(max, events.size());
+		}
+		return new ArrayList<>(events.subList(0, batchSize));
+	}
+
+	/**
+	 * Remove the events of the batch returned by {@link #peekBatch(int)}, the next batch starts after them.
+	 */
+	synchronized void removeBatch() {
+		loadIfNeeded();
+		events.subList(0, batchSize).clear();
+		batchSize = 0;
+		rewrite();
+		Tracer.gauge("bi.queue", events.size());
+	}
+
+	synchronized int size() {
+		loadIfNeeded();
+		return events.size();
+	}
+
+	private void evictOldest() {
+		final ListIterator<String> iterator = events.listIterator(batchSize);
+		int evicted = 0;
+		while (evicted < evictCount && iterator.hasNext()) {
+			iterator.next();
+			iterator.remove();
+			evicted++;
+		}
+		if (evicted == 0) {
+			// Only the batch is left, the queue grows past its size until the batch is removed.
+			return;
+		}
+		rewrite();
+		Tracer.count("bi.queue.evicted", evicted);
+		Logger.log(Log.create(TAG).put("Queue is full, evicted events", evicted));
+	}
+
+	private void loadIfNeeded() {
+		if (isLoaded) {
+			return;
+		}
+		isLoaded = true;
+		if (!file.exists()) {
+			return;
+		}
+		BufferedReader reader = null;
+		try {
+			reader = new BufferedReader(new InputStreamReader(new FileInputStream(file), UTF_8));
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (line.length() > 0) {
+					events.addLast(line);
+				}
+			}
+			while (events.size() > maxSize) {
+				events.removeFirst();
+			}
+		} catch (IOException e) {
+			Logger.log(Log.create(TAG).priority(Log.ERROR).put("load failed", e.getMessage()));
+		} finally {
+			close(reader);
+		}
+	}
+
+	private void append(String serializedEvent) {
+		Writer writer = null;
+		try {
+			writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file, true), UTF_8));
+			writer.write(serializedEvent);
+			writer.write(NEW_LINE);
+		} catch (IOException e) {
+			Logger.log(Log.create(TAG).priority(Log.ERROR).put("append failed", e.getMessage()));
+		} finally {
+			close(writer);
+		}
+	}
+
+	private void rewrite() {
+		Writer writer = null;
+		try {
+			writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file, false), UTF_8));
+			for (String event : events) {
+				writer.write(event);
+				writer.write(NEW_LINE);
+			}
+		} catch (IOException e) {
+			Logger.log(Log.create(TAG).priority(Log.ERROR).put("rewrite failed", e.getMessage()));
+		} finally {
+			close(writer);
+		}
+	}
+
+	private static void close(Closeable closeable) {
+		if (closeable != null) {
+			try {
+				closeable.close();
+			} catch (IOException e) {
+				// Nothing to do
+			}
+		}
+	}
+}
@@ -1,25 +1,36 @@
 package com.kin.ecosystem.core.bi;
 
+import com.kin.ecosystem.core.bi.events.Client;
 import com.kin.ecosystem.core.bi.events.ClientProxy;
 import com.kin.ecosystem.core.bi.events.ClientReadonly;
 import com.kin.ecosystem.core.bi.events.CommonProxy;
 import com.kin.ecosystem.core.bi.events.CommonReadonly;
+import com.kin.ecosystem.core.bi.events.CommonTemplate;
+import com.kin.ecosystem.core.bi.events.User;
 import com.kin.ecosystem.core.bi.events.UserProxy;
 import com.kin.ecosystem.core.bi.events.UserReadonly;
-import java.util.concurrent.atomic.AtomicBoolean;
-
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * The common, user and client properties that every BI event is created with.
+ * Snapshots of the properties are built when they are updated or refreshed, so creating an event doesn't evaluate
+ * any {@link DynamicValue} except for the common event id and timestamp, which are different for every event.
+ * The user and client snapshots are shared by all the events that are created until the next update,
+ * and should not be modified.
+ * <p>
+ * The three snapshots are published together as one immutable {@link Snapshot}, readers never lock and always see
+ * fully built properties. Updates are serialized, since they modify the shared proxies.
+ */
 public final class EventsStore {
-    private static final Object userModifierMutex = new Object();
-    private static final Object commonModifierMutex = new Object();
-    private static final Object clientModifierMutex = new Object();
+    private static final Object writeLock = new Object();
 
+    // Modified only while holding the write lock.
     private static final UserProxy user = new UserProxy();
     private static final CommonProxy common = new CommonProxy();
     private static final ClientProxy client = new ClientProxy();
 
-    private static AtomicBoolean isUserBeingModified;
-    private static AtomicBoolean isCommonBeingModified;
-    private static AtomicBoolean isClientBeingModified;
+    private static final AtomicReference<Snapshot> snapshot = new AtomicReference<>(
+        new Snapshot(null, null, null, 0));
 
     public interface DynamicValue<T> {
         T get();
@@ -54,10 +65,6 @@ public final class EventsStore {
     }
 
     public static void init(UserModifier userModifier, CommonModifier commonModifier, ClientModifier clientModifier) {
-        isUserBeingModified = new AtomicBoolean(false);
-        isCommonBeingModified = new AtomicBoolean(false);
-        isClientBeingModified = new AtomicBoolean(false);
-
         if (userModifier != null) {
             update(userModifier);
         }
@@ -72,56 +79,79 @@ public final class EventsStore {
     }
 
     public static UserReadonly user() {
-        if (isUserBeingModified.get()) {
-            synchronized (userModifierMutex) {
-                return user.snapshot();
-            }
-        }
-
-        return user.snapshot();
+        return snapshot.get().user;
     }
 
     public static CommonReadonly common() {
-        if (isCommonBeingModified.get()) {
-            synchronized (commonModifierMutex) {
-                return common.snapshot();
-            }
-        }
-
-        return common.snapshot();
+        return snapshot.get().common.create();
     }
 
     public static ClientReadonly client() {
-        if (isClientBeingModified.get()) {
-            synchronized (commonModifierMutex) {
-                return client.snapshot();
-            }
-        }
+        return snapshot.get().client;
+    }
 
-        return client.snapshot();
+    /**
+     * @return the version of the snapshots, it changes whenever one of them is rebuilt.
+     */
+    public static long version() {
+        return snapshot.get().version;
     }
 
     public static void update(UserModifier modifier) {
-        synchronized (userModifierMutex) {
-            isUserBeingModified.set(true);
+        synchronized (writeLock) {
             modifier.modify(user);
-            isUserBeingModified.set(false);
+            final Snapshot current = snapshot.get();
+            publish(user.snapshot(), current.common, current.client);
         }
     }
 
     public static void update(CommonModifier modifier) {
-        synchronized (userModifierMutex) {
-            isUserBeingModified.set(true);
+        synchronized (writeLock) {
             modifier.modify(common);
-            isUserBeingModified.set(false);
+            final Snapshot current = snapshot.get();
+            publish(current.user, common.template(), current.client);
         }
     }
 
     public static void update(ClientModifier modifier) {
-        synchronized (clientModifierMutex) {
-            isClientBeingModified.set(true);
+        synchronized (writeLock) {
             modifier.modify(client);
-            isClientBeingModified.set(false);
+            final Snapshot current = snapshot.get();
+            publish(current.user, current.common, client.snapshot());
+        }
+    }
+
+    /**
+     * Evaluate the {@link DynamicValue}s again, should be called when a value they return has changed.
+     * Snapshots that were never updated are left empty.
+     */
+    public static void refresh() {
+        synchronized (writeLock) {
+            final Snapshot current = snapshot.get();
+            publish(current.user != null ? user.snapshot() : null,
+                current.common != null ? common.template() : null,
+                current.client != null ? client.snapshot() : null);
+        }
+    }
+
+    // Called while holding the write lock, so the version is never published twice.
+    private static void publish(User user, CommonTemplate common, Client client) {
+        snapshot.set(new Snapshot(user, common, client, snapshot.get().version + 1));
+    }
+
+    private static final class Snapshot {
+
+        // Null until the first update.
+        private final User user;
+        private final CommonTemplate common;
+        private final Client client;
+        private final long version;
+
+        Snapshot(User user, CommonTemplate common, Client client, long version) {
+            this.user = user;
+            this.common = common;
+            this.client = client;
+            this.version = version;
         }
     }
 }
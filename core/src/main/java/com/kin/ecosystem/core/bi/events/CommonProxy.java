@@ -12,6 +12,16 @@ public class CommonProxy implements CommonInterface {
             this.getTimestamp());
     }
 
+    public CommonTemplate template() {
+        return new CommonTemplate(
+            this.eventId,
+            this.dynamicEventId,
+            this.getVersion(),
+            this.getUserId(),
+            this.timestamp,
+            this.dynamicTimestamp);
+    }
+
     private UUID eventId;
     private DynamicValue<UUID> dynamicEventId;
     public UUID getEventId() {
@@ -0,0 +1,36 @@
+package com.kin.ecosystem.core.bi.events;
+
+import java.util.UUID;
+import com.kin.ecosystem.core.bi.EventsStore.DynamicValue;
+
+/**
+ * The common properties with everything but the event id and the timestamp already evaluated,
+ * those two are evaluated for every created {@link Common}.
+ */
+public final class CommonTemplate {
+
+    private final UUID eventId;
+    private final DynamicValue<UUID> dynamicEventId;
+    private final String version;
+    private final String userId;
+    private final Long timestamp;
+    private final DynamicValue<Long> dynamicTimestamp;
+
+    CommonTemplate(UUID eventId, DynamicValue<UUID> dynamicEventId, String version, String userId,
+        Long timestamp, DynamicValue<Long> dynamicTimestamp) {
+        this.eventId = eventId;
+        this.dynamicEventId = dynamicEventId;
+        this.version = version;
+        this.userId = userId;
+        this.timestamp = timestamp;
+        this.dynamicTimestamp = dynamicTimestamp;
+    }
+
+    public Common create() {
+        return new Common(
+            this.eventId != null ? this.eventId : this.dynamicEventId.get(),
+            this.version,
+            this.userId,
+            this.timestamp != null ? this.timestamp : this.dynamicTimestamp.get());
+    }
+}
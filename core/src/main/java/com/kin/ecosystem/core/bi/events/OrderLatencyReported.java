@@ -0,0 +1,456 @@
+package com.kin.ecosystem.core.bi.events;
+
+// Augmented by script
+
+import com.google.gson.annotations.Expose;
+import com.google.gson.annotations.SerializedName;
+import com.kin.ecosystem.core.bi.Event;
+import com.kin.ecosystem.core.bi.EventsStore;
+
+
+/**
+ * How long each phase of an order took, in millis, phases the order didn't reach are null
+ * 
+ */
+public class OrderLatencyReported implements Event {
+    public static final String EVENT_NAME = "order_latency_reported";
+    public static final String EVENT_TYPE = "log";
+
+    // Augmented by script
+    public static OrderLatencyReported create(String offerId, String orderId, String offerType, String origin,
+        String outcome, Long createMs, Long submitMs, Long blockchainMs, Long confirmMs, Long totalMs) {
+        return new OrderLatencyReported(
+            (Common) EventsStore.common(),
+            (User) EventsStore.user(),
+            (Client) EventsStore.client(),
+            offerId,
+            orderId,
+            offerType,
+            origin,
+            outcome,
+            createMs,
+            submitMs,
+            blockchainMs,
+            confirmMs,
+            totalMs);
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @SerializedName("event_name")
+    @Expose
+    private String eventName = EVENT_NAME;
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @SerializedName("event_type")
+    @Expose
+    private String eventType = EVENT_TYPE;
+    /**
+     * common properties for all events
+     * (Required)
+     * 
+     */
+    @SerializedName("common")
+    @Expose
+    private Common common;
+    /**
+     * common user properties
+     * (Required)
+     * 
+     */
+    @SerializedName("user")
+    @Expose
+    private User user;
+    /**
+     * common properties for all client events
+     * (Required)
+     * 
+     */
+    @SerializedName("client")
+    @Expose
+    private Client client;
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @SerializedName("offer_id")
+    @Expose
+    private String offerId;
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @SerializedName("order_id")
+    @Expose
+    private String orderId;
+    /**
+     * spend or earn
+     * (Required)
+     * 
+     */
+    @SerializedName("offer_type")
+    @Expose
+    private String offerType;
+    /**
+     * marketplace or external
+     * (Required)
+     * 
+     */
+    @SerializedName("origin")
+    @Expose
+    private String origin;
+    /**
+     * the order status, or why it failed
+     * (Required)
+     * 
+     */
+    @SerializedName("outcome")
+    @Expose
+    private String outcome;
+    /**
+     * creating the order on the server
+     * 
+     */
+    @SerializedName("create_ms")
+    @Expose
+    private Long createMs;
+    /**
+     * submitting the order to the server
+     * 
+     */
+    @SerializedName("submit_ms")
+    @Expose
+    private Long submitMs;
+    /**
+     * from the transaction, or the earn submit, until the payment was seen on the blockchain
+     * 
+     */
+    @SerializedName("blockchain_ms")
+    @Expose
+    private Long blockchainMs;
+    /**
+     * from the payment until the server completed the order
+     * 
+     */
+    @SerializedName("confirm_ms")
+    @Expose
+    private Long confirmMs;
+    /**
+     * from creating the order until it finished
+     * 
+     */
+    @SerializedName("total_ms")
+    @Expose
+    private Long totalMs;
+
+    /**
+     * No args constructor for use in serialization
+     * 
+     */
+    public OrderLatencyReported() {
+    }
+
+    /**
+     * 
+     * @param common
+     * @param user
+     * @param client
+     * @param offerId
+     * @param orderId
+     * @param offerType
+     * @param origin
+     * @param outcome
+     * @param createMs
+     * @param submitMs
+     * @param blockchainMs
+     * @param confirmMs
+     * @param totalMs
+     */
+    public OrderLatencyReported(Common common, User user, Client client, String offerId, String orderId,
+        String offerType, String origin, String outcome, Long createMs, Long submitMs, Long blockchainMs,
+        Long confirmMs, Long totalMs) {
+        super();
+        this.common = common;
+        this.user = user;
+        this.client = client;
+        this.offerId = offerId;
+        this.orderId = orderId;
+        this.offerType = offerType;
+        this.origin = origin;
+        this.outcome = outcome;
+        this.createMs = createMs;
+        this.submitMs = submitMs;
+        this.blockchainMs = blockchainMs;
+        this.confirmMs = confirmMs;
+        this.totalMs = totalMs;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    public String getEventName() {
+        return eventName;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    public void setEventName(String eventName) {
+        this.eventName = eventName;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    public String getEventType() {
+        return eventType;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    public void setEventType(String eventType) {
+        this.eventType = eventType;
+    }
+
+    /**
+     * common properties for all events
+     * (Required)
+     * 
+     */
+    public Common getCommon() {
+        return common;
+    }
+
+    /**
+     * common properties for all events
+     * (Required)
+     * 
+     */
+    public void setCommon(Common common) {
+        this.common = common;
+    }
+
+    /**
+     * common user properties
+     * (Required)
+     * 
+     */
+    public User getUser() {
+        return user;
+    }
+
+    /**
+     * common user properties
+     * (Required)
+     * 
+     */
+    public void setUser(User user) {
+        this.user = user;
+    }
+
+    /**
+     * common properties for all client events
+     * (Required)
+     * 
+     */
+    public Client getClient() {
+        return client;
+    }
+
+    /**
+     * common properties for all client events
+     * (Required)
+     * 
+     */
+    public void setClient(Client client) {
+        this.client = client;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    public String getOfferId() {
+        return offerId;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    public void setOfferId(String offerId) {
+        this.offerId = offerId;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    public String getOrderId() {
+        return orderId;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    public void setOrderId(String orderId) {
+        this.orderId = orderId;
+    }
+
+    /**
+     * spend or earn
+     * (Required)
+     * 
+     */
+    public String getOfferType() {
+        return offerType;
+    }
+
+    /**
+     * spend or earn
+     * (Required)
+     * 
+     */
+    public void setOfferType(String offerType) {
+        this.offerType = offerType;
+    }
+
+    /**
+     * marketplace or external
+     * (Required)
+     * 
+     */
+    public String getOrigin() {
+        return origin;
+    }
+
+    /**
+     * marketplace or external
+     * (Required)
+     * 
+     */
+    public void setOrigin(String origin) {
+        this.origin = origin;
+    }
+
+    /**
+     * the order status, or why it failed
+     * (Required)
+     * 
+     */
+    public String getOutcome() {
+        return outcome;
+    }
+
+    /**
+     * the order status, or why it failed
+     * (Required)
+     * 
+     */
+    public void setOutcome(String outcome) {
+        this.outcome = outcome;
+    }
+
+    /**
+     * creating the order on the server
+     * 
+     */
+    public Long getCreateMs() {
+        return createMs;
+    }
+
+    /**
+     * creating the order on the server
+     * 
+     */
+    public void setCreateMs(Long createMs) {
+        this.createMs = createMs;
+    }
+
+    /**
+     * submitting the order to the server
+     * 
+     */
+    public Long getSubmitMs() {
+        return submitMs;
+    }
+
+    /**
+     * submitting the order to the server
+     * 
+     */
+    public void setSubmitMs(Long submitMs) {
+        this.submitMs = submitMs;
+    }
+
+    /**
+     * from the transaction, or the earn submit, until the payment was seen on the blockchain
+     * 
+     */
+    public Long getBlockchainMs() {
+        return blockchainMs;
+    }
+
+    /**
+     * from the transaction, or the earn submit, until the payment was seen on the blockchain
+     * 
+     */
+    public void setBlockchainMs(Long blockchainMs) {
+        this.blockchainMs = blockchainMs;
+    }
+
+    /**
+     * from the payment until the server completed the order
+     * 
+     */
+    public Long getConfirmMs() {
+        return confirmMs;
+    }
+
+    /**
+     * from the payment until the server completed the order
+     * 
+     */
+    public void setConfirmMs(Long confirmMs) {
+        this.confirmMs = confirmMs;
+    }
+
+    /**
+     * from creating the order until it finished
+     * 
+     */
+    public Long getTotalMs() {
+        return totalMs;
+    }
+
+    /**
+     * from creating the order until it finished
+     * 
+     */
+    public void setTotalMs(Long totalMs) {
+        this.totalMs = totalMs;
+    }
+
+}
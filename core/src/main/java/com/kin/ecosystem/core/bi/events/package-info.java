@@ -0,0 +1,7 @@
+/**
+ * BI events, serialized with the generated {@link com.kin.ecosystem.core.bi.events.EventTypeAdapterFactory}.
+ */
+@GenerateTypeAdapters("EventTypeAdapterFactory")
+package com.kin.ecosystem.core.bi.events;
+
+import com.kin.ecosystem.json.GenerateTypeAdapters;
@@ -27,6 +27,14 @@ public interface AuthDataSource {
 
 	AuthToken getAuthTokenSync();
 
+	/**
+	 * Called when the server rejected a token, signs in again unless the token was already refreshed.
+	 *
+	 * @param rejectedToken the token the server rejected.
+	 * @return a token to retry with, null if a new token could not be generated.
+	 */
+	AuthToken refreshAuthTokenSync(@Nullable final String rejectedToken);
+
 	boolean isActivated();
 
 	void activateAccount(@NonNull final KinCallback<Void> callback);
@@ -6,24 +6,32 @@ import android.text.TextUtils;
 import com.kin.ecosystem.common.KinCallback;
 import com.kin.ecosystem.common.ObservableData;
 import com.kin.ecosystem.common.Callback;
+import com.kin.ecosystem.core.bi.EventsStore;
 import com.kin.ecosystem.core.network.ApiException;
 import com.kin.ecosystem.core.util.DateUtil;
 import com.kin.ecosystem.core.util.ErrorUtil;
-import java.util.Calendar;
-import java.util.Date;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import com.kin.ecosystem.core.network.model.AuthToken;
 import com.kin.ecosystem.core.network.model.SignInData;
 
 public class AuthRepository implements AuthDataSource {
 
+	// A token that expires within this window is refreshed in the background, while it is still used.
+	private static final long REFRESH_AHEAD_MILLIS = TimeUnit.MINUTES.toMillis(5);
+	// Longer than a sign in request can take with the ApiClient timeouts, so a waiter gives up only on a stuck refresh.
+	private static final long REFRESH_WAIT_MILLIS = TimeUnit.MINUTES.toMillis(1);
 
 	private static AuthRepository instance = null;
 
 	private final AuthDataSource.Local localData;
 	private final AuthDataSource.Remote remoteData;
 
-	private SignInData cachedSignInData;
-	private AuthToken cachedAuthToken;
+	private volatile SignInData cachedSignInData;
+	private volatile AuthToken cachedAuthToken;
+	// The refresh in flight, shared by every request that needs a new token, null if there is none.
+	private final AtomicReference<TokenRefresh> inFlightRefresh = new AtomicReference<>();
 	private ObservableData<String> appId = ObservableData.create(null);
 
 	private AuthRepository(@NonNull AuthDataSource.Local local,
@@ -53,6 +61,7 @@ public class AuthRepository implements AuthDataSource {
 		localData.setSignInData(signInData);
 		remoteData.setSignInData(signInData);
 		postAppID(signInData.getAppId());
+		EventsStore.refresh();
 	}
 
 	@Override
@@ -63,17 +72,22 @@ public class AuthRepository implements AuthDataSource {
 
 	@Override
 	public String getDeviceID() {
-		return localData.getDeviceID();
+		final SignInData signInData = cachedSignInData;
+		return signInData != null && signInData.getDeviceId() != null ? signInData.getDeviceId()
+			: localData.getDeviceID();
 	}
 
 	@Override
 	public String getUserID() {
-		return localData.getUserID();
+		final AuthToken authToken = cachedAuthToken;
+		return authToken != null && authToken.getUserID() != null ? authToken.getUserID() : localData.getUserID();
 	}
 
 	@Override
 	public String getEcosystemUserID() {
-		return localData.getEcosystemUserID();
+		final AuthToken authToken = cachedAuthToken;
+		return authToken != null && authToken.getEcosystemUserID() != null ? authToken.getEcosystemUserID()
+			: localData.getEcosystemUserID();
 	}
 
 	private void loadCachedAppIDIfNeeded() {
@@ -94,21 +108,37 @@ public class AuthRepository implements AuthDataSource {
 
 	@Override
 	public AuthToken getAuthTokenSync() {
-		if (cachedAuthToken != null) {
-			return cachedAuthToken;
-		} else {
-			if (cachedSignInData != null) {
-				AuthToken authToken = localData.getAuthTokenSync();
-				if (authToken != null && !isAuthTokenExpired(authToken)) {
-					setAuthToken(authToken);
-				} else {
-					refreshTokenSync();
-				}
-				return cachedAuthToken;
+		AuthToken authToken = cachedAuthToken;
+		if (cachedSignInData == null) {
+			// Can't sign in again.
+			return authToken;
+		}
+		if (authToken == null) {
+			authToken = localData.getAuthTokenSync();
+			if (authToken != null && !isAuthTokenExpired(authToken)) {
+				setAuthToken(authToken);
 			} else {
-				return null;
+				return refreshTokenSync();
 			}
 		}
+
+		if (isAuthTokenExpired(authToken)) {
+			return refreshTokenSync();
+		}
+		if (isAuthTokenExpired(authToken, REFRESH_AHEAD_MILLIS)) {
+			refreshTokenAsync();
+		}
+		return authToken;
+	}
+
+	@Override
+	public AuthToken refreshAuthTokenSync(@Nullable String rejectedToken) {
+		final AuthToken authToken = cachedAuthToken;
+		if (authToken != null && authToken.getToken() != null && !authToken.getToken().equals(rejectedToken)) {
+			// Already refreshed after the rejected request was sent.
+			return authToken;
+		}
+		return cachedSignInData != null ? refreshTokenSync() : null;
 	}
 
 	@Override
@@ -134,23 +164,71 @@ public class AuthRepository implements AuthDataSource {
 	}
 
 	private boolean isAuthTokenExpired(AuthToken authToken) {
+		return isAuthTokenExpired(authToken, 0);
+	}
+
+	/**
+	 * @return true if the token is expired or expires within the given millis.
+	 */
+	private boolean isAuthTokenExpired(AuthToken authToken, long withinMillis) {
 		if (authToken == null) {
 			return true;
 		} else {
-			Date expirationDate = DateUtil.getDateFromUTCString(authToken.getExpirationDate());
-			if (expirationDate != null) {
-				return Calendar.getInstance().getTimeInMillis() > expirationDate.getTime();
-			} else {
-				return true;
+			final long expirationTime = authToken.getExpirationTime();
+			return expirationTime == DateUtil.INVALID_TIME
+				|| System.currentTimeMillis() + withinMillis > expirationTime;
+		}
+	}
+
+	/**
+	 * Sign in again, or wait for the refresh that is already in flight and share its token.
+	 *
+	 * @return the new token, null if the refresh failed or a shared refresh didn't finish in time.
+	 */
+	private AuthToken refreshTokenSync() {
+		while (true) {
+			final TokenRefresh current = inFlightRefresh.get();
+			if (current != null) {
+				return current.await();
+			}
+			final TokenRefresh refresh = new TokenRefresh();
+			if (inFlightRefresh.compareAndSet(null, refresh)) {
+				AuthToken authToken = null;
+				try {
+					authToken = remoteData.getAuthTokenSync();
+				} finally {
+					finishRefresh(refresh, authToken);
+				}
+				return authToken;
 			}
 		}
 	}
 
-	private void refreshTokenSync() {
-		AuthToken authToken = remoteData.getAuthTokenSync();
+	private void refreshTokenAsync() {
+		final TokenRefresh refresh = new TokenRefresh();
+		if (!inFlightRefresh.compareAndSet(null, refresh)) {
+			return;
+		}
+		remoteData.getAuthToken(new Callback<AuthToken, ApiException>() {
+			@Override
+			public void onResponse(AuthToken authToken) {
+				finishRefresh(refresh, authToken);
+			}
+
+			@Override
+			public void onFailure(ApiException e) {
+				finishRefresh(refresh, null);
+			}
+		});
+	}
+
+	private void finishRefresh(TokenRefresh refresh, @Nullable AuthToken authToken) {
 		if (authToken != null) {
+			// Before the refresh is cleared, so a request that missed the refresh sees the new token.
 			setAuthToken(authToken);
 		}
+		inFlightRefresh.compareAndSet(refresh, null);
+		refresh.finish(authToken);
 	}
 
 	@Override
@@ -158,6 +236,8 @@ public class AuthRepository implements AuthDataSource {
 		cachedAuthToken = authToken;
 		localData.setAuthToken(authToken);
 		postAppID(authToken.getAppID());
+		// The BI user properties are read from the token.
+		EventsStore.refresh();
 	}
 
 	@Override
@@ -183,4 +263,31 @@ public class AuthRepository implements AuthDataSource {
 	private void postAppID(@Nullable String appID) {
 		appId.postValue(appID);
 	}
+
+	private static class TokenRefresh {
+
+		private final CountDownLatch done = new CountDownLatch(1);
+		private volatile AuthToken authToken;
+
+		void finish(@Nullable AuthToken authToken) {
+			this.authToken = authToken;
+			done.countDown();
+		}
+
+		/**
+		 * @return the new token, null if the refresh failed or didn't finish within {@link #REFRESH_WAIT_MILLIS}.
+		 */
+		@Nullable
+		AuthToken await() {
+			try {
+				if (!done.await(REFRESH_WAIT_MILLIS, TimeUnit.MILLISECONDS)) {
+					return null;
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return null;
+			}
+			return authToken;
+		}
+	}
 }
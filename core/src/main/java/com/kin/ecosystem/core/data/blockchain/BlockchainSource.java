@@ -6,6 +6,7 @@ import com.kin.ecosystem.common.KinCallback;
 import com.kin.ecosystem.common.Observer;
 import com.kin.ecosystem.common.model.Balance;
 import java.math.BigDecimal;
+import kin.core.EventListener;
 import kin.core.KinAccount;
 
 public interface BlockchainSource {
@@ -31,10 +32,15 @@ public interface BlockchainSource {
     void sendTransaction(@NonNull String publicAddress, @NonNull BigDecimal amount, @NonNull String orderID, @NonNull String offerID);
 
     /**
-     * @return the cached balance.
+     * @return the cached balance, it is shared and should not be modified.
      */
     Balance getBalance();
 
+    /**
+     * @return the cached balance amount as a double, it is kept boxed so reading it doesn't allocate.
+     */
+    Double getCachedBalanceValue();
+
     /**
      * Get balance from network
      * @param callback
@@ -82,10 +88,24 @@ public interface BlockchainSource {
      */
     void removePaymentObserver(Observer<Payment> observer);
 
+    /**
+     * Add a listener that is called once the account is created on the blockchain,
+     * it shares the account events stream with the balance and payment observers.
+     * @param listener
+     */
+    void addAccountCreationListener(@NonNull EventListener<Void> listener);
+
+    /**
+     * Remove the account creation listener, if it wasn't called yet.
+     * @param listener
+     */
+    void removeAccountCreationListener(@NonNull EventListener<Void> listener);
+
     interface Local {
 
-        int getBalance();
+        @NonNull
+        BigDecimal getBalance();
 
-        void setBalance(int balance);
+        void setBalance(@NonNull BigDecimal balance);
     }
 }
@@ -1,6 +1,5 @@
 package com.kin.ecosystem.core.data.blockchain;
 
-import android.annotation.SuppressLint;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 import android.support.annotation.VisibleForTesting;
@@ -14,20 +13,22 @@ import com.kin.ecosystem.common.ObservableData;
 import com.kin.ecosystem.common.Observer;
 import com.kin.ecosystem.common.KinCallbackAdapter;
 import com.kin.ecosystem.core.bi.EventLogger;
+import com.kin.ecosystem.core.bi.EventsStore;
 import com.kin.ecosystem.core.bi.events.SpendTransactionBroadcastToBlockchainFailed;
 import com.kin.ecosystem.core.bi.events.SpendTransactionBroadcastToBlockchainSubmitted;
 import com.kin.ecosystem.core.bi.events.SpendTransactionBroadcastToBlockchainSucceeded;
 import com.kin.ecosystem.common.model.Balance;
 import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicReference;
 import kin.core.EventListener;
 import kin.core.KinAccount;
 import kin.core.KinClient;
-import kin.core.ListenerRegistration;
 import kin.core.PaymentInfo;
 import kin.core.ResultCallback;
 import kin.core.TransactionId;
 import kin.core.exception.CreateAccountException;
 import com.kin.ecosystem.core.util.ErrorUtil;
+import com.kin.ecosystem.core.util.ExecutorsUtil;
 import com.kin.ecosystem.core.util.ExecutorsUtil.MainThreadExecutor;
 
 public class BlockchainSourceImpl implements BlockchainSource {
@@ -41,47 +42,48 @@ public class BlockchainSourceImpl implements BlockchainSource {
 
 	private final KinClient kinClient;
 	private KinAccount account;
-	private ObservableData<Balance> balance = ObservableData.create(new Balance());
+	private final ObservableData<Balance> balance;
+	// The latest balance, replaced as a whole on every change so it is always read consistently.
+	private final AtomicReference<BalanceSnapshot> cachedBalance;
+	private final Object balanceChangedLock = new Object();
 	/**
 	 * Listen for {@code completedPayment} in order to be notify about completed transaction sent to
 	 * the blockchain, it could failed or succeed.
 	 */
 	private ObservableData<Payment> completedPayment = ObservableData.create();
-	private final Object paymentObserversLock = new Object();
-	private final Object balanceObserversLock = new Object();
-	private int paymentObserversCount;
-	private int balanceObserversCount;
-
-	private ListenerRegistration paymentRegistration;
-	private ListenerRegistration balanceRegistration;
+	private final BlockchainSubscriptionManager subscriptionManager;
+	// Added to the subscription manager once for every balance and payment observer that listens.
+	private final EventListener<PaymentInfo> paymentListener = new EventListener<PaymentInfo>() {
+		@Override
+		public void onEvent(PaymentInfo data) {
+			onPayment(data);
+		}
+	};
 
 	private final MainThreadExecutor mainThread = new MainThreadExecutor();
 
-	private String appID;
-	private static final int MEMO_FORMAT_VERSION = 1;
-	private static final String MEMO_DELIMITER = "-";
-	private static final String MEMO_FORMAT =
-		"%d" + MEMO_DELIMITER + "%s" + MEMO_DELIMITER + "%s"; // version-appID-orderID
+	private volatile String appID;
 
-	private static final int APP_ID_INDEX = 1;
-	private static final int ORDER_ID_INDEX = 2;
-	private static final int MEMO_SPLIT_LENGTH = 3;
-
-	private BlockchainSourceImpl(@NonNull EventLogger eventLogger, @NonNull final KinClient kinClient, @NonNull BlockchainSource.Local local)
+	private BlockchainSourceImpl(@NonNull EventLogger eventLogger, @NonNull final KinClient kinClient,
+		@NonNull BlockchainSource.Local local, @NonNull ExecutorsUtil executorsUtil)
 		throws BlockchainException {
 		this.eventLogger = eventLogger;
 		this.kinClient = kinClient;
 		this.local = local;
+		this.cachedBalance = new AtomicReference<>(new BalanceSnapshot(local.getBalance()));
+		this.balance = ObservableData.create(new Balance(cachedBalance.get().amount));
 		createKinAccountIfNeeded();
+		this.subscriptionManager = new BlockchainSubscriptionManager(account, executorsUtil.scheduled());
 		initBalance();
 	}
 
-	public static void init(@NonNull EventLogger eventLogger, @NonNull final KinClient kinClient, @NonNull BlockchainSource.Local local)
+	public static void init(@NonNull EventLogger eventLogger, @NonNull final KinClient kinClient,
+		@NonNull BlockchainSource.Local local, @NonNull ExecutorsUtil executorsUtil)
 		throws BlockchainException {
 		if (instance == null) {
 			synchronized (BlockchainSourceImpl.class) {
 				if (instance == null) {
-					instance = new BlockchainSourceImpl(eventLogger, kinClient, local);
+					instance = new BlockchainSourceImpl(eventLogger, kinClient, local, executorsUtil);
 				}
 			}
 		}
@@ -126,7 +128,7 @@ public class BlockchainSourceImpl implements BlockchainSource {
 				public void onResult(TransactionId result) {
 					eventLogger
 						.send(SpendTransactionBroadcastToBlockchainSucceeded.create(result.id(), offerID, orderID));
-					Logger.log(new Log().withTag(TAG).put("sendTransaction onResult", result.id()));
+					Logger.log(Log.create(TAG).put("sendTransaction onResult", result.id()));
 				}
 
 				@Override
@@ -134,29 +136,33 @@ public class BlockchainSourceImpl implements BlockchainSource {
 					eventLogger
 						.send(SpendTransactionBroadcastToBlockchainFailed.create(e.getMessage(), offerID, orderID));
 					completedPayment.postValue(new Payment(orderID, false, e));
-					Logger.log(new Log().withTag(TAG).put("sendTransaction onError", e.getMessage()));
+					Logger.log(Log.create(TAG).put("sendTransaction onError", e.getMessage()));
 				}
 			});
 	}
 
-	@SuppressLint("DefaultLocale")
 	@VisibleForTesting
 	String generateMemo(@NonNull final String orderID) {
-		return String.format(MEMO_FORMAT, MEMO_FORMAT_VERSION, appID, orderID);
+		return MemoCodec.encode(appID, orderID);
 	}
 
 
 	private void initBalance() {
-		balance.postValue(getBalance());
 		getBalance(new KinCallbackAdapter<Balance>() {
 		});
 	}
 
+	/**
+	 * @return a copy of the cached balance, {@link Balance} is mutable and is also returned to the host app.
+	 */
 	@Override
 	public Balance getBalance() {
-		Balance balance = new Balance();
-		balance.setAmount(new BigDecimal(local.getBalance()));
-		return balance;
+		return new Balance(cachedBalance.get().amount);
+	}
+
+	@Override
+	public Double getCachedBalanceValue() {
+		return cachedBalance.get().value;
 	}
 
 	@Override
@@ -168,10 +174,12 @@ public class BlockchainSourceImpl implements BlockchainSource {
 				mainThread.execute(new Runnable() {
 					@Override
 					public void run() {
-						callback.onResponse(balance.getValue());
+						callback.onResponse(getBalance());
 					}
 				});
-				Logger.log(new Log().withTag(TAG).put("getBalance onResult", balanceObj.value().intValue()));
+				if (Logger.isEnabled()) {
+					Logger.log(Log.create(TAG).put("getBalance onResult", balanceObj.value().intValue()));
+				}
 			}
 
 			@Override
@@ -182,21 +190,45 @@ public class BlockchainSourceImpl implements BlockchainSource {
 						callback.onFailure(ErrorUtil.getBlockchainException(e));
 					}
 				});
-				Logger.log(new Log().withTag(TAG).priority(Log.ERROR).put("getBalance onError", e));
+				Logger.log(Log.create(TAG).priority(Log.ERROR).put("getBalance onError", e));
 			}
 		});
 	}
 
 	@VisibleForTesting
 	void setBalance(final kin.core.Balance balanceObj) {
-		Balance balanceTemp = balance.getValue();
-		// if the values are not equals so we need to update,
-		// no need to update for equal values.
-		if (balanceTemp.getAmount().compareTo(balanceObj.value()) != 0) {
-			Logger.log(new Log().withTag(TAG).text("setBalance: Balance changed, should get update"));
-			balanceTemp.setAmount(balanceObj.value());
-			balance.postValue(balanceTemp);
-			local.setBalance(balanceObj.value().intValue());
+		updateBalance(balanceObj.value());
+	}
+
+	/**
+	 * @return the balance before the update.
+	 */
+	private BalanceSnapshot updateBalance(@NonNull final BigDecimal amount) {
+		while (true) {
+			final BalanceSnapshot current = cachedBalance.get();
+			// No need to update for equal values.
+			if (current.amount.compareTo(amount) == 0) {
+				return current;
+			}
+			final BalanceSnapshot updated = new BalanceSnapshot(amount);
+			if (cachedBalance.compareAndSet(current, updated)) {
+				Logger.log(Log.create(TAG).text("setBalance: Balance changed, should get update"));
+				onBalanceChanged();
+				return current;
+			}
+		}
+	}
+
+	/**
+	 * Concurrent updates can finish their compare and set in one order and get here in the other,
+	 * so the latest balance is posted and saved, one update at a time.
+	 */
+	private void onBalanceChanged() {
+		synchronized (balanceChangedLock) {
+			final BalanceSnapshot latest = cachedBalance.get();
+			EventsStore.refresh();
+			balance.postLatestValue(new Balance(latest.amount));
+			local.setBalance(latest.amount);
 		}
 	}
 
@@ -209,56 +241,20 @@ public class BlockchainSourceImpl implements BlockchainSource {
 	@Override
 	public void addBalanceObserverAndStartListen(@NonNull Observer<Balance> observer) {
 		addBalanceObserver(observer);
-		Logger.log(new Log().withTag(TAG).put("addBalanceObserverAndStartListen count", balanceObserversCount));
-		incrementBalanceCount();
-	}
-
-	private void incrementBalanceCount() {
-		synchronized (balanceObserversLock) {
-			if (balanceObserversCount == 0) {
-				startBalanceListener();
-			}
-			balanceObserversCount++;
-		}
-	}
-
-	private void startBalanceListener() {
-		Logger.log(new Log().withTag(TAG).text("startBalanceListener"));
-		balanceRegistration = account.blockchainEvents()
-			.addBalanceListener(new EventListener<kin.core.Balance>() {
-				@Override
-				public void onEvent(kin.core.Balance data) {
-					final double prevBalance = balance.getValue().getAmount().doubleValue();
-					setBalance(data);
-					eventLogger.send(KinBalanceUpdated.create(prevBalance));
-				}
-			});
+		Logger.log(Log.create(TAG).text("addBalanceObserverAndStartListen"));
+		subscriptionManager.addPaymentListener(paymentListener);
 	}
 
 	@Override
 	public void removeBalanceObserver(@NonNull Observer<Balance> observer) {
-		Logger.log(new Log().withTag(TAG).text("removeBalanceObserver"));
+		Logger.log(Log.create(TAG).text("removeBalanceObserver"));
 		balance.removeObserver(observer);
 	}
 
 
 	public void removeBalanceObserverAndStopListen(@NonNull Observer<Balance> observer) {
 		removeBalanceObserver(observer);
-		decrementBalanceCount();
-	}
-
-	private void decrementBalanceCount() {
-		synchronized (balanceObserversLock) {
-			if (balanceObserversCount > 0) {
-				balanceObserversCount--;
-			}
-
-			if (balanceObserversCount == 0) {
-				removeRegistration(balanceRegistration);
-				Logger.log(new Log().withTag(TAG).text("decrementBalanceCount: removeRegistration"));
-			}
-		}
-		Logger.log(new Log().withTag(TAG).put("decrementBalanceCount: count", balanceObserversCount));
+		subscriptionManager.removePaymentListener(paymentListener);
 	}
 
 
@@ -273,76 +269,59 @@ public class BlockchainSourceImpl implements BlockchainSource {
 	@Override
 	public void addPaymentObservable(Observer<Payment> observer) {
 		completedPayment.addObserver(observer);
-		incrementPaymentCount();
-	}
-
-	private void incrementPaymentCount() {
-		synchronized (paymentObserversLock) {
-			if (paymentObserversCount == 0) {
-				startPaymentListener();
-			}
-			paymentObserversCount++;
-		}
-	}
-
-	private void startPaymentListener() {
-		paymentRegistration = account.blockchainEvents()
-			.addPaymentListener(new EventListener<PaymentInfo>() {
-				@Override
-				public void onEvent(PaymentInfo data) {
-					String orderID = extractOrderId(data.memo());
-					Logger.log(new Log().withTag(TAG).put("startPaymentListener onEvent: the orderId", orderID)
-						.put("with memo", data.memo()));
-					if (orderID != null) {
-						completedPayment.postValue(new Payment(orderID, data.hash().id(), data.amount()));
-						Logger.log(new Log().withTag(TAG).put("completedPayment order id", orderID));
-					}
-					// UpdateBalance if there is no balance sse open connection.
-					if (balanceObserversCount == 0) {
-						final double prevBalance = balance.getValue().getAmount().doubleValue();
-						getBalance(new KinCallbackAdapter<Balance>() {
-							@Override
-							public void onResponse(Balance response) {
-								eventLogger.send(KinBalanceUpdated.create(prevBalance));
-							}
-						});
-					}
-				}
-			});
+		subscriptionManager.addPaymentListener(paymentListener);
 	}
 
 	@Override
 	public void removePaymentObserver(Observer<Payment> observer) {
 		completedPayment.removeObserver(observer);
-		decrementPaymentCount();
+		subscriptionManager.removePaymentListener(paymentListener);
 	}
 
-	private void decrementPaymentCount() {
-		synchronized (paymentObserversLock) {
-			if (paymentObserversCount > 0) {
-				paymentObserversCount--;
-			}
+	@Override
+	public void addAccountCreationListener(@NonNull EventListener<Void> listener) {
+		subscriptionManager.addAccountCreationListener(listener);
+	}
 
-			if (paymentObserversCount == 0) {
-				removeRegistration(paymentRegistration);
-			}
-		}
+	@Override
+	public void removeAccountCreationListener(@NonNull EventListener<Void> listener) {
+		subscriptionManager.removeAccountCreationListener(listener);
 	}
 
-	private void removeRegistration(ListenerRegistration listenerRegistration) {
-		if (listenerRegistration != null) {
-			listenerRegistration.remove();
+	/**
+	 * Completed payments and balance updates come from the same stream,
+	 * the balance is fetched again after each payment that was sent or received.
+	 */
+	private void onPayment(PaymentInfo data) {
+		String orderID = extractOrderId(data.memo());
+		Logger.log(Log.create(TAG).put("onPayment: the orderId", orderID).put("with memo", data.memo()));
+		if (orderID != null) {
+			completedPayment.postValue(new Payment(orderID, data.hash().id(), data.amount()));
+			Logger.log(Log.create(TAG).put("completedPayment order id", orderID));
 		}
+		final Double prevBalance = getCachedBalanceValue();
+		getBalance(new KinCallbackAdapter<Balance>() {
+			@Override
+			public void onResponse(Balance response) {
+				eventLogger.send(KinBalanceUpdated.create(prevBalance));
+			}
+		});
 	}
 
-
 	@VisibleForTesting
 	String extractOrderId(String memo) {
-		String[] memoParts = memo.split(MEMO_DELIMITER);
-		String orderID = null;
-		if (memoParts.length == MEMO_SPLIT_LENGTH && memoParts[APP_ID_INDEX].equals(appID)) {
-			orderID = memoParts[ORDER_ID_INDEX];
+		return MemoCodec.decodeOrderId(memo, appID);
+	}
+
+	private static class BalanceSnapshot {
+
+		// Not a Balance, which can be changed by whoever it is returned to.
+		private final BigDecimal amount;
+		private final Double value;
+
+		BalanceSnapshot(@NonNull BigDecimal amount) {
+			this.amount = amount;
+			this.value = amount.doubleValue();
 		}
-		return orderID;
 	}
 }
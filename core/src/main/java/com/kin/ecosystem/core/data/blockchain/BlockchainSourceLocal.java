@@ -3,6 +3,9 @@ package com.kin.ecosystem.core.data.blockchain;
 import android.content.Context;
 import android.content.SharedPreferences;
 import android.support.annotation.NonNull;
+import com.kin.ecosystem.core.util.ExecutorsUtil;
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class BlockchainSourceLocal implements BlockchainSource.Local {
 
@@ -10,35 +13,71 @@ public class BlockchainSourceLocal implements BlockchainSource.Local {
 
 	private static final String BLOCKCHAIN_PREF_NAME_FILE_KEY = "kinecosystem_blockchain_source";
 
+	// Saved as an int by older versions, it is read only when there is no amount saved yet.
 	private static final String BALANCE_KEY = "balance_key";
+	private static final String BALANCE_AMOUNT_KEY = "balance_amount_key";
 
 	private final SharedPreferences blockchainSharedPreferences;
+	private final ExecutorsUtil executorsUtil;
 
+	// The latest balance that is waiting to be saved, null if there is none.
+	private final AtomicReference<BigDecimal> pendingBalance = new AtomicReference<>();
+	private final Runnable saveBalanceRunnable = new Runnable() {
+		@Override
+		public void run() {
+			final BigDecimal balance = pendingBalance.getAndSet(null);
+			if (balance != null) {
+				blockchainSharedPreferences.edit()
+					.putString(BALANCE_AMOUNT_KEY, balance.toPlainString())
+					.remove(BALANCE_KEY)
+					.commit();
+			}
+		}
+	};
 
-	private BlockchainSourceLocal(@NonNull final Context context) {
+	private BlockchainSourceLocal(@NonNull final Context context, @NonNull ExecutorsUtil executorsUtil) {
 		this.blockchainSharedPreferences = context
 			.getSharedPreferences(BLOCKCHAIN_PREF_NAME_FILE_KEY, Context.MODE_PRIVATE);
+		this.executorsUtil = executorsUtil;
 	}
 
-	public static BlockchainSourceLocal getInstance(@NonNull final Context context) {
+	public static BlockchainSourceLocal getInstance(@NonNull final Context context,
+		@NonNull ExecutorsUtil executorsUtil) {
 		if (instance == null) {
 			synchronized (BlockchainSourceLocal.class) {
 				if (instance == null) {
-					instance = new BlockchainSourceLocal(context);
+					instance = new BlockchainSourceLocal(context, executorsUtil);
 				}
 			}
 		}
 		return instance;
 	}
 
-
+	@NonNull
 	@Override
-	public int getBalance() {
-		return blockchainSharedPreferences.getInt(BALANCE_KEY, 0);
+	public BigDecimal getBalance() {
+		final BigDecimal pending = pendingBalance.get();
+		if (pending != null) {
+			return pending;
+		}
+		final String amount = blockchainSharedPreferences.getString(BALANCE_AMOUNT_KEY, null);
+		if (amount != null) {
+			try {
+				return new BigDecimal(amount);
+			} catch (NumberFormatException e) {
+				// Fall back to the old balance
+			}
+		}
+		return new BigDecimal(blockchainSharedPreferences.getInt(BALANCE_KEY, 0));
 	}
 
+	/**
+	 * Balances that are set before the previous one was saved replace it, only the latest is written to disk.
+	 */
 	@Override
-	public void setBalance(int balance) {
-		blockchainSharedPreferences.edit().putInt(BALANCE_KEY, balance).apply();
+	public void setBalance(@NonNull BigDecimal balance) {
+		if (pendingBalance.getAndSet(balance) == null) {
+			executorsUtil.diskIO().execute(saveBalanceRunnable);
+		}
 	}
 }
@@ -0,0 +1,223 @@
+package com.kin.ecosystem.core.data.blockchain;
+
+import android.support.annotation.NonNull;
+import com.kin.ecosystem.core.Log;
+import com.kin.ecosystem.core.Logger;
+import com.kin.ecosystem.core.Tracer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import kin.core.EventListener;
+import kin.core.KinAccount;
+import kin.core.ListenerRegistration;
+import kin.core.PaymentInfo;
+
+/**
+ * Keeps at most one blockchain events stream open for the account, and dispatches its events to all the listeners.
+ * <p>
+ * While someone waits for the account to be created, the open stream is the account creation one,
+ * payments can't be made to an account that doesn't exist yet. After that it is the payments stream.
+ * A listener that is added more than once is called once per event, and stays until it is removed as many times.
+ * <p>
+ * The stream is closed a while after the last listener is removed, so listeners that are removed and added back
+ * right away, e.g. when moving between screens, don't reconnect.
+ */
+class BlockchainSubscriptionManager {
+
+	private static final String TAG = BlockchainSubscriptionManager.class.getSimpleName();
+
+	private static final long IDLE_CLOSE_SECONDS = 15;
+
+	private static final int NONE = 0;
+	private static final int ACCOUNT_CREATION = 1;
+	private static final int PAYMENTS = 2;
+
+	private final KinAccount account;
+	private final ScheduledExecutorService scheduler;
+
+	private final Listeners<PaymentInfo> paymentListeners = new Listeners<>();
+	private final Listeners<Void> accountCreationListeners = new Listeners<>();
+
+	// Guarded by this.
+	private int openStream = NONE;
+	private ListenerRegistration registration;
+	private ScheduledFuture<?> idleClose;
+	private boolean accountCreated;
+
+	private final Runnable idleCloseRunnable = new Runnable() {
+		@Override
+		public void run() {
+			synchronized (BlockchainSubscriptionManager.this) {
+				idleClose = null;
+				if (getRequiredStream() == NONE) {
+					closeStream();
+				}
+			}
+		}
+	};
+
+	BlockchainSubscriptionManager(@NonNull KinAccount account, @NonNull ScheduledExecutorService scheduler) {
+		this.account = account;
+		this.scheduler = scheduler;
+	}
+
+	synchronized void addPaymentListener(@NonNull EventListener<PaymentInfo> listener) {
+		paymentListeners.add(listener);
+		updateStream();
+	}
+
+	synchronized void removePaymentListener(@NonNull EventListener<PaymentInfo> listener) {
+		paymentListeners.remove(listener);
+		updateStream();
+	}
+
+	/**
+	 * The listener is called once, when the account is created, or right away if it was already seen created.
+	 */
+	void addAccountCreationListener(@NonNull EventListener<Void> listener) {
+		synchronized (this) {
+			if (!accountCreated) {
+				accountCreationListeners.add(listener);
+				updateStream();
+				return;
+			}
+		}
+		listener.onEvent(null);
+	}
+
+	synchronized void removeAccountCreationListener(@NonNull EventListener<Void> listener) {
+		accountCreationListeners.remove(listener);
+		updateStream();
+	}
+
+	private int getRequiredStream() {
+		if (!accountCreationListeners.isEmpty()) {
+			return ACCOUNT_CREATION;
+		}
+		return paymentListeners.isEmpty() ? NONE : PAYMENTS;
+	}
+
+	private void updateStream() {
+		final int requiredStream = getRequiredStream();
+		if (requiredStream == NONE) {
+			if (openStream != NONE && idleClose == null) {
+				idleClose = scheduler.schedule(idleCloseRunnable, IDLE_CLOSE_SECONDS, TimeUnit.SECONDS);
+			}
+			return;
+		}
+
+		if (idleClose != null) {
+			idleClose.cancel(false);
+			idleClose = null;
+		}
+		if (requiredStream != openStream) {
+			closeStream();
+			openStream(requiredStream);
+		}
+	}
+
+	private void openStream(int stream) {
+		Logger.log(Log.create(TAG).put("openStream", stream == PAYMENTS ? "PAYMENTS" : "ACCOUNT_CREATION"));
+		Tracer.count(stream == PAYMENTS ? "blockchain.stream.open.payments" : "blockchain.stream.open.account_creation");
+		if (stream == PAYMENTS) {
+			registration = account.blockchainEvents().addPaymentListener(new EventListener<PaymentInfo>() {
+				@Override
+				public void onEvent(PaymentInfo data) {
+					for (EventListener<PaymentInfo> listener : paymentListeners.get()) {
+						listener.onEvent(data);
+					}
+				}
+			});
+		} else {
+			registration = account.blockchainEvents().addAccountCreationListener(new EventListener<Void>() {
+				@Override
+				public void onEvent(Void data) {
+					onAccountCreated();
+				}
+			});
+		}
+		openStream = stream;
+	}
+
+	private void closeStream() {
+		if (registration != null) {
+			Logger.log(Log.create(TAG).text("closeStream"));
+			Tracer.count("blockchain.stream.close");
+			registration.remove();
+			registration = null;
+		}
+		openStream = NONE;
+	}
+
+	private void onAccountCreated() {
+		final EventListener<Void>[] listeners;
+		synchronized (this) {
+			if (accountCreated) {
+				return;
+			}
+			accountCreated = true;
+			listeners = accountCreationListeners.get();
+			accountCreationListeners.clear();
+			// Switch to the payments stream, or close the creation one.
+			closeStream();
+			updateStream();
+		}
+		for (EventListener<Void> listener : listeners) {
+			listener.onEvent(null);
+		}
+	}
+
+	/**
+	 * Counts how many times each listener was added, and keeps an array of the listeners to dispatch to.
+	 * Modified while holding the manager lock, the array can be read without it.
+	 */
+	private static class Listeners<T> {
+
+		private final Map<EventListener<T>, Integer> counts = new LinkedHashMap<>();
+		@SuppressWarnings("unchecked")
+		private volatile EventListener<T>[] listeners = new EventListener[0];
+
+		void add(EventListener<T> listener) {
+			final Integer count = counts.get(listener);
+			if (count == null) {
+				counts.put(listener, 1);
+				updateListeners();
+			} else {
+				counts.put(listener, count + 1);
+			}
+		}
+
+		void remove(EventListener<T> listener) {
+			final Integer count = counts.get(listener);
+			if (count == null) {
+				return;
+			}
+			if (count > 1) {
+				counts.put(listener, count - 1);
+			} else {
+				counts.remove(listener);
+				updateListeners();
+			}
+		}
+
+		void clear() {
+			counts.clear();
+			updateListeners();
+		}
+
+		boolean isEmpty() {
+			return counts.isEmpty();
+		}
+
+		EventListener<T>[] get() {
+			return listeners;
+		}
+
+		@SuppressWarnings("unchecked")
+		private void updateListeners() {
+			listeners = counts.keySet().toArray(new EventListener[counts.size()]);
+		}
+	}
+}
@@ -1,43 +1,96 @@
 package com.kin.ecosystem.core.data.blockchain;
 
+import android.support.annotation.NonNull;
+import com.kin.ecosystem.core.util.ExecutorsUtil;
+import java.util.Random;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import kin.core.KinAccount;
 import kin.core.exception.OperationFailedException;
 
-public class CreateTrustLineCall extends Thread {
+/**
+ * Activates the account with retries, each attempt runs on the network pool and the backoff between them
+ * is a timer on the shared scheduler, so no thread is parked while waiting for the next attempt.
+ * After {@link #cancel()} no attempt is started and the callback is not called.
+ */
+public class CreateTrustLineCall {
 
-	private static final int[] DELAY_SECONDS = {2, 4, 8, 16, 32, 32, 32, 32, 32, 32};
-	private static final int SEC_IN_MILLI = 1000;
+	private static final int MAX_RETRIES = 10;
+	private static final long BASE_DELAY_MILLIS = 2000;
+	private static final long MAX_DELAY_MILLIS = 32000;
 
 	private final KinAccount account;
+	private final ExecutorsUtil executorsUtil;
 	private final TrustlineCallback trustlineCallback;
+	private final Random random = new Random();
 
-	public CreateTrustLineCall(KinAccount account, TrustlineCallback trustlineCallback) {
+	private volatile boolean cancelled;
+	private Future<?> pendingRetry;
+
+	public CreateTrustLineCall(@NonNull KinAccount account, @NonNull ExecutorsUtil executorsUtil,
+		@NonNull TrustlineCallback trustlineCallback) {
 		this.account = account;
+		this.executorsUtil = executorsUtil;
 		this.trustlineCallback = trustlineCallback;
 	}
 
-	@Override
-	public void run() {
-		super.run();
-		createTrustline(0);
+	public void start() {
+		activate(0);
+	}
+
+	public void cancel() {
+		cancelled = true;
+		synchronized (this) {
+			if (pendingRetry != null) {
+				pendingRetry.cancel(false);
+				pendingRetry = null;
+			}
+		}
 	}
 
-	private void createTrustline(int tries) {
-		try {
-			account.activateSync();
-			trustlineCallback.onSuccess();
-		} catch (OperationFailedException e) {
-			if (tries < DELAY_SECONDS.length) {
+	private void activate(final int tries) {
+		executorsUtil.networkIO().execute(new Runnable() {
+			@Override
+			public void run() {
+				if (cancelled) {
+					return;
+				}
 				try {
-					sleep(DELAY_SECONDS[tries] * SEC_IN_MILLI);
-					createTrustline(++tries);
-				} catch (InterruptedException e1) {
-					trustlineCallback.onFailure(new OperationFailedException(e1));
+					account.activateSync();
+					if (!cancelled) {
+						trustlineCallback.onSuccess();
+					}
+				} catch (OperationFailedException e) {
+					if (tries < MAX_RETRIES) {
+						scheduleRetry(tries + 1);
+					} else if (!cancelled) {
+						trustlineCallback.onFailure(e);
+					}
 				}
-			} else {
-				trustlineCallback.onFailure(e);
 			}
+		});
+	}
+
+	private synchronized void scheduleRetry(final int tries) {
+		if (cancelled) {
+			return;
 		}
+		pendingRetry = executorsUtil.scheduled().schedule(new Runnable() {
+			@Override
+			public void run() {
+				activate(tries);
+			}
+		}, getRetryDelay(tries), TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Exponential backoff with jitter, so clients that failed together don't retry together.
+	 * Half of the delay is fixed and the other half is random.
+	 */
+	private long getRetryDelay(int tries) {
+		final long delay = Math.min(BASE_DELAY_MILLIS << (tries - 1), MAX_DELAY_MILLIS);
+		final long half = delay / 2;
+		return half + (long) (random.nextDouble() * half);
 	}
 
 	public interface TrustlineCallback {
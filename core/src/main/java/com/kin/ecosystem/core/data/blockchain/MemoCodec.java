@@ -0,0 +1,77 @@
+package com.kin.ecosystem.core.data.blockchain;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+/**
+ * The memo of the SDK transactions, {@code version-appID-orderID}.
+ * Memos are parsed in one pass over the characters, the only allocation is the order id of a matching memo.
+ */
+final class MemoCodec {
+
+	static final int MEMO_FORMAT_VERSION = 1;
+	static final char MEMO_DELIMITER = '-';
+
+	private MemoCodec() {
+	}
+
+	@NonNull
+	static String encode(@Nullable String appID, @NonNull String orderID) {
+		return new StringBuilder(orderID.length() + 16)
+			.append(MEMO_FORMAT_VERSION).append(MEMO_DELIMITER)
+			.append(appID).append(MEMO_DELIMITER)
+			.append(orderID)
+			.toString();
+	}
+
+	/**
+	 * @return the order id, or null if the memo is not of the current version, is of another app,
+	 * or doesn't have exactly three parts.
+	 */
+	@Nullable
+	static String decodeOrderId(@Nullable String memo, @Nullable String appID) {
+		if (memo == null || appID == null || appID.isEmpty()) {
+			return null;
+		}
+		final int length = memo.length();
+
+		// Version
+		int index = 0;
+		int version = 0;
+		while (index < length && memo.charAt(index) != MEMO_DELIMITER) {
+			final int digit = memo.charAt(index) - '0';
+			if (digit < 0 || digit > 9 || version > MEMO_FORMAT_VERSION) {
+				return null;
+			}
+			version = version * 10 + digit;
+			index++;
+		}
+		if (index == 0 || index == length || version != MEMO_FORMAT_VERSION) {
+			return null;
+		}
+		index++;
+
+		// App id
+		final int appIDLength = appID.length();
+		if (!memo.regionMatches(index, appID, 0, appIDLength)) {
+			return null;
+		}
+		index += appIDLength;
+		if (index >= length || memo.charAt(index) != MEMO_DELIMITER) {
+			return null;
+		}
+		index++;
+
+		// Order id, the rest of the memo
+		final int orderIDStart = index;
+		if (orderIDStart == length) {
+			return null;
+		}
+		for (; index < length; index++) {
+			if (memo.charAt(index) == MEMO_DELIMITER) {
+				return null;
+			}
+		}
+		return memo.substring(orderIDStart);
+	}
+}
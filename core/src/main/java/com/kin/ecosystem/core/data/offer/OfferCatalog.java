@@ -0,0 +1,40 @@
+package com.kin.ecosystem.core.data.offer;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import com.google.gson.annotations.SerializedName;
+import com.kin.ecosystem.core.network.model.OfferList;
+
+/**
+ * The offer list with the validators the server returned with it,
+ * used to revalidate the list with a conditional request.
+ */
+public class OfferCatalog {
+
+	@SerializedName("offers")
+	private OfferList offerList;
+	@SerializedName("etag")
+	private String eTag;
+	@SerializedName("last_modified")
+	private String lastModified;
+
+	public OfferCatalog(@NonNull OfferList offerList, @Nullable String eTag, @Nullable String lastModified) {
+		this.offerList = offerList;
+		this.eTag = eTag;
+		this.lastModified = lastModified;
+	}
+
+	public OfferList getOfferList() {
+		return offerList;
+	}
+
+	@Nullable
+	public String getETag() {
+		return eTag;
+	}
+
+	@Nullable
+	public String getLastModified() {
+		return lastModified;
+	}
+}
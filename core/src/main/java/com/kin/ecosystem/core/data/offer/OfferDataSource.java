@@ -1,6 +1,7 @@
 package com.kin.ecosystem.core.data.offer;
 
 import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
 import com.kin.ecosystem.common.Callback;
 import com.kin.ecosystem.common.KinCallback;
 import com.kin.ecosystem.common.NativeOfferClickEvent;
@@ -29,8 +30,29 @@ public interface OfferDataSource {
 
 	boolean shouldDismissOnTap(@NonNull String offerId);
 
+	interface Local {
+
+		/**
+		 * Read the offer catalog that was saved on disk for the user, onFailure is called if nothing was saved.
+		 *
+		 * @param userId the ecosystem user id.
+		 */
+		void getOfferCatalog(@NonNull String userId, @NonNull Callback<OfferCatalog, Void> callback);
+
+		/**
+		 * Save the offer catalog of the user, replacing the catalog that was saved for any user.
+		 *
+		 * @param userId the ecosystem user id.
+		 */
+		void setOfferCatalog(@NonNull String userId, @NonNull OfferCatalog offerCatalog);
+	}
+
 	interface Remote {
 
-		void getOffers(Callback<OfferList, ApiException> callback);
+		/**
+		 * Get the offer list, if a cached catalog is given it is revalidated with a conditional request,
+		 * and returned as is when the server responds that it was not modified.
+		 */
+		void getOffers(@Nullable OfferCatalog cachedCatalog, @NonNull Callback<OfferCatalog, ApiException> callback);
 	}
 }
@@ -0,0 +1,78 @@
+package com.kin.ecosystem.core.data.offer;
+
+import android.content.Context;
+import android.support.annotation.NonNull;
+import com.kin.ecosystem.common.Callback;
+import com.kin.ecosystem.core.network.JSON;
+import com.kin.ecosystem.core.util.ExecutorsUtil;
+import com.kin.ecosystem.core.util.JsonFileUtil;
+import java.io.File;
+
+public class OfferLocalData implements OfferDataSource.Local {
+
+    private static volatile OfferLocalData instance;
+
+    // One file per ecosystem user, e.g. kinecosystem_offers_<user id>.json, the ETag is saved with the catalog.
+    private static final String OFFER_CATALOG_FILE_PREFIX = "kinecosystem_offers";
+    private static final String OFFER_CATALOG_FILE_SUFFIX = ".json";
+
+    private final File filesDir;
+    private final JSON json;
+    private final ExecutorsUtil executorsUtil;
+
+    private OfferLocalData(@NonNull final Context context, @NonNull ExecutorsUtil executorsUtil) {
+        this.filesDir = context.getFilesDir();
+        this.json = new JSON();
+        this.executorsUtil = executorsUtil;
+    }
+
+    public static OfferLocalData getInstance(@NonNull final Context context, @NonNull ExecutorsUtil executorsUtil) {
+        if (instance == null) {
+            synchronized (OfferLocalData.class) {
+                if (instance == null) {
+                    instance = new OfferLocalData(context, executorsUtil);
+                }
+            }
+        }
+        return instance;
+    }
+
+    @Override
+    public void getOfferCatalog(@NonNull final String userId, @NonNull final Callback<OfferCatalog, Void> callback) {
+        executorsUtil.diskIO().execute(new Runnable() {
+            @Override
+            public void run() {
+                final OfferCatalog offerCatalog = JsonFileUtil
+                    .read(getOfferCatalogFile(userId), json.getGson(), OfferCatalog.class);
+                executorsUtil.mainThread().execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        if (offerCatalog != null && offerCatalog.getOfferList() != null) {
+                            callback.onResponse(offerCatalog);
+                        } else {
+                            callback.onFailure(null);
+                        }
+                    }
+                });
+            }
+        });
+    }
+
+    @Override
+    public void setOfferCatalog(@NonNull final String userId, @NonNull final OfferCatalog offerCatalog) {
+        executorsUtil.diskIO().execute(new Runnable() {
+            @Override
+            public void run() {
+                final File offerCatalogFile = getOfferCatalogFile(userId);
+                if (JsonFileUtil.write(offerCatalogFile, json.getGson(), offerCatalog)) {
+                    // The catalog of the previous user is not revalidated anymore.
+                    JsonFileUtil.deleteOthers(filesDir, OFFER_CATALOG_FILE_PREFIX, offerCatalogFile);
+                }
+            }
+        });
+    }
+
+    private File getOfferCatalogFile(@NonNull String userId) {
+        return new File(filesDir, OFFER_CATALOG_FILE_PREFIX + "_" + userId + OFFER_CATALOG_FILE_SUFFIX);
+    }
+}
@@ -1,7 +1,9 @@
 package com.kin.ecosystem.core.data.offer;
 
 import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
 import com.kin.ecosystem.core.network.ApiException;
+import java.net.HttpURLConnection;
 import java.util.List;
 import java.util.Map;
 import com.kin.ecosystem.common.Callback;
@@ -12,6 +14,11 @@ import com.kin.ecosystem.core.util.ExecutorsUtil;
 
 public class OfferRemoteData implements OfferDataSource.Remote {
 
+    private static final int OFFERS_ITEMS_LIMIT = 25;
+    // OkHttp lower cases the header names of the response headers map.
+    private static final String ETAG_HEADER = "etag";
+    private static final String LAST_MODIFIED_HEADER = "last-modified";
+
     private static volatile OfferRemoteData instance;
 
     private final OffersApi offersApi;
@@ -34,9 +41,12 @@ public class OfferRemoteData implements OfferDataSource.Remote {
     }
 
     @Override
-    public void getOffers(@NonNull final Callback<OfferList, ApiException> callback) {
+    public void getOffers(@Nullable final OfferCatalog cachedCatalog,
+        @NonNull final Callback<OfferCatalog, ApiException> callback) {
+        final String eTag = cachedCatalog != null ? cachedCatalog.getETag() : null;
+        final String lastModified = cachedCatalog != null ? cachedCatalog.getLastModified() : null;
         try {
-            offersApi.getOffersAsync("", 25, "", "", new ApiCallback<OfferList>() {
+            offersApi.getOffersAsync("", OFFERS_ITEMS_LIMIT, "", "", eTag, lastModified, new ApiCallback<OfferList>() {
                 @Override
                 public void onFailure(final ApiException e, int statusCode, Map<String, List<String>> responseHeaders) {
                     executorsUtil.mainThread().execute(new Runnable() {
@@ -50,11 +60,17 @@ public class OfferRemoteData implements OfferDataSource.Remote {
                 @Override
                 public void onSuccess(final OfferList result, int statusCode,
                     Map<String, List<String>> responseHeaders) {
+                    final OfferCatalog offerCatalog;
+                    if (statusCode == HttpURLConnection.HTTP_NOT_MODIFIED && cachedCatalog != null) {
+                        offerCatalog = cachedCatalog;
+                    } else {
+                        offerCatalog = new OfferCatalog(result, getHeader(responseHeaders, ETAG_HEADER),
+                            getHeader(responseHeaders, LAST_MODIFIED_HEADER));
+                    }
                     executorsUtil.mainThread().execute(new Runnable() {
                         @Override
                         public void run() {
-                            callback.onResponse(result);
-
+                            callback.onResponse(offerCatalog);
                         }
                     });
                 }
@@ -78,4 +94,15 @@ public class OfferRemoteData implements OfferDataSource.Remote {
             });
         }
     }
+
+    @Nullable
+    private static String getHeader(@Nullable Map<String, List<String>> headers, @NonNull String name) {
+        if (headers != null) {
+            final List<String> values = headers.get(name);
+            if (values != null && !values.isEmpty()) {
+                return values.get(0);
+            }
+        }
+        return null;
+    }
 }
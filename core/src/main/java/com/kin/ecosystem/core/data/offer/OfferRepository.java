@@ -8,6 +8,7 @@ import com.kin.ecosystem.common.NativeOfferClickEvent;
 import com.kin.ecosystem.common.ObservableData;
 import com.kin.ecosystem.common.Observer;
 import com.kin.ecosystem.common.model.NativeOffer;
+import com.kin.ecosystem.core.data.auth.AuthDataSource;
 import com.kin.ecosystem.core.data.order.OrderDataSource;
 import com.kin.ecosystem.core.network.ApiException;
 import com.kin.ecosystem.core.network.model.Offer;
@@ -23,26 +24,34 @@ public class OfferRepository implements OfferDataSource {
 	private static OfferRepository instance = null;
 
 	private final OfferDataSource.Remote remoteData;
+	private final OfferDataSource.Local localData;
 	private final OrderDataSource orderRepository;
+	private final AuthDataSource authRepository;
 
 	//Saves offerId with a value dismissOnTap
 	private HashMap<String, Boolean> nativeOfferMap = new HashMap<>();
 	private OfferList nativeOfferList = new OfferList();
 	private OfferList cachedOfferList = new OfferList();
+	private OfferCatalog cachedOfferCatalog;
 
 	private ObservableData<NativeOfferClickEvent> nativeSpendOfferObservable = ObservableData.create();
 
-	private OfferRepository(@NonNull OfferDataSource.Remote remoteData, @NonNull OrderDataSource orderRepository) {
+	private OfferRepository(@NonNull OfferDataSource.Remote remoteData, @NonNull OfferDataSource.Local localData,
+		@NonNull OrderDataSource orderRepository, @NonNull AuthDataSource authRepository) {
 		this.remoteData = remoteData;
+		this.localData = localData;
 		this.orderRepository = orderRepository;
+		this.authRepository = authRepository;
 		listenToPendingOrders();
+		loadCachedOfferCatalog();
 	}
 
-	public static void init(@NonNull OfferDataSource.Remote remoteData, @NonNull OrderDataSource orderRepository) {
+	public static void init(@NonNull OfferDataSource.Remote remoteData, @NonNull OfferDataSource.Local localData,
+		@NonNull OrderDataSource orderRepository, @NonNull AuthDataSource authRepository) {
 		if (instance == null) {
 			synchronized (OfferRepository.class) {
 				if (instance == null) {
-					instance = new OfferRepository(remoteData, orderRepository);
+					instance = new OfferRepository(remoteData, localData, orderRepository, authRepository);
 				}
 			}
 		}
@@ -68,12 +77,38 @@ public class OfferRepository implements OfferDataSource {
 		return getList();
 	}
 
+	private void loadCachedOfferCatalog() {
+		final String userId = authRepository.getEcosystemUserID();
+		if (userId == null) {
+			// Not signed in yet, there is no saved catalog.
+			return;
+		}
+		localData.getOfferCatalog(userId, new Callback<OfferCatalog, Void>() {
+			@Override
+			public void onResponse(OfferCatalog offerCatalog) {
+				// Don't override a fresher catalog that arrived from the server in the meantime.
+				if (cachedOfferCatalog == null) {
+					setCachedOfferCatalog(offerCatalog);
+				}
+			}
+
+			@Override
+			public void onFailure(Void t) {
+				// No saved catalog.
+			}
+		});
+	}
+
 	@Override
 	public void getOffers(@Nullable final KinCallback<OfferList> callback) {
-		remoteData.getOffers(new Callback<OfferList, ApiException>() {
+		remoteData.getOffers(cachedOfferCatalog, new Callback<OfferCatalog, ApiException>() {
 			@Override
-			public void onResponse(OfferList response) {
-				cachedOfferList = response;
+			public void onResponse(OfferCatalog response) {
+				final String userId = authRepository.getEcosystemUserID();
+				if (response != cachedOfferCatalog && userId != null) {
+					localData.setOfferCatalog(userId, response);
+				}
+				setCachedOfferCatalog(response);
 				if (callback != null) {
 					callback.onResponse(getList());
 				}
@@ -89,6 +124,18 @@ public class OfferRepository implements OfferDataSource {
 		});
 	}
 
+	private void setCachedOfferCatalog(@NonNull OfferCatalog offerCatalog) {
+		cachedOfferCatalog = offerCatalog;
+		// Work on a copy, offers are removed from the cached list while their orders are pending,
+		// and the catalog should stay as the server returned it.
+		final OfferList offerList = offerCatalog.getOfferList();
+		cachedOfferList = new OfferList();
+		if (offerList != null) {
+			cachedOfferList.addAll(offerList);
+			cachedOfferList.setPaging(offerList.getPaging());
+		}
+	}
+
 	private OfferList getList() {
 		OfferList masterList = new OfferList();
 		masterList.addAll(nativeOfferList);
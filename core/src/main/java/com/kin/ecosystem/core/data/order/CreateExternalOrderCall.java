@@ -18,46 +18,59 @@ import com.kin.ecosystem.core.network.model.JWTBodyPaymentConfirmationResult;
 import com.kin.ecosystem.core.network.model.Offer.OfferType;
 import com.kin.ecosystem.core.network.model.OpenOrder;
 import com.kin.ecosystem.core.network.model.Order;
+import com.kin.ecosystem.core.network.model.Order.Origin;
 import com.kin.ecosystem.core.util.ErrorUtil;
-import com.kin.ecosystem.core.util.ExecutorsUtil.MainThreadExecutor;
+import com.kin.ecosystem.core.util.ExecutorsUtil;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Map;
 import kin.core.TransactionId;
 import kin.core.exception.InsufficientKinException;
 
-class CreateExternalOrderCall extends Thread {
+/**
+ * Creates an external order and follows it until it is confirmed, its phases are measured by the
+ * {@link OrderLatencyTracker}.
+ */
+class CreateExternalOrderCall implements Runnable {
 
 	private final OrderDataSource.Remote remote;
 	private final BlockchainSource blockchainSource;
 	private final String orderJwt;
 	private final ExternalOrderCallbacks externalOrderCallbacks;
 	private final EventLogger eventLogger;
+	private final ExecutorsUtil executorsUtil;
+	private final OrderLatencyTracker latencyTracker;
 
 	private OpenOrder openOrder;
-	private MainThreadExecutor mainThreadExecutor = new MainThreadExecutor();
+	private OrderTimeline timeline;
 
 	CreateExternalOrderCall(@NonNull OrderDataSource.Remote remote, @NonNull BlockchainSource blockchainSource,
-		@NonNull String orderJwt, @NonNull EventLogger eventLogger,
-		@NonNull ExternalOrderCallbacks externalOrderCallbacks) {
+		@NonNull String orderJwt, @NonNull EventLogger eventLogger, @NonNull ExecutorsUtil executorsUtil,
+		@NonNull OrderLatencyTracker latencyTracker, @NonNull ExternalOrderCallbacks externalOrderCallbacks) {
 		this.remote = remote;
 		this.blockchainSource = blockchainSource;
 		this.orderJwt = orderJwt;
 		this.eventLogger = eventLogger;
+		this.executorsUtil = executorsUtil;
+		this.latencyTracker = latencyTracker;
 		this.externalOrderCallbacks = externalOrderCallbacks;
 	}
 
 	@Override
 	public void run() {
+		timeline = latencyTracker.start(Origin.EXTERNAL,
+			externalOrderCallbacks instanceof ExternalSpendOrderCallbacks ? OfferType.SPEND : OfferType.EARN);
 		try {
 			// Create external order
 			openOrder = remote.createExternalOrderSync(orderJwt);
+			latencyTracker.onCreated(timeline, openOrder);
 			sendOrderCreationReceivedEvent();
 
 			if (openOrder.getOfferType() == OfferType.SPEND) {
 				Balance balance = blockchainSource.getBalance();
 				if (balance.getAmount().intValue() < openOrder.getAmount()) {
 					remote.cancelOrderSync(openOrder.getId());
+					latencyTracker.onFinished(timeline, "insufficient kin");
 					runOnMainThread(new Runnable() {
 						@Override
 						public void run() {
@@ -104,9 +117,11 @@ class CreateExternalOrderCall extends Thread {
 			@Override
 			public void onChanged(final Payment payment) {
 				if (isPaymentOrderEquals(payment, openOrder.getId())) {
+					timeline.markPaymentObserved();
 					if (payment.isSucceed()) {
 						getOrder(payment.getOrderID());
 					} else {
+						latencyTracker.onFinished(timeline, "transaction failed");
 						if (externalOrderCallbacks instanceof ExternalSpendOrderCallbacks) {
 							runOnMainThread(new Runnable() {
 								@Override
@@ -176,9 +191,12 @@ class CreateExternalOrderCall extends Thread {
 	}
 
 	private void getOrder(String orderID) {
-		new GetOrderPollingCall(remote, orderID, new Callback<Order, ApiException>() {
+		OrderPollingScheduler.getInstance(executorsUtil).poll(remote, orderID, new Callback<Order, ApiException>() {
 			@Override
 			public void onResponse(final Order order) {
+				// Delayed is reported while the order is still polled, the tracker keeps following it.
+				latencyTracker.onFinished(timeline,
+					order.getStatus() != null ? order.getStatus().getValue() : OrderLatencyTracker.OUTCOME_FAILED);
 				runOnMainThread(new Runnable() {
 					@Override
 					public void run() {
@@ -191,12 +209,14 @@ class CreateExternalOrderCall extends Thread {
 
 			@Override
 			public void onFailure(final ApiException e) {
+				latencyTracker.onFinished(timeline, OrderLatencyTracker.getOutcome(e));
 				onOrderFailed(ErrorUtil.fromApiException(e));
 			}
-		}).start();
+		});
 	}
 
 	private void onOrderFailed(final KinEcosystemException exception) {
+		latencyTracker.onFinished(timeline, OrderLatencyTracker.OUTCOME_FAILED);
 		final OpenOrder finalOpenOrder = openOrder;
 		runOnMainThread(new Runnable() {
 			@Override
@@ -208,7 +228,7 @@ class CreateExternalOrderCall extends Thread {
 	}
 
 	private void runOnMainThread(Runnable runnable) {
-		mainThreadExecutor.execute(runnable);
+		executorsUtil.mainThread().execute(runnable);
 	}
 
 	interface ExternalOrderCallbacks {
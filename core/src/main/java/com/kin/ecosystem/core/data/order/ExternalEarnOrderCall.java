@@ -4,6 +4,7 @@ import android.support.annotation.NonNull;
 import com.kin.ecosystem.core.data.blockchain.BlockchainSource;
 import com.kin.ecosystem.core.bi.EventLogger;
 import com.kin.ecosystem.core.data.order.OrderDataSource.Remote;
+import com.kin.ecosystem.core.util.ExecutorsUtil;
 
 class ExternalEarnOrderCall extends CreateExternalOrderCall {
 
@@ -12,7 +13,10 @@ class ExternalEarnOrderCall extends CreateExternalOrderCall {
         @NonNull BlockchainSource blockchainSource,
         @NonNull String orderJwt,
         @NonNull EventLogger eventLogger,
+        @NonNull ExecutorsUtil executorsUtil,
+        @NonNull OrderLatencyTracker latencyTracker,
         @NonNull ExternalOrderCallbacks externalEarnOrderCallbacks) {
-        super(remote, blockchainSource, orderJwt, eventLogger, externalEarnOrderCallbacks);
+        super(remote, blockchainSource, orderJwt, eventLogger, executorsUtil, latencyTracker,
+            externalEarnOrderCallbacks);
     }
 }
\ No newline at end of file
@@ -4,6 +4,7 @@ import android.support.annotation.NonNull;
 import com.kin.ecosystem.core.bi.EventLogger;
 import com.kin.ecosystem.core.data.blockchain.BlockchainSource;
 import com.kin.ecosystem.core.data.order.OrderDataSource.Remote;
+import com.kin.ecosystem.core.util.ExecutorsUtil;
 
 class ExternalSpendOrderCall extends CreateExternalOrderCall {
 
@@ -12,7 +13,10 @@ class ExternalSpendOrderCall extends CreateExternalOrderCall {
 		@NonNull BlockchainSource blockchainSource,
 		@NonNull String orderJwt,
 		@NonNull EventLogger eventLogger,
+		@NonNull ExecutorsUtil executorsUtil,
+		@NonNull OrderLatencyTracker latencyTracker,
 		@NonNull ExternalSpendOrderCallbacks externalSpendOrderCallbacks) {
-		super(remote, blockchainSource, orderJwt, eventLogger, externalSpendOrderCallbacks);
+		super(remote, blockchainSource, orderJwt, eventLogger, executorsUtil, latencyTracker,
+			externalSpendOrderCallbacks);
 	}
 }
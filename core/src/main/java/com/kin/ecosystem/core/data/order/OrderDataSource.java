@@ -47,12 +47,35 @@ public interface OrderDataSource {
         void isFirstSpendOrder(@NonNull final Callback<Boolean, Void> callback);
 
         void setIsFirstSpendOrder(boolean isFirstSpendOrder);
+
+        /**
+         * Read the order history that was saved on disk for the user, onFailure is called if nothing was saved.
+         *
+         * @param userId the ecosystem user id.
+         */
+        void getOrderHistory(@NonNull String userId, @NonNull final Callback<OrderList, Void> callback);
+
+        /**
+         * Save the order history of the user, replacing the history that was saved for any user.
+         *
+         * @param userId the ecosystem user id.
+         */
+        void setOrderHistory(@NonNull String userId, @NonNull OrderList orderList);
     }
 
     interface Remote {
 
         void getAllOrderHistory(@NonNull final Callback<OrderList, ApiException> callback);
 
+        /**
+         * Get only the orders that are newer than the given paging cursor.
+         *
+         * @param beforeCursor the {@link com.kin.ecosystem.core.network.model.PagingCursors#getBefore()} cursor
+         * of the latest order history response.
+         */
+        void getNewerOrderHistory(@NonNull String beforeCursor,
+            @NonNull final Callback<OrderList, ApiException> callback);
+
         void createOrder(@NonNull final String offerID, final Callback<OpenOrder, ApiException> callback);
 
         void submitOrder(@Nullable String content, @NonNull String orderID, final Callback<Order, ApiException> callback);
@@ -63,8 +86,22 @@ public interface OrderDataSource {
 
         void getOrder(String orderID, Callback<Order, ApiException> callback);
 
+        /**
+         * Stop waiting for the order, the callback passed to {@link #getOrder(String, Callback)} will not be called.
+         * Other callers of {@link #getOrder(String, Callback)} for the same order are still called.
+         *
+         * @return true if the callback was waiting for the order.
+         */
+        boolean cancelGetOrder(@NonNull String orderID, @NonNull Callback<Order, ApiException> callback);
+
         Order getOrderSync(String orderID);
 
+        /**
+         * @return the latest orders of the user, or null if the request failed.
+         */
+        @Nullable
+        OrderList getOrderHistorySync(int limit);
+
         OpenOrder createExternalOrderSync(String orderJwt) throws ApiException;
 
         void getFilteredOrderHistory(@Nullable String origin, @NonNull String offerID, @NonNull final Callback<OrderList, ApiException> callback);
@@ -0,0 +1,251 @@
+package com.kin.ecosystem.core.data.order;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import com.kin.ecosystem.common.exception.ServiceException;
+import com.kin.ecosystem.common.model.OrderLatency;
+import com.kin.ecosystem.core.Log;
+import com.kin.ecosystem.core.Logger;
+import com.kin.ecosystem.core.Tracer;
+import com.kin.ecosystem.core.bi.EventLogger;
+import com.kin.ecosystem.core.bi.events.OrderLatencyReported;
+import com.kin.ecosystem.core.network.ApiException;
+import com.kin.ecosystem.core.network.model.Error;
+import com.kin.ecosystem.core.network.model.Offer.OfferType;
+import com.kin.ecosystem.core.network.model.OpenOrder;
+import com.kin.ecosystem.core.network.model.Order.Origin;
+import com.kin.ecosystem.core.network.model.Order.Status;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Follows the orders through their phases and keeps the durations of the recent completed orders per offer type,
+ * origin and phase, so it can tell whether the blockchain or the server is the slow part.
+ * <p>
+ * Every finished order, completed or not, is traced as {@code order.<offer type>.<origin>.<phase>} spans,
+ * the total span detail is the outcome. Only completed orders are counted in the percentiles.
+ * {@link Status#DELAYED} is reported while the order is still polled, so the order is finished by the status
+ * it ends with, or by the polling timeout.
+ */
+class OrderLatencyTracker {
+
+	private static final String TAG = OrderLatencyTracker.class.getSimpleName();
+
+	static final String OUTCOME_FAILED = "failed";
+	static final String OUTCOME_TIMEOUT = "timeout";
+
+	// Orders that are created and never submitted, e.g. when the user leaves, are dropped after these many.
+	private static final int MAX_OPEN_ORDERS = 32;
+	private static final int MAX_SAMPLES = 256;
+
+	private final EventLogger eventLogger;
+	private volatile boolean sendEvents;
+
+	// Guarded by this.
+	private final Map<String, OrderTimeline> openOrders = new LinkedHashMap<>();
+	private final Map<String, Samples> samples = new LinkedHashMap<>();
+
+	OrderLatencyTracker(@NonNull EventLogger eventLogger) {
+		this.eventLogger = eventLogger;
+	}
+
+	void setSendEvents(boolean sendEvents) {
+		this.sendEvents = sendEvents;
+	}
+
+	@NonNull
+	OrderTimeline start(@NonNull Origin origin, @Nullable OfferType offerType) {
+		return new OrderTimeline(origin, offerType);
+	}
+
+	/**
+	 * The order can be followed by its id from now on.
+	 */
+	void onCreated(@NonNull OrderTimeline timeline, @NonNull OpenOrder openOrder) {
+		timeline.markCreated(openOrder);
+		final String orderId = openOrder.getId();
+		if (orderId == null) {
+			return;
+		}
+		synchronized (this) {
+			openOrders.put(orderId, timeline);
+			if (openOrders.size() > MAX_OPEN_ORDERS) {
+				final Iterator<OrderTimeline> eldest = openOrders.values().iterator();
+				eldest.next();
+				eldest.remove();
+			}
+		}
+	}
+
+	void onSubmitRequested(String orderId) {
+		final OrderTimeline timeline = get(orderId);
+		if (timeline != null) {
+			timeline.markSubmitRequested();
+		}
+	}
+
+	void onSubmitted(String orderId) {
+		final OrderTimeline timeline = get(orderId);
+		if (timeline != null) {
+			timeline.markSubmitted();
+		}
+	}
+
+	void onPaymentObserved(String orderId) {
+		final OrderTimeline timeline = get(orderId);
+		if (timeline != null) {
+			timeline.markPaymentObserved();
+		}
+	}
+
+	/**
+	 * The order won't be completed, it is not measured.
+	 */
+	synchronized void onCancelled(String orderId) {
+		openOrders.remove(orderId);
+	}
+
+	/**
+	 * @param outcome the order status, or why it failed. A delayed order is still followed.
+	 */
+	void onFinished(String orderId, @NonNull String outcome) {
+		final OrderTimeline timeline;
+		synchronized (this) {
+			timeline = openOrders.get(orderId);
+		}
+		if (timeline != null) {
+			onFinished(timeline, outcome);
+		}
+	}
+
+	void onFinished(@NonNull OrderTimeline timeline, @NonNull String outcome) {
+		if (Status.DELAYED.getValue().equals(outcome) || !timeline.markFinished()) {
+			return;
+		}
+		final String orderId = timeline.getOrderId();
+		final String offerType = timeline.getOfferType() != null ? timeline.getOfferType().getValue() : "unknown";
+		final String origin = timeline.getOrigin().getValue();
+		final boolean isMeasured = Status.COMPLETED.getValue().equals(outcome);
+		synchronized (this) {
+			if (orderId != null) {
+				openOrders.remove(orderId);
+			}
+			if (isMeasured) {
+				for (String phase : OrderTimeline.PHASES) {
+					final long phaseNanos = timeline.getPhaseNanos(phase);
+					if (phaseNanos >= 0) {
+						getSamples(offerType, origin, phase).add(TimeUnit.NANOSECONDS.toMillis(phaseNanos));
+					}
+				}
+			}
+		}
+
+		if (Tracer.isEnabled()) {
+			traceSpans(timeline, "order." + offerType + "." + origin + ".", outcome);
+		}
+		Logger.log(Log.create(TAG).put("orderId", orderId).put("outcome", outcome)
+			.put(OrderTimeline.TOTAL, TimeUnit.NANOSECONDS.toMillis(timeline.getPhaseNanos(OrderTimeline.TOTAL))));
+		if (sendEvents) {
+			eventLogger.send(OrderLatencyReported.create(timeline.getOfferId(), orderId, offerType, origin, outcome,
+				getPhaseMillis(timeline, OrderTimeline.CREATE), getPhaseMillis(timeline, OrderTimeline.SUBMIT),
+				getPhaseMillis(timeline, OrderTimeline.BLOCKCHAIN), getPhaseMillis(timeline, OrderTimeline.CONFIRM),
+				getPhaseMillis(timeline, OrderTimeline.TOTAL)));
+		}
+	}
+
+	/**
+	 * @return {@link #OUTCOME_TIMEOUT} if polling the order timed out, {@link #OUTCOME_FAILED} otherwise.
+	 */
+	@NonNull
+	static String getOutcome(@NonNull ApiException e) {
+		final Error error = e.getResponseBody();
+		return error != null && error.getCode() != null && error.getCode() == ServiceException.TIMEOUT_ERROR
+			? OUTCOME_TIMEOUT : OUTCOME_FAILED;
+	}
+
+	/**
+	 * @return the percentiles of each offer type, origin and phase that has completed orders.
+	 */
+	@NonNull
+	synchronized List<OrderLatency> getLatencies() {
+		final List<OrderLatency> latencies = new ArrayList<>(samples.size());
+		for (Samples phaseSamples : samples.values()) {
+			latencies.add(phaseSamples.toOrderLatency());
+		}
+		return latencies;
+	}
+
+	private synchronized OrderTimeline get(String orderId) {
+		return openOrders.get(orderId);
+	}
+
+	private Samples getSamples(String offerType, String origin, String phase) {
+		final String key = offerType + '/' + origin + '/' + phase;
+		Samples phaseSamples = samples.get(key);
+		if (phaseSamples == null) {
+			phaseSamples = new Samples(offerType, origin, phase);
+			samples.put(key, phaseSamples);
+		}
+		return phaseSamples;
+	}
+
+	private static void traceSpans(OrderTimeline timeline, String prefix, String outcome) {
+		for (String phase : OrderTimeline.PHASES) {
+			final long phaseNanos = timeline.getPhaseNanos(phase);
+			if (phaseNanos >= 0) {
+				Tracer.span(prefix + phase, phase.equals(OrderTimeline.TOTAL) ? outcome : null,
+					timeline.getPhaseStartTimeMillis(phase), phaseNanos);
+			}
+		}
+	}
+
+	@Nullable
+	private static Long getPhaseMillis(OrderTimeline timeline, String phase) {
+		final long phaseNanos = timeline.getPhaseNanos(phase);
+		return phaseNanos >= 0 ? TimeUnit.NANOSECONDS.toMillis(phaseNanos) : null;
+	}
+
+	/**
+	 * The last {@link #MAX_SAMPLES} durations of a phase, percentiles are computed when they are read.
+	 */
+	private static class Samples {
+
+		private final String offerType;
+		private final String origin;
+		private final String phase;
+		private final long[] millis = new long[MAX_SAMPLES];
+		private long count;
+
+		Samples(String offerType, String origin, String phase) {
+			this.offerType = offerType;
+			this.origin = origin;
+			this.phase = phase;
+		}
+
+		void add(long value) {
+			millis[(int) (count % MAX_SAMPLES)] = value;
+			count++;
+		}
+
+		OrderLatency toOrderLatency() {
+			final long[] sorted = Arrays.copyOf(millis, (int) Math.min(count, MAX_SAMPLES));
+			Arrays.sort(sorted);
+			return new OrderLatency(offerType, origin, phase, count, percentile(sorted, 50), percentile(sorted, 95),
+				percentile(sorted, 99));
+		}
+
+		// Nearest rank.
+		private static long percentile(long[] sorted, int percent) {
+			if (sorted.length == 0) {
+				return 0;
+			}
+			final int rank = (int) Math.ceil(percent / 100.0 * sorted.length);
+			return sorted[Math.max(rank, 1) - 1];
+		}
+	}
+}
@@ -5,7 +5,11 @@ import android.content.Context;
 import android.content.SharedPreferences;
 import android.support.annotation.NonNull;
 import com.kin.ecosystem.common.Callback;
+import com.kin.ecosystem.core.network.JSON;
+import com.kin.ecosystem.core.network.model.OrderList;
 import com.kin.ecosystem.core.util.ExecutorsUtil;
+import com.kin.ecosystem.core.util.JsonFileUtil;
+import java.io.File;
 
 public class OrderLocalData implements OrderDataSource.Local {
 
@@ -15,11 +19,19 @@ public class OrderLocalData implements OrderDataSource.Local {
 
     private static final String IS_FIRST_SPEND_ORDER_KEY = "is_first_spend_order_key";
 
+    // One file per ecosystem user, e.g. kinecosystem_order_history_<user id>.json
+    private static final String ORDER_HISTORY_FILE_PREFIX = "kinecosystem_order_history";
+    private static final String ORDER_HISTORY_FILE_SUFFIX = ".json";
+
     private final SharedPreferences ordersSharedPreferences;
+    private final File filesDir;
+    private final JSON json;
     private final ExecutorsUtil executorsUtil;
 
     private OrderLocalData(@NonNull final Context context, @NonNull ExecutorsUtil executorsUtil) {
         this.ordersSharedPreferences = context.getSharedPreferences(ORDERS_PREF_NAME_FILE_KEY, Context.MODE_PRIVATE);
+        this.filesDir = context.getFilesDir();
+        this.json = new JSON();
         this.executorsUtil = executorsUtil;
     }
 
@@ -55,4 +67,43 @@ public class OrderLocalData implements OrderDataSource.Local {
     public void setIsFirstSpendOrder(boolean isFirstSpendOrder) {
         ordersSharedPreferences.edit().putBoolean(IS_FIRST_SPEND_ORDER_KEY, isFirstSpendOrder).apply();
     }
+
+    @Override
+    public void getOrderHistory(@NonNull final String userId, @NonNull final Callback<OrderList, Void> callback) {
+        executorsUtil.diskIO().execute(new Runnable() {
+            @Override
+            public void run() {
+                final OrderList orderList = JsonFileUtil
+                    .read(getOrderHistoryFile(userId), json.getGson(), OrderList.class);
+                executorsUtil.mainThread().execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        if (orderList != null) {
+                            callback.onResponse(orderList);
+                        } else {
+                            callback.onFailure(null);
+                        }
+                    }
+                });
+            }
+        });
+    }
+
+    @Override
+    public void setOrderHistory(@NonNull final String userId, @NonNull final OrderList orderList) {
+        executorsUtil.diskIO().execute(new Runnable() {
+            @Override
+            public void run() {
+                final File orderHistoryFile = getOrderHistoryFile(userId);
+                if (JsonFileUtil.write(orderHistoryFile, json.getGson(), orderList)) {
+                    // The history of the previous user is not shown anymore.
+                    JsonFileUtil.deleteOthers(filesDir, ORDER_HISTORY_FILE_PREFIX, orderHistoryFile);
+                }
+            }
+        });
+    }
+
+    private File getOrderHistoryFile(@NonNull String userId) {
+        return new File(filesDir, ORDER_HISTORY_FILE_PREFIX + "_" + userId + ORDER_HISTORY_FILE_SUFFIX);
+    }
 }
@@ -0,0 +1,303 @@
+package com.kin.ecosystem.core.data.order;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import com.kin.ecosystem.common.Callback;
+import com.kin.ecosystem.core.Log;
+import com.kin.ecosystem.core.Logger;
+import com.kin.ecosystem.core.network.ApiException;
+import com.kin.ecosystem.core.network.model.Order;
+import com.kin.ecosystem.core.network.model.Order.Status;
+import com.kin.ecosystem.core.network.model.OrderList;
+import com.kin.ecosystem.core.util.ErrorUtil;
+import com.kin.ecosystem.core.util.ExecutorsUtil;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Polls submitted orders until they are no longer pending.
+ * The shared scheduler thread times the polls of all the pending orders, instead of a sleeping thread per order,
+ * and the polls themselves run on the network pool.
+ * Polls that are due at about the same time are resolved together with one order history request.
+ * Concurrent polls of the same order share one task, so they share the network calls and the result.
+ */
+class OrderPollingScheduler {
+
+    private static final String TAG = OrderPollingScheduler.class.getSimpleName();
+
+    private static final int[] DELAY_SECONDS = {2, 4, 8, 16, 32, 32, 32, 32, 32};
+    private static final int DELAYED_ATTEMPTED_NUMBER = 5;
+
+    // Polls that are due within this window are sent together with the one that is due now.
+    private static final long BATCH_WINDOW_MILLIS = 1000;
+    // Pending orders are the latest ones, leave room for orders that were created after them.
+    private static final int HISTORY_LIMIT_MARGIN = 10;
+    private static final int MAX_HISTORY_LIMIT = 100;
+
+    private static volatile OrderPollingScheduler instance;
+
+    private final ScheduledExecutorService scheduler;
+    private final Executor networkIO;
+
+    // Guarded by this, a task is either waiting for its next poll or in flight.
+    private final Map<String, PollingTask> tasks = new LinkedHashMap<>();
+
+    private OrderPollingScheduler(@NonNull ScheduledExecutorService scheduler, @NonNull Executor networkIO) {
+        this.scheduler = scheduler;
+        this.networkIO = networkIO;
+    }
+
+    static OrderPollingScheduler getInstance(@NonNull ExecutorsUtil executorsUtil) {
+        if (instance == null) {
+            synchronized (OrderPollingScheduler.class) {
+                if (instance == null) {
+                    instance = new OrderPollingScheduler(executorsUtil.scheduled(), executorsUtil.networkIO());
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Poll the order until it is not pending anymore or until polling timed out.
+     * If the order is already polled the callback joins the existing poll. A waiting poll is sent now,
+     * and its attempts start over, so the new caller gets the full polling time. A caller that joins while
+     * a poll is in flight continues from the attempt of that poll.
+     * The callback is called on a network thread, {@link Status#DELAYED} is reported once per poll
+     * when the order is pending for too long, and polling continues after it.
+     */
+    synchronized void poll(@NonNull OrderDataSource.Remote remote, @NonNull String orderID,
+        @NonNull Callback<Order, ApiException> callback) {
+        PollingTask task = tasks.get(orderID);
+        if (task == null) {
+            task = new PollingTask(remote, orderID);
+            tasks.put(orderID, task);
+            schedule(task, 0);
+        } else if (!task.isInFlight && task.future.cancel(false)) {
+            // Someone is waiting for this order now, don't let them wait for the backoff or time out early.
+            task.attempt = 0;
+            schedule(task, 0);
+        }
+        task.callbacks.add(callback);
+    }
+
+    /**
+     * Remove the callback from the poll of the order, it is never called after that.
+     * The order is not polled anymore when no callbacks are left.
+     *
+     * @return true if the callback was waiting for the order.
+     */
+    synchronized boolean cancel(@NonNull String orderID, @NonNull Callback<Order, ApiException> callback) {
+        final PollingTask task = tasks.get(orderID);
+        if (task == null || !task.callbacks.remove(callback)) {
+            return false;
+        }
+        if (task.callbacks.isEmpty()) {
+            tasks.remove(orderID);
+            if (!task.isInFlight) {
+                task.future.cancel(false);
+            }
+        }
+        return true;
+    }
+
+    private void schedule(final PollingTask task, long delayMillis) {
+        task.dueAt = now() + delayMillis;
+        task.future = scheduler.schedule(new Runnable() {
+            @Override
+            public void run() {
+                networkIO.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        poll(task);
+                    }
+                });
+            }
+        }, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void poll(PollingTask trigger) {
+        final List<PollingTask> batch = takeBatch(trigger);
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        Map<String, Order> orders;
+        try {
+            orders = fetchOrders(trigger.remote, batch);
+        } catch (RuntimeException e) {
+            // Polled again after the backoff, like orders that were not found.
+            Logger.log(Log.create(TAG).priority(Log.ERROR).put("Poll failed", e.getMessage()));
+            orders = Collections.emptyMap();
+        }
+        for (PollingTask task : batch) {
+            try {
+                onPolled(task, orders.get(task.orderID));
+            } catch (RuntimeException e) {
+                Logger.log(Log.create(TAG).priority(Log.ERROR).put("Poll failed", e.getMessage()));
+            } finally {
+                // A task that is left in flight is never polled or finished again, and callers that join it hang.
+                rescheduleIfInFlight(task);
+            }
+        }
+    }
+
+    private synchronized List<PollingTask> takeBatch(PollingTask trigger) {
+        if (tasks.get(trigger.orderID) != trigger || trigger.isInFlight) {
+            // Already polled with an earlier batch, or cancelled.
+            return Collections.emptyList();
+        }
+        final List<PollingTask> batch = new ArrayList<>();
+        for (PollingTask task : tasks.values()) {
+            if (!task.isInFlight && task.remote == trigger.remote
+                && task.dueAt <= trigger.dueAt + BATCH_WINDOW_MILLIS) {
+                task.future.cancel(false);
+                task.isInFlight = true;
+                batch.add(task);
+            }
+        }
+        return batch;
+    }
+
+    private Map<String, Order> fetchOrders(OrderDataSource.Remote remote, List<PollingTask> batch) {
+        final Map<String, Order> orders = new HashMap<>();
+        final List<String> orderIDs = new ArrayList<>();
+        for (PollingTask task : batch) {
+            if (!task.isExpired()) {
+                orderIDs.add(task.orderID);
+            }
+        }
+
+        if (orderIDs.size() > 1) {
+            final int limit = Math.min(orderIDs.size() + HISTORY_LIMIT_MARGIN, MAX_HISTORY_LIMIT);
+            final OrderList history = remote.getOrderHistorySync(limit);
+            if (history != null && history.getOrders() != null) {
+                for (Order order : history.getOrders()) {
+                    if (order != null && orderIDs.contains(order.getOrderId())) {
+                        orders.put(order.getOrderId(), order);
+                    }
+                }
+            }
+            Logger.log(Log.create(TAG).put("Batch polled orders", orderIDs.size())
+                .put("found in history", orders.size()));
+        }
+
+        // Orders that were not in the history, or a single order, are fetched one by one.
+        for (String orderID : orderIDs) {
+            if (!orders.containsKey(orderID)) {
+                final Order order = remote.getOrderSync(orderID);
+                if (order != null) {
+                    orders.put(orderID, order);
+                }
+            }
+        }
+        return orders;
+    }
+
+    private void onPolled(PollingTask task, @Nullable Order order) {
+        if (task.isExpired()) {
+            notifyFailure(finish(task), ErrorUtil.createOrderTimeoutException());
+            return;
+        }
+
+        if (order == null || order.getStatus() == Status.PENDING) {
+            if (order != null && !task.isDelayedReported && task.attempt >= DELAYED_ATTEMPTED_NUMBER) {
+                task.isDelayedReported = true;
+                order.status(Status.DELAYED);
+                notifyResponse(getCallbacks(task), order);
+            }
+            final long delayMillis = TimeUnit.SECONDS.toMillis(DELAY_SECONDS[task.attempt]);
+            task.attempt++;
+            reschedule(task, delayMillis);
+        } else {
+            notifyResponse(finish(task), order);
+        }
+    }
+
+    // A callback that throws must not keep the other callers of the order from being notified.
+    private static void notifyResponse(List<Callback<Order, ApiException>> callbacks, Order order) {
+        for (Callback<Order, ApiException> callback : callbacks) {
+            try {
+                callback.onResponse(order);
+            } catch (RuntimeException e) {
+                Logger.log(Log.create(TAG).priority(Log.ERROR).put("Poll callback failed", e.getMessage()));
+            }
+        }
+    }
+
+    private static void notifyFailure(List<Callback<Order, ApiException>> callbacks, ApiException error) {
+        for (Callback<Order, ApiException> callback : callbacks) {
+            try {
+                callback.onFailure(error);
+            } catch (RuntimeException e) {
+                Logger.log(Log.create(TAG).priority(Log.ERROR).put("Poll callback failed", e.getMessage()));
+            }
+        }
+    }
+
+    /**
+     * @return the callbacks to notify, empty if the task was cancelled while it was in flight.
+     */
+    private synchronized List<Callback<Order, ApiException>> finish(PollingTask task) {
+        if (tasks.get(task.orderID) != task) {
+            return Collections.emptyList();
+        }
+        tasks.remove(task.orderID);
+        return new ArrayList<>(task.callbacks);
+    }
+
+    private synchronized List<Callback<Order, ApiException>> getCallbacks(PollingTask task) {
+        if (tasks.get(task.orderID) != task) {
+            return Collections.emptyList();
+        }
+        return new ArrayList<>(task.callbacks);
+    }
+
+    private synchronized void reschedule(PollingTask task, long delayMillis) {
+        if (tasks.get(task.orderID) == task) {
+            task.isInFlight = false;
+            schedule(task, delayMillis);
+        }
+    }
+
+    private synchronized void rescheduleIfInFlight(PollingTask task) {
+        if (tasks.get(task.orderID) == task && task.isInFlight) {
+            final int attempt = Math.min(task.attempt, DELAY_SECONDS.length - 1);
+            reschedule(task, TimeUnit.SECONDS.toMillis(DELAY_SECONDS[attempt]));
+        }
+    }
+
+    private static long now() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+    }
+
+    private static class PollingTask {
+
+        private final OrderDataSource.Remote remote;
+        private final String orderID;
+        private final List<Callback<Order, ApiException>> callbacks = new ArrayList<>();
+
+        private int attempt;
+        private long dueAt;
+        private ScheduledFuture<?> future;
+        private boolean isInFlight;
+        private boolean isDelayedReported;
+
+        PollingTask(OrderDataSource.Remote remote, String orderID) {
+            this.remote = remote;
+            this.orderID = orderID;
+        }
+
+        boolean isExpired() {
+            return attempt >= DELAY_SECONDS.length;
+        }
+    }
+}
@@ -48,7 +48,13 @@ public class OrderRemoteData implements OrderDataSource.Remote {
 
     @Override
     public void getAllOrderHistory(@NonNull final Callback<OrderList, ApiException> callback) {
-        getHistory(null, null, ORDERS_ITEMS_LIMIT, callback);
+        getHistory(null, null, ORDERS_ITEMS_LIMIT, null, callback);
+    }
+
+    @Override
+    public void getNewerOrderHistory(@NonNull String beforeCursor,
+        @NonNull final Callback<OrderList, ApiException> callback) {
+        getHistory(null, null, ORDERS_ITEMS_LIMIT, beforeCursor, callback);
     }
 
     @Override
@@ -194,33 +200,18 @@ public class OrderRemoteData implements OrderDataSource.Remote {
             ordersApi.cancelOrder(orderID, "");
         } catch (ApiException e) {
 			Logger
-                .log(new Log().withTag(TAG).priority(Log.ERROR).put("Cancel order", orderID).put("sync failed, code", e.getCode()));
+                .log(Log.create(TAG).priority(Log.ERROR).put("Cancel order", orderID).put("sync failed, code", e.getCode()));
         }
     }
 
     @Override
     public void getOrder(String orderID, final Callback<Order, ApiException> callback) {
-        new GetOrderPollingCall(this, orderID, new Callback<Order, ApiException>() {
-            @Override
-            public void onResponse(final Order result) {
-                executorsUtil.mainThread().execute(new Runnable() {
-                    @Override
-                    public void run() {
-                        callback.onResponse(result);
-                    }
-                });
-            }
+        OrderPollingScheduler.getInstance(executorsUtil).poll(this, orderID, new MainThreadCallback(callback));
+    }
 
-            @Override
-            public void onFailure(final ApiException e) {
-                executorsUtil.mainThread().execute(new Runnable() {
-                    @Override
-                    public void run() {
-                        callback.onFailure(e);
-                    }
-                });
-            }
-        }).start();
+    @Override
+    public boolean cancelGetOrder(@NonNull String orderID, @NonNull Callback<Order, ApiException> callback) {
+        return OrderPollingScheduler.getInstance(executorsUtil).cancel(orderID, new MainThreadCallback(callback));
     }
 
     @Override
@@ -229,11 +220,23 @@ public class OrderRemoteData implements OrderDataSource.Remote {
         try {
             order = ordersApi.getOrder(orderID, "");
         } catch (ApiException e) {
-			Logger.log(new Log().withTag(TAG).priority(Log.ERROR).put("Get order", orderID).put("sync failed, code",e.getCode()));
+			Logger.log(Log.create(TAG).priority(Log.ERROR).put("Get order", orderID).put("sync failed, code",e.getCode()));
         }
         return order;
     }
 
+    @Nullable
+    @Override
+    public OrderList getOrderHistorySync(int limit) {
+        OrderList orderList = null;
+        try {
+            orderList = ordersApi.getHistory("", null, null, limit, null, null);
+        } catch (ApiException e) {
+            Logger.log(Log.create(TAG).priority(Log.ERROR).put("Get order history", limit).put("sync failed, code", e.getCode()));
+        }
+        return orderList;
+    }
+
     public OpenOrder createExternalOrderSync(String orderJwt) throws ApiException {
         return ordersApi.createExternalOrder(new ExternalOrderRequest().jwt(orderJwt), "");
     }
@@ -241,7 +244,7 @@ public class OrderRemoteData implements OrderDataSource.Remote {
     @Override
     public void getFilteredOrderHistory(@Nullable String origin, @NonNull String offerID,
         @NonNull Callback<OrderList, ApiException> callback) {
-        getHistory(origin, offerID, ONE_ORDER_LIMIT, callback);
+        getHistory(origin, offerID, ONE_ORDER_LIMIT, null, callback);
     }
 
     @Override
@@ -288,10 +291,10 @@ public class OrderRemoteData implements OrderDataSource.Remote {
         }
     }
 
-    private void getHistory(@Nullable String origin, @Nullable String offerID, int limit,
+    private void getHistory(@Nullable String origin, @Nullable String offerID, int limit, @Nullable String before,
         @NonNull final Callback<OrderList, ApiException> callback) {
         try {
-            ordersApi.getHistoryAsync("", origin, offerID, limit, null, null, new ApiCallback<OrderList>() {
+            ordersApi.getHistoryAsync("", origin, offerID, limit, before, null, new ApiCallback<OrderList>() {
                 @Override
                 public void onFailure(final ApiException e, int statusCode, Map<String, List<String>> responseHeaders) {
                     executorsUtil.mainThread().execute(new Runnable() {
@@ -332,4 +335,47 @@ public class OrderRemoteData implements OrderDataSource.Remote {
             });
         }
     }
+
+    /**
+     * Calls the callback on the main thread. Equal to the other MainThreadCallbacks of the same callback,
+     * so a poll is cancelled with the callback it was started with.
+     */
+    private class MainThreadCallback implements Callback<Order, ApiException> {
+
+        private final Callback<Order, ApiException> callback;
+
+        MainThreadCallback(@NonNull Callback<Order, ApiException> callback) {
+            this.callback = callback;
+        }
+
+        @Override
+        public void onResponse(final Order result) {
+            executorsUtil.mainThread().execute(new Runnable() {
+                @Override
+                public void run() {
+                    callback.onResponse(result);
+                }
+            });
+        }
+
+        @Override
+        public void onFailure(final ApiException e) {
+            executorsUtil.mainThread().execute(new Runnable() {
+                @Override
+                public void run() {
+                    callback.onFailure(e);
+                }
+            });
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof MainThreadCallback && ((MainThreadCallback) o).callback == callback;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(callback);
+        }
+    }
 }
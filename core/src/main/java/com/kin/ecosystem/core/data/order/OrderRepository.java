@@ -13,6 +13,7 @@ import com.kin.ecosystem.common.exception.ClientException;
 import com.kin.ecosystem.common.exception.DataNotAvailableException;
 import com.kin.ecosystem.common.exception.KinEcosystemException;
 import com.kin.ecosystem.common.model.OrderConfirmation;
+import com.kin.ecosystem.common.model.OrderLatency;
 import com.kin.ecosystem.core.Log;
 import com.kin.ecosystem.core.Logger;
 import com.kin.ecosystem.core.bi.EventLogger;
@@ -21,6 +22,7 @@ import com.kin.ecosystem.core.bi.events.SpendOrderCompleted;
 import com.kin.ecosystem.core.bi.events.SpendOrderCompletionSubmitted;
 import com.kin.ecosystem.core.bi.events.SpendOrderCreationRequested;
 import com.kin.ecosystem.core.bi.events.SpendOrderFailed;
+import com.kin.ecosystem.core.data.auth.AuthDataSource;
 import com.kin.ecosystem.core.data.blockchain.BlockchainSource;
 import com.kin.ecosystem.core.data.blockchain.Payment;
 import com.kin.ecosystem.core.data.order.CreateExternalOrderCall.ExternalOrderCallbacks;
@@ -35,20 +37,33 @@ import com.kin.ecosystem.core.network.model.Order;
 import com.kin.ecosystem.core.network.model.Order.Origin;
 import com.kin.ecosystem.core.network.model.Order.Status;
 import com.kin.ecosystem.core.network.model.OrderList;
+import com.kin.ecosystem.core.network.model.Paging;
+import com.kin.ecosystem.core.network.model.PagingCursors;
 import com.kin.ecosystem.core.util.ErrorUtil;
+import com.kin.ecosystem.core.util.ExecutorsUtil;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicInteger;
 
 public class OrderRepository implements OrderDataSource {
 
 	private static final String TAG = OrderRepository.class.getSimpleName();
 
+	private static final int MAX_ORDER_HISTORY_SIZE = 100;
+
 	private static OrderRepository instance = null;
 	private final OrderDataSource.Local localData;
+	private final AuthDataSource authRepository;
 	private final OrderDataSource.Remote remoteData;
 
 	private final BlockchainSource blockchainSource;
 	private final EventLogger eventLogger;
+	private final ExecutorsUtil executorsUtil;
+	private final OrderLatencyTracker latencyTracker;
 
 	private OrderList cachedOrderList;
 	private ObservableData<OpenOrder> cachedOpenOrder = ObservableData.create();
@@ -56,6 +71,8 @@ public class OrderRepository implements OrderDataSource {
 	private Observer<Payment> paymentObserver;
 
 	private volatile AtomicInteger pendingOrdersCount = new AtomicInteger(0);
+	// The callback that polls each order, to cancel only this repository's poll of it.
+	private final ConcurrentMap<String, Callback<Order, ApiException>> orderPollCallbacks = new ConcurrentHashMap<>();
 
 	private final Object paymentObserversLock = new Object();
 	private int paymentObserverCount;
@@ -63,22 +80,30 @@ public class OrderRepository implements OrderDataSource {
 	private OrderRepository(@NonNull final BlockchainSource blockchainSource,
 		@NonNull final EventLogger eventLogger,
 		@NonNull final OrderDataSource.Remote remoteData,
-		@NonNull final OrderDataSource.Local localData) {
+		@NonNull final OrderDataSource.Local localData,
+		@NonNull final AuthDataSource authRepository,
+		@NonNull final ExecutorsUtil executorsUtil) {
 		this.remoteData = remoteData;
 		this.localData = localData;
+		this.authRepository = authRepository;
 		this.blockchainSource = blockchainSource;
 		this.eventLogger = eventLogger;
+		this.executorsUtil = executorsUtil;
+		this.latencyTracker = new OrderLatencyTracker(eventLogger);
+		loadCachedOrderHistory();
 	}
 
 	public static void init(@NonNull final BlockchainSource blockchainSource,
 		@NonNull final EventLogger eventLogger,
 		@NonNull final OrderDataSource.Remote remoteData,
-		@NonNull final OrderDataSource.Local localData) {
+		@NonNull final OrderDataSource.Local localData,
+		@NonNull final AuthDataSource authRepository,
+		@NonNull final ExecutorsUtil executorsUtil) {
 		if (instance == null) {
 			synchronized (OrderRepository.class) {
 				if (instance == null) {
 					instance = new OrderRepository(blockchainSource, eventLogger, remoteData,
-						localData);
+						localData, authRepository, executorsUtil);
 				}
 			}
 		}
@@ -92,31 +117,154 @@ public class OrderRepository implements OrderDataSource {
 		return cachedOrderList;
 	}
 
-	@Override
-	public void getAllOrderHistory(@NonNull final KinCallback<OrderList> callback) {
-		remoteData.getAllOrderHistory(new Callback<OrderList, ApiException>() {
+	private void loadCachedOrderHistory() {
+		final String userId = authRepository.getEcosystemUserID();
+		if (userId == null) {
+			// Not signed in yet, there is no saved history.
+			return;
+		}
+		localData.getOrderHistory(userId, new Callback<OrderList, Void>() {
 			@Override
 			public void onResponse(OrderList response) {
-				cachedOrderList = response;
-				callback.onResponse(response);
+				// Don't override a fresher list that arrived from the server in the meantime.
+				if (cachedOrderList == null) {
+					cachedOrderList = response;
+				}
 			}
 
 			@Override
-			public void onFailure(ApiException e) {
-				callback.onFailure(ErrorUtil.fromApiException(e));
+			public void onFailure(Void t) {
+				// No saved history.
 			}
 		});
 	}
 
+	@Override
+	public void getAllOrderHistory(@NonNull final KinCallback<OrderList> callback) {
+		final OrderList cached = cachedOrderList;
+		final String beforeCursor = getBeforeCursor(cached);
+		// Pending orders can change, so they can't be synced with the cursor, get the whole history instead.
+		if (beforeCursor == null || hasOpenOrders(cached)) {
+			remoteData.getAllOrderHistory(new Callback<OrderList, ApiException>() {
+				@Override
+				public void onResponse(OrderList response) {
+					setCachedOrderList(response);
+					callback.onResponse(response);
+				}
+
+				@Override
+				public void onFailure(ApiException e) {
+					callback.onFailure(ErrorUtil.fromApiException(e));
+				}
+			});
+		} else {
+			remoteData.getNewerOrderHistory(beforeCursor, new Callback<OrderList, ApiException>() {
+				@Override
+				public void onResponse(OrderList response) {
+					final OrderList orderList = mergeNewerOrders(cached, response);
+					setCachedOrderList(orderList);
+					callback.onResponse(orderList);
+				}
+
+				@Override
+				public void onFailure(ApiException e) {
+					callback.onFailure(ErrorUtil.fromApiException(e));
+				}
+			});
+		}
+	}
+
+	private void setCachedOrderList(OrderList orderList) {
+		cachedOrderList = orderList;
+		final String userId = authRepository.getEcosystemUserID();
+		if (orderList != null && userId != null) {
+			localData.setOrderHistory(userId, orderList);
+		}
+	}
+
+	@Nullable
+	private static String getBeforeCursor(@Nullable OrderList orderList) {
+		if (orderList != null && orderList.getPaging() != null && orderList.getPaging().getCursors() != null) {
+			return orderList.getPaging().getCursors().getBefore();
+		}
+		return null;
+	}
+
+	private static boolean hasOpenOrders(@NonNull OrderList orderList) {
+		if (orderList.getOrders() != null) {
+			for (Order order : orderList.getOrders()) {
+				if (order.getStatus() == Status.PENDING || order.getStatus() == Status.DELAYED) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Put the newer orders at the top of the cached orders, newest first as the server returns them.
+	 * The merged list is capped as a full history response, so if the newer orders filled a whole page
+	 * there is no gap between the two lists.
+	 */
+	private static OrderList mergeNewerOrders(@NonNull OrderList cached, @Nullable OrderList newer) {
+		if (newer == null || newer.getOrders() == null || newer.getOrders().isEmpty()) {
+			return cached;
+		}
+
+		final List<Order> merged = new ArrayList<>(newer.getOrders());
+		// An order that changed since it was cached, e.g. pending to completed, is replaced by its newer copy.
+		final Set<String> newerOrderIds = new HashSet<>();
+		for (Order order : merged) {
+			newerOrderIds.add(order.getOrderId());
+		}
+		if (cached.getOrders() != null) {
+			for (Order order : cached.getOrders()) {
+				if (merged.size() >= MAX_ORDER_HISTORY_SIZE) {
+					break;
+				}
+				if (!newerOrderIds.contains(order.getOrderId())) {
+					merged.add(order);
+				}
+			}
+		}
+
+		PagingCursors cursors = new PagingCursors().before(getBeforeCursor(newer));
+		if (cursors.getBefore() == null) {
+			cursors.before(getBeforeCursor(cached));
+		}
+		if (cached.getPaging() != null && cached.getPaging().getCursors() != null) {
+			cursors.after(cached.getPaging().getCursors().getAfter());
+		}
+		return new OrderList().orders(merged).paging(new Paging().cursors(cursors));
+	}
+
 	public ObservableData<OpenOrder> getOpenOrder() {
 		return cachedOpenOrder;
 	}
 
+	/**
+	 * @return the p50, p95 and p99 of each phase of the recent completed orders, per offer type and origin.
+	 */
+	public List<OrderLatency> getOrderLatencies() {
+		return latencyTracker.getLatencies();
+	}
+
+	/**
+	 * Send the phase durations of every finished order as a BI event.
+	 */
+	public void setSendOrderLatencyEvents(boolean sendOrderLatencyEvents) {
+		latencyTracker.setSendEvents(sendOrderLatencyEvents);
+	}
+
 	@Override
 	public void createOrder(@NonNull final String offerID, @Nullable final KinCallback<OpenOrder> callback) {
+		final OrderTimeline timeline = latencyTracker.start(Origin.MARKETPLACE, null);
 		remoteData.createOrder(offerID, new Callback<OpenOrder, ApiException>() {
 			@Override
 			public void onResponse(OpenOrder response) {
+				if (response != null) {
+					latencyTracker.onCreated(timeline, response);
+				}
 				cachedOpenOrder.postValue(response);
 				if (callback != null) {
 					callback.onResponse(response);
@@ -125,6 +273,7 @@ public class OrderRepository implements OrderDataSource {
 
 			@Override
 			public void onFailure(ApiException e) {
+				latencyTracker.onFinished(timeline, OrderLatencyTracker.OUTCOME_FAILED);
 				if (callback != null) {
 					callback.onFailure(ErrorUtil.fromApiException(e));
 				}
@@ -136,9 +285,11 @@ public class OrderRepository implements OrderDataSource {
 	public void submitOrder(@NonNull final String offerID, @Nullable String content, @NonNull final String orderID,
 		@Nullable final KinCallback<Order> callback) {
 		listenForCompletedPayment();
+		latencyTracker.onSubmitRequested(orderID);
 		remoteData.submitOrder(content, orderID, new Callback<Order, ApiException>() {
 			@Override
 			public void onResponse(Order response) {
+				latencyTracker.onSubmitted(orderID);
 				pendingOrdersCount.incrementAndGet();
 				getOrderWatcher().postValue(response);
 				if (callback != null) {
@@ -148,6 +299,7 @@ public class OrderRepository implements OrderDataSource {
 
 			@Override
 			public void onFailure(ApiException e) {
+				latencyTracker.onFinished(orderID, OrderLatencyTracker.OUTCOME_FAILED);
 				getOrderWatcher().postValue(
 					new Order().orderId(orderID).offerId(offerID).status(Status.FAILED).error(e.getResponseBody()));
 				removeCachedOpenOrderByID(orderID);
@@ -164,6 +316,7 @@ public class OrderRepository implements OrderDataSource {
 				paymentObserver = new Observer<Payment>() {
 					@Override
 					public void onChanged(Payment payment) {
+						latencyTracker.onPaymentObserved(payment.getOrderID());
 						if(!payment.isSucceed()) {
 							BlockchainException blockchainException = ErrorUtil.getBlockchainException(payment.getException());
 							final Error error = new Error("Transaction failed", blockchainException.getMessage(), blockchainException.getCode());
@@ -177,7 +330,7 @@ public class OrderRepository implements OrderDataSource {
 					}
 				};
 				blockchainSource.addPaymentObservable(paymentObserver);
-				Logger.log(new Log().withTag(TAG).text("listenForCompletedPayment: addPaymentObservable"));
+				Logger.log(Log.create(TAG).text("listenForCompletedPayment: addPaymentObservable"));
 			}
 			paymentObserverCount++;
 		}
@@ -203,9 +356,14 @@ public class OrderRepository implements OrderDataSource {
 	}
 
 	private void getOrder(final String orderID) {
-		remoteData.getOrder(orderID, new Callback<Order, ApiException>() {
+		final Callback<Order, ApiException> callback = new Callback<Order, ApiException>() {
 			@Override
 			public void onResponse(Order order) {
+				if (order.getStatus() != Status.DELAYED) {
+					orderPollCallbacks.remove(orderID, this);
+				}
+				latencyTracker.onFinished(orderID,
+					order.getStatus() != null ? order.getStatus().getValue() : OrderLatencyTracker.OUTCOME_FAILED);
 				decrementPendingOrdersCount();
 				getOrderWatcher().postValue(order);
 				sendSpendOrderCompleted(order);
@@ -216,9 +374,13 @@ public class OrderRepository implements OrderDataSource {
 
 			@Override
 			public void onFailure(ApiException t) {
+				orderPollCallbacks.remove(orderID, this);
+				latencyTracker.onFinished(orderID, OrderLatencyTracker.getOutcome(t));
 				decrementPendingOrdersCount();
 			}
-		});
+		};
+		orderPollCallbacks.put(orderID, callback);
+		remoteData.getOrder(orderID, callback);
 	}
 
 	private void decrementPendingOrdersCount() {
@@ -269,7 +431,13 @@ public class OrderRepository implements OrderDataSource {
 	@Override
 	public void cancelOrder(@NonNull final String offerID, @NonNull final String orderID,
 		@Nullable final KinCallback<Void> callback) {
+		latencyTracker.onCancelled(orderID);
 		removeCachedOpenOrderByID(orderID);
+		final Callback<Order, ApiException> pollCallback = orderPollCallbacks.remove(orderID);
+		if (pollCallback != null && remoteData.cancelGetOrder(orderID, pollCallback)) {
+			// The poll callback will not be called anymore.
+			decrementPendingOrdersCount();
+		}
 		remoteData.cancelOrder(orderID, new Callback<Void, ApiException>() {
 			@Override
 			public void onResponse(Void response) {
@@ -290,8 +458,8 @@ public class OrderRepository implements OrderDataSource {
 	@Override
 	public void purchase(String offerJwt, @Nullable final KinCallback<OrderConfirmation> callback) {
 		eventLogger.send(SpendOrderCreationRequested.create("", true));
-		new ExternalSpendOrderCall(remoteData, blockchainSource, offerJwt, eventLogger,
-			new ExternalSpendOrderCallbacks() {
+		executorsUtil.networkIO().execute(new ExternalSpendOrderCall(remoteData, blockchainSource, offerJwt,
+			eventLogger, executorsUtil, latencyTracker, new ExternalSpendOrderCallbacks() {
 				@Override
 				public void onOrderCreated(OpenOrder openOrder) {
 					cachedOpenOrder.postValue(openOrder);
@@ -356,7 +524,7 @@ public class OrderRepository implements OrderDataSource {
 					}
 				}
 
-			}).start();
+			}));
 	}
 
 	/**
@@ -388,7 +556,8 @@ public class OrderRepository implements OrderDataSource {
 
 	@Override
 	public void requestPayment(String offerJwt, final KinCallback<OrderConfirmation> callback) {
-		new ExternalEarnOrderCall(remoteData, blockchainSource, offerJwt, eventLogger, new ExternalOrderCallbacks() {
+		executorsUtil.networkIO().execute(new ExternalEarnOrderCall(remoteData, blockchainSource, offerJwt,
+			eventLogger, executorsUtil, latencyTracker, new ExternalOrderCallbacks() {
 			@Override
 			public void onOrderCreated(OpenOrder openOrder) {
 				cachedOpenOrder.postValue(openOrder);
@@ -420,7 +589,7 @@ public class OrderRepository implements OrderDataSource {
 					callback.onFailure(exception);
 				}
 			}
-		}).start();
+		}));
 	}
 
 	private OrderConfirmation createOrderConfirmation(String confirmationJwt) {
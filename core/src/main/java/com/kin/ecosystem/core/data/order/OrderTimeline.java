@@ -0,0 +1,151 @@
+package com.kin.ecosystem.core.data.order;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import com.kin.ecosystem.core.network.model.Offer.OfferType;
+import com.kin.ecosystem.core.network.model.OpenOrder;
+import com.kin.ecosystem.core.network.model.Order.Origin;
+
+/**
+ * When one order reached each step, the phases between the steps are what {@link OrderLatencyTracker} measures.
+ * Steps are kept the first time they are reached, so it doesn't matter which of the order flows reports them first.
+ */
+class OrderTimeline {
+
+	static final String CREATE = "create";
+	static final String SUBMIT = "submit";
+	static final String BLOCKCHAIN = "blockchain";
+	static final String CONFIRM = "confirm";
+	static final String TOTAL = "total";
+
+	static final String[] PHASES = {CREATE, SUBMIT, BLOCKCHAIN, CONFIRM, TOTAL};
+
+	private static final long NOT_REACHED = -1;
+
+	private final Origin origin;
+	private final long startTimeMillis = System.currentTimeMillis();
+	private final long startedAt = System.nanoTime();
+
+	// Guarded by this, the steps are nanos since the order started.
+	private OfferType offerType;
+	private String orderId;
+	private String offerId;
+	private long createdAt = NOT_REACHED;
+	private long submitRequestedAt = NOT_REACHED;
+	private long submittedAt = NOT_REACHED;
+	private long paymentObservedAt = NOT_REACHED;
+	private long finishedAt = NOT_REACHED;
+
+	OrderTimeline(@NonNull Origin origin, @Nullable OfferType offerType) {
+		this.origin = origin;
+		this.offerType = offerType;
+	}
+
+	synchronized void markCreated(@NonNull OpenOrder openOrder) {
+		if (createdAt == NOT_REACHED) {
+			createdAt = elapsed();
+		}
+		orderId = openOrder.getId();
+		offerId = openOrder.getOfferId();
+		if (openOrder.getOfferType() != null) {
+			offerType = openOrder.getOfferType();
+		}
+	}
+
+	synchronized void markSubmitRequested() {
+		if (submitRequestedAt == NOT_REACHED) {
+			submitRequestedAt = elapsed();
+		}
+	}
+
+	synchronized void markSubmitted() {
+		if (submittedAt == NOT_REACHED) {
+			submittedAt = elapsed();
+		}
+	}
+
+	synchronized void markPaymentObserved() {
+		if (paymentObservedAt == NOT_REACHED) {
+			paymentObservedAt = elapsed();
+		}
+	}
+
+	/**
+	 * @return false if the order was already finished.
+	 */
+	synchronized boolean markFinished() {
+		if (finishedAt != NOT_REACHED) {
+			return false;
+		}
+		finishedAt = elapsed();
+		return true;
+	}
+
+	/**
+	 * @return the duration of the phase, or -1 if the order didn't reach both of its steps.
+	 */
+	synchronized long getPhaseNanos(String phase) {
+		final long start = getPhaseStart(phase);
+		final long end = getPhaseEnd(phase);
+		return start != NOT_REACHED && end != NOT_REACHED && end >= start ? end - start : NOT_REACHED;
+	}
+
+	/**
+	 * @return the wall clock time in millis when the phase started.
+	 */
+	synchronized long getPhaseStartTimeMillis(String phase) {
+		return startTimeMillis + getPhaseStart(phase) / 1000000;
+	}
+
+	private long getPhaseStart(String phase) {
+		switch (phase) {
+			case SUBMIT:
+				return submitRequestedAt;
+			case BLOCKCHAIN:
+				// A spend transaction is sent when the order is submitted, an earn payment is sent by the server
+				// once the submit is accepted.
+				return offerType == OfferType.SPEND ? submitRequestedAt : submittedAt;
+			case CONFIRM:
+				return paymentObservedAt;
+			default:
+				return 0;
+		}
+	}
+
+	private long getPhaseEnd(String phase) {
+		switch (phase) {
+			case CREATE:
+				return createdAt;
+			case SUBMIT:
+				return submittedAt;
+			case BLOCKCHAIN:
+				return paymentObservedAt;
+			default:
+				return finishedAt;
+		}
+	}
+
+	private long elapsed() {
+		return System.nanoTime() - startedAt;
+	}
+
+	@NonNull
+	Origin getOrigin() {
+		return origin;
+	}
+
+	@Nullable
+	synchronized OfferType getOfferType() {
+		return offerType;
+	}
+
+	@Nullable
+	synchronized String getOrderId() {
+		return orderId;
+	}
+
+	@Nullable
+	synchronized String getOfferId() {
+		return offerId;
+	}
+}
@@ -5,6 +5,7 @@
 package com.kin.ecosystem.core.network;
 
 import android.support.annotation.StringDef;
+import com.google.gson.JsonParseException;
 import com.google.gson.reflect.TypeToken;
 import java.io.File;
 import java.io.IOException;
@@ -13,6 +14,7 @@ import java.io.UnsupportedEncodingException;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.reflect.Type;
+import java.net.HttpURLConnection;
 import java.net.URLConnection;
 import java.net.URLEncoder;
 import java.security.GeneralSecurityException;
@@ -41,8 +43,10 @@ import javax.net.ssl.SSLSession;
 import javax.net.ssl.TrustManagerFactory;
 import javax.net.ssl.X509TrustManager;
 import kin.ecosystem.core.BuildConfig;
+import com.kin.ecosystem.core.Tracer;
 import com.kin.ecosystem.core.network.model.Error;
 import com.kin.ecosystem.core.util.StringUtil;
+import okhttp3.Authenticator;
 import okhttp3.Call;
 import okhttp3.Callback;
 import okhttp3.FormBody;
@@ -54,6 +58,7 @@ import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.RequestBody;
 import okhttp3.Response;
+import okhttp3.ResponseBody;
 import okhttp3.internal.http.HttpMethod;
 import okhttp3.logging.HttpLoggingInterceptor;
 import okio.BufferedSink;
@@ -74,7 +79,14 @@ public class ApiClient {
     private boolean verifyingSsl;
     private KeyManager[] keyManagers;
 
+    /**
+     * Root client, every {@link ApiClient} derives its builder from it so the connection pool and the dispatcher are
+     * shared between the backend hosts.
+     */
+    private static final OkHttpClient SHARED_HTTP_CLIENT = new OkHttpClient();
+
     private OkHttpClient.Builder httpClientBuilder;
+    private volatile OkHttpClient httpClient;
     private JSON json;
 
     private HttpLoggingInterceptor loggingInterceptor;
@@ -97,8 +109,9 @@ public class ApiClient {
      */
     public ApiClient(final String baseUrlPath) {
 		basePath = baseUrlPath;
-        httpClientBuilder = new OkHttpClient.Builder();
+        httpClientBuilder = SHARED_HTTP_CLIENT.newBuilder();
         httpClientBuilder.connectTimeout(30, TimeUnit.SECONDS);
+        httpClientBuilder.addNetworkInterceptor(new ProgressInterceptor());
 
         //Depends on build variants
         setDebugging(BuildConfig.DEBUG);
@@ -134,12 +147,29 @@ public class ApiClient {
     }
 
     /**
-     * Get HTTP client
+     * Get HTTP client, built once and reused by all calls until the configuration changes.
      *
      * @return An instance of OkHttpClient
      */
     private OkHttpClient getHttpClient() {
-        return httpClientBuilder.build();
+        OkHttpClient client = httpClient;
+        if (client == null) {
+            synchronized (this) {
+                client = httpClient;
+                if (client == null) {
+                    client = httpClientBuilder.build();
+                    httpClient = client;
+                }
+            }
+        }
+        return client;
+    }
+
+    /**
+     * Drop the built client after the builder was changed, the next call will build a new one.
+     */
+    private synchronized void invalidateHttpClient() {
+        httpClient = null;
     }
 
     /**
@@ -284,9 +314,10 @@ public class ApiClient {
                 loggingInterceptor.setLevel(HttpLoggingInterceptor.Level.BODY);
                 httpClientBuilder.addInterceptor(loggingInterceptor);
             } else {
-                httpClientBuilder.addInterceptor(loggingInterceptor);
+                httpClientBuilder.interceptors().remove(loggingInterceptor);
                 loggingInterceptor = null;
             }
+            invalidateHttpClient();
         }
         this.debugging = debugging;
         return this;
@@ -324,6 +355,7 @@ public class ApiClient {
      */
     public ApiClient setConnectTimeout(int connectionTimeout) {
         httpClientBuilder.connectTimeout(connectionTimeout, TimeUnit.MILLISECONDS);
+        invalidateHttpClient();
         return this;
     }
 
@@ -537,13 +569,35 @@ public class ApiClient {
             return (T) downloadFileFromResponse(response);
         }
 
+        final ResponseBody body = response.body();
+        if (body == null) {
+            return null;
+        }
+
+        String contentType = response.headers().get("Content-Type");
+        if (contentType == null) {
+            // ensuring a default content type
+            contentType = "application/json";
+        }
+
+        if (isJsonMime(contentType) && !returnType.equals(String.class)) {
+            // Parse while reading, a large body (order history, offers) is never held as one String.
+            // The parse span includes reading the body from the connection as it is parsed.
+            final Tracer.Span span = startJsonSpan(returnType);
+            try {
+                return json.deserialize(body.charStream(), returnType);
+            } catch (JsonParseException e) {
+                // Gson wraps an IOException of the body stream, e.g. a reset connection, in a JsonSyntaxException.
+                throw toApiException(e, response);
+            } finally {
+                body.close();
+                span.end();
+            }
+        }
+
         String respBody;
         try {
-            if (response.body() != null) {
-                respBody = response.body().string();
-            } else {
-                respBody = null;
-            }
+            respBody = body.string();
         } catch (IOException e) {
             throw new ApiException(e);
         }
@@ -552,13 +606,15 @@ public class ApiClient {
             return null;
         }
 
-        String contentType = response.headers().get("Content-Type");
-        if (contentType == null) {
-            // ensuring a default content type
-            contentType = "application/json";
-        }
         if (isJsonMime(contentType)) {
-            return json.deserialize(respBody, returnType);
+            final Tracer.Span span = startJsonSpan(returnType);
+            try {
+                return json.deserialize(respBody, returnType);
+            } catch (JsonParseException e) {
+                throw toApiException(e, response);
+            } finally {
+                span.end();
+            }
         } else if (returnType.equals(String.class)) {
             // Expecting string, return the raw response body.
             return (T) respBody;
@@ -571,6 +627,19 @@ public class ApiClient {
         }
     }
 
+    private static ApiException toApiException(JsonParseException e, Response response) {
+        final Throwable cause = e.getCause() instanceof IOException ? e.getCause() : e;
+        return new ApiException(cause.getMessage(), cause, response.code(), response.headers().toMultimap());
+    }
+
+    private static Tracer.Span startJsonSpan(Type returnType) {
+        if (!Tracer.isEnabled()) {
+            return Tracer.startSpan("json");
+        }
+        return Tracer.startSpan("json." + (returnType instanceof Class ? ((Class<?>) returnType).getSimpleName()
+            : returnType.toString()));
+    }
+
     private Error deserializeError(String respBody) {
         try {
             return (Error) (json.deserialize(respBody, new TypeToken<Error>() {
@@ -696,12 +765,32 @@ public class ApiClient {
      * @throws ApiException If fail to execute the call
      */
     public <T> ApiResponse<T> execute(Call call, Type returnType) throws ApiException {
+        return execute(call, returnType, null);
+    }
+
+    /**
+     * Execute HTTP call and deserialize the HTTP response body into the given return type, the call is traced as
+     * {@code http.<endpoint>}.
+     *
+     * @param returnType The return type used to deserialize HTTP response body
+     * @param <T> The return type corresponding to (same with) returnType
+     * @param call Call
+     * @param endpoint The API operation, e.g. OrdersApi.getOrder, or null to trace by method and path
+     * @return ApiResponse object containing response status, headers and data, which is a Java object deserialized from
+     * response body and would be null when returnType is null.
+     * @throws ApiException If fail to execute the call
+     */
+    public <T> ApiResponse<T> execute(Call call, Type returnType, String endpoint) throws ApiException {
+        final Tracer.Span span = startHttpSpan(call, endpoint);
+        Response response = null;
         try {
-            Response response = call.execute();
+            response = call.execute();
             T data = handleResponse(response, returnType);
             return new ApiResponse<T>(response.code(), response.headers().toMultimap(), data);
         } catch (IOException e) {
             throw new ApiException(e);
+        } finally {
+            endHttpSpan(span, response);
         }
     }
 
@@ -727,9 +816,26 @@ public class ApiClient {
      */
     @SuppressWarnings("unchecked")
     public <T> void executeAsync(Call call, final Type returnType, final ApiCallback<T> callback) {
+        executeAsync(call, returnType, null, callback);
+    }
+
+    /**
+     * Execute HTTP call asynchronously, the call is traced as {@code http.<endpoint>}.
+     *
+     * @param <T> Type
+     * @param call The callback to be executed when the API call finishes
+     * @param returnType Return type
+     * @param endpoint The API operation, e.g. OrdersApi.getOrder, or null to trace by method and path
+     * @param callback ApiCallback
+     * @see #execute(Call, Type, String)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> void executeAsync(Call call, final Type returnType, String endpoint, final ApiCallback<T> callback) {
+        final Tracer.Span span = startHttpSpan(call, endpoint);
         call.enqueue(new Callback() {
             @Override
             public void onFailure(Call call, IOException e) {
+                endHttpSpan(span, null);
                 callback.onFailure(new ApiException(e), 0, null);
             }
 
@@ -739,14 +845,34 @@ public class ApiClient {
                 try {
                     result = (T) handleResponse(response, returnType);
                 } catch (ApiException e) {
+                    endHttpSpan(span, response);
                     callback.onFailure(e, response.code(), response.headers().toMultimap());
                     return;
                 }
+                endHttpSpan(span, response);
                 callback.onSuccess(result, response.code(), response.headers().toMultimap());
             }
         });
     }
 
+    private static Tracer.Span startHttpSpan(Call call, String endpoint) {
+        if (!Tracer.isEnabled()) {
+            return Tracer.startSpan("http");
+        }
+        if (endpoint == null) {
+            final Request request = call.request();
+            endpoint = request.method() + " " + request.url().encodedPath();
+        }
+        return Tracer.startSpan("http." + endpoint);
+    }
+
+    // The detail is the status code, or "failed" if there was no response.
+    private static void endHttpSpan(Tracer.Span span, Response response) {
+        if (Tracer.isEnabled()) {
+            span.end(response != null ? Integer.toString(response.code()) : "failed");
+        }
+    }
+
     /**
      * Handle the given response, return the deserialized object when the response is successful.
      *
@@ -757,6 +883,13 @@ public class ApiClient {
      * @throws ApiException If the response has a unsuccessful status code or fail to deserialize the response body
      */
     public <T> T handleResponse(Response response, Type returnType) throws ApiException {
+        if (response.code() == HttpURLConnection.HTTP_NOT_MODIFIED) {
+            // Conditional request, the cached copy is still valid and there is no body.
+            if (response.body() != null) {
+                response.body().close();
+            }
+            return null;
+        }
         if (response.isSuccessful()) {
             if (returnType == null || response.code() == 204) {
                 // returning null if the returnType is not defined,
@@ -800,8 +933,32 @@ public class ApiClient {
     public Call buildCall(String path, @Methods String method, List<Pair> queryParams, List<Pair> collectionQueryParams,
         Object body, Map<String, String> headerParams, Map<String, Object> formParams, String[] authNames,
         ProgressRequestBody.ProgressRequestListener progressRequestListener) throws ApiException {
+        return buildCall(path, method, queryParams, collectionQueryParams, body, headerParams, formParams, authNames,
+            null, progressRequestListener);
+    }
+
+    /**
+     * Build HTTP call with the given options.
+     *
+     * @param path The sub-path of the HTTP URL
+     * @param method The request method, one of "GET", "HEAD", "OPTIONS", "POST", "PUT", "PATCH" and "DELETE"
+     * @param queryParams The query parameters
+     * @param collectionQueryParams The collection query parameters
+     * @param body The request body object
+     * @param headerParams The header parameters
+     * @param formParams The form parameters
+     * @param authNames The authentications to apply
+     * @param progressListener Progress response listener, attached to this call only
+     * @param progressRequestListener Progress request listener
+     * @return The HTTP call
+     * @throws ApiException If fail to serialize the request body object
+     */
+    public Call buildCall(String path, @Methods String method, List<Pair> queryParams, List<Pair> collectionQueryParams,
+        Object body, Map<String, String> headerParams, Map<String, Object> formParams, String[] authNames,
+        ProgressResponseBody.ProgressListener progressListener,
+        ProgressRequestBody.ProgressRequestListener progressRequestListener) throws ApiException {
         Request request = buildRequest(path, method, queryParams, collectionQueryParams, body, headerParams, formParams,
-            authNames, progressRequestListener);
+            authNames, progressListener, progressRequestListener);
 
         return getHttpClient().newCall(request);
     }
@@ -825,10 +982,38 @@ public class ApiClient {
         List<Pair> collectionQueryParams,
         Object body, Map<String, String> headerParams, Map<String, Object> formParams, String[] authNames,
         ProgressRequestBody.ProgressRequestListener progressRequestListener) throws ApiException {
+        return buildRequest(path, method, queryParams, collectionQueryParams, body, headerParams, formParams, authNames,
+            null, progressRequestListener);
+    }
+
+    /**
+     * Build an HTTP request with the given options.
+     *
+     * @param path The sub-path of the HTTP URL
+     * @param method The request method, one of "GET", "HEAD", "OPTIONS", "POST", "PUT", "PATCH" and "DELETE"
+     * @param queryParams The query parameters
+     * @param collectionQueryParams The collection query parameters
+     * @param body The request body object
+     * @param headerParams The header parameters
+     * @param formParams The form parameters
+     * @param authNames The authentications to apply
+     * @param progressListener Progress response listener, carried as the request tag
+     * @param progressRequestListener Progress request listener
+     * @return The HTTP request
+     * @throws ApiException If fail to serialize the request body object
+     */
+    public Request buildRequest(String path, @Methods String method, List<Pair> queryParams,
+        List<Pair> collectionQueryParams,
+        Object body, Map<String, String> headerParams, Map<String, Object> formParams, String[] authNames,
+        ProgressResponseBody.ProgressListener progressListener,
+        ProgressRequestBody.ProgressRequestListener progressRequestListener) throws ApiException {
         updateParamsForAuth(authNames, queryParams, headerParams);
 
         final String url = buildUrl(path, queryParams, collectionQueryParams);
         final Request.Builder reqBuilder = new Request.Builder().url(url);
+        if (progressListener != null) {
+            reqBuilder.tag(progressListener);
+        }
         processHeaderParams(headerParams, reqBuilder);
 
         String contentType = (String) headerParams.get("Content-Type");
@@ -1067,6 +1252,7 @@ public class ApiClient {
             if (hostnameVerifier != null) {
                 httpClientBuilder.hostnameVerifier(hostnameVerifier);
             }
+            invalidateHttpClient();
         } catch (GeneralSecurityException e) {
             throw new RuntimeException(e);
         }
@@ -1084,9 +1270,37 @@ public class ApiClient {
 
     public void addInterceptor(Interceptor interceptor) {
         httpClientBuilder.addInterceptor(interceptor);
+        invalidateHttpClient();
     }
 
     public void addNetworkInterceptor(Interceptor interceptor) {
         httpClientBuilder.addNetworkInterceptor(interceptor);
+        invalidateHttpClient();
+    }
+
+    public void setAuthenticator(Authenticator authenticator) {
+        httpClientBuilder.authenticator(authenticator);
+        invalidateHttpClient();
+    }
+
+    /**
+     * Single network interceptor shared by all calls, reports download progress to the
+     * {@link ProgressResponseBody.ProgressListener} set as the request tag, if any.
+     */
+    private static class ProgressInterceptor implements Interceptor {
+
+        @Override
+        public Response intercept(Chain chain) throws IOException {
+            final Request request = chain.request();
+            final Response originalResponse = chain.proceed(request);
+            final Object tag = request.tag();
+            if (tag instanceof ProgressResponseBody.ProgressListener && originalResponse.body() != null) {
+                return originalResponse.newBuilder()
+                    .body(new ProgressResponseBody(originalResponse.body(),
+                        (ProgressResponseBody.ProgressListener) tag))
+                    .build();
+            }
+            return originalResponse;
+        }
     }
 }
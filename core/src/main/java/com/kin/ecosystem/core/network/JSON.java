@@ -18,11 +18,15 @@ import com.google.gson.GsonBuilder;
 import com.google.gson.JsonParseException;
 import com.google.gson.TypeAdapter;
 import com.google.gson.internal.bind.util.ISO8601Utils;
+import com.google.gson.reflect.TypeToken;
 import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
+import com.kin.ecosystem.core.bi.events.EventTypeAdapterFactory;
+import com.kin.ecosystem.core.network.model.ModelTypeAdapterFactory;
 
 
 import java.io.IOException;
+import java.io.Reader;
 import java.io.StringReader;
 import java.lang.reflect.Type;
 import java.text.DateFormat;
@@ -38,6 +42,9 @@ public class JSON {
 
     public JSON() {
         gson = new GsonBuilder()
+            // Generated adapters, the models are serialized without reflection.
+            .registerTypeAdapterFactory(new ModelTypeAdapterFactory())
+            .registerTypeAdapterFactory(new EventTypeAdapterFactory())
             .registerTypeAdapter(Date.class, dateTypeAdapter)
             .registerTypeAdapter(java.sql.Date.class, sqlDateTypeAdapter)
             .create();
@@ -106,6 +113,37 @@ public class JSON {
         }
     }
 
+    /**
+     * Deserialize the given JSON stream to Java object, without reading it into a String first.
+     * There is no String fallback, read the body as a String when expecting one.
+     *
+     * @param <T>        Type
+     * @param body       The JSON stream
+     * @param returnType The type to deserialize into
+     * @return The deserialized Java object, null if the stream is empty
+     */
+    public <T> T deserialize(Reader body, Type returnType) {
+        if (isLenientOnJson) {
+            JsonReader jsonReader = new JsonReader(body);
+            jsonReader.setLenient(true);
+            return gson.fromJson(jsonReader, returnType);
+        } else {
+            return gson.fromJson(body, returnType);
+        }
+    }
+
+    /**
+     * Create the type adapters of the given types ahead of time, so the first response that is parsed
+     * doesn't pay for loading and creating them.
+     *
+     * @param types The types to create adapters for
+     */
+    public void warmUp(Type... types) {
+        for (Type type : types) {
+            gson.getAdapter(TypeToken.get(type));
+        }
+    }
+
     /**
      * Gson TypeAdapter for java.sql.Date type
      * If the dateFormat is null, a simple "yyyy-MM-dd" format will be used
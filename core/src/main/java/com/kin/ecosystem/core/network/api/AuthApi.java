@@ -19,7 +19,6 @@ import com.kin.ecosystem.core.Configuration;
 import com.kin.ecosystem.core.network.ApiClient;
 import com.kin.ecosystem.core.network.ApiException;
 import com.kin.ecosystem.core.network.ApiResponse;
-import java.io.IOException;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -32,8 +31,6 @@ import com.kin.ecosystem.core.network.ProgressResponseBody;
 import com.kin.ecosystem.core.network.model.AuthToken;
 import com.kin.ecosystem.core.network.model.SignInData;
 import okhttp3.Call;
-import okhttp3.Interceptor;
-import okhttp3.Response;
 
 
 public class AuthApi {
@@ -97,22 +94,10 @@ public class AuthApi {
         final String localVarContentType = apiClient.selectHeaderContentType(localVarContentTypes);
         localVarHeaderParams.put("Content-Type", localVarContentType);
 
-        if (progressListener != null) {
-            apiClient.addNetworkInterceptor(new Interceptor() {
-                @Override
-                public Response intercept(Chain chain) throws IOException {
-                    Response originalResponse = chain.proceed(chain.request());
-                    return originalResponse.newBuilder()
-                        .body(new ProgressResponseBody(originalResponse.body(), progressListener))
-                        .build();
-                }
-            });
-        }
-
         String[] localVarAuthNames = new String[]{};
         return apiClient
             .buildCall(localVarPath, ApiClient.POST, localVarQueryParams, localVarCollectionQueryParams, localVarPostBody,
-                localVarHeaderParams, localVarFormParams, localVarAuthNames, progressRequestListener);
+                localVarHeaderParams, localVarFormParams, localVarAuthNames, progressListener, progressRequestListener);
     }
 
     @SuppressWarnings("rawtypes")
@@ -156,7 +141,7 @@ public class AuthApi {
         Call call = activateAcountValidateBeforeCall(X_REQUEST_ID, null, null);
         Type localVarReturnType = new TypeToken<AuthToken>() {
         }.getType();
-        return apiClient.execute(call, localVarReturnType);
+        return apiClient.execute(call, localVarReturnType, "AuthApi.activateAcount");
     }
 
     /**
@@ -192,7 +177,7 @@ public class AuthApi {
         Call call = activateAcountValidateBeforeCall(X_REQUEST_ID, progressListener, progressRequestListener);
         Type localVarReturnType = new TypeToken<AuthToken>() {
         }.getType();
-        apiClient.executeAsync(call, localVarReturnType, callback);
+        apiClient.executeAsync(call, localVarReturnType, "AuthApi.activateAcount", callback);
         return call;
     }
 
@@ -238,22 +223,10 @@ public class AuthApi {
         final String localVarContentType = apiClient.selectHeaderContentType(localVarContentTypes);
         localVarHeaderParams.put("Content-Type", localVarContentType);
 
-        if (progressListener != null) {
-            apiClient.addNetworkInterceptor(new Interceptor() {
-                @Override
-                public Response intercept(Interceptor.Chain chain) throws IOException {
-                    Response originalResponse = chain.proceed(chain.request());
-                    return originalResponse.newBuilder()
-                        .body(new ProgressResponseBody(originalResponse.body(), progressListener))
-                        .build();
-                }
-            });
-        }
-
         String[] localVarAuthNames = new String[]{};
         return apiClient
             .buildCall(localVarPath, ApiClient.POST, localVarQueryParams, localVarCollectionQueryParams, localVarPostBody,
-                localVarHeaderParams, localVarFormParams, localVarAuthNames, progressRequestListener);
+                localVarHeaderParams, localVarFormParams, localVarAuthNames, progressListener, progressRequestListener);
     }
 
     @SuppressWarnings("rawtypes")
@@ -304,7 +277,7 @@ public class AuthApi {
         Call call = signInValidateBeforeCall(signindata, X_REQUEST_ID, null, null);
         Type localVarReturnType = new TypeToken<AuthToken>() {
         }.getType();
-        return apiClient.execute(call, localVarReturnType);
+        return apiClient.execute(call, localVarReturnType, "AuthApi.signIn");
     }
 
     /**
@@ -342,7 +315,7 @@ public class AuthApi {
         Call call = signInValidateBeforeCall(signindata, X_REQUEST_ID, progressListener, progressRequestListener);
         Type localVarReturnType = new TypeToken<AuthToken>() {
         }.getType();
-        apiClient.executeAsync(call, localVarReturnType, callback);
+        apiClient.executeAsync(call, localVarReturnType, "AuthApi.signIn", callback);
         return call;
     }
 
@@ -12,15 +12,12 @@ import com.kin.ecosystem.core.network.ProgressRequestBody.ProgressRequestListene
 import com.kin.ecosystem.core.network.ProgressResponseBody;
 import com.kin.ecosystem.core.network.ProgressResponseBody.ProgressListener;
 import com.kin.ecosystem.core.network.model.OfferList;
-import java.io.IOException;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import okhttp3.Call;
-import okhttp3.Interceptor;
-import okhttp3.Response;
 
 
 public class OffersApi {
@@ -56,6 +53,24 @@ public class OffersApi {
      * @throws ApiException If fail to serialize the request body object
      */
     public Call getOffersCall(String X_REQUEST_ID, Integer limit, String after, String before, final ProgressListener progressListener, final ProgressRequestListener progressRequestListener) throws ApiException {
+        return getOffersCall(X_REQUEST_ID, limit, after, before, null, null, progressListener, progressRequestListener);
+    }
+
+    /**
+     * Build conditional call for getOffers
+     *
+     * @param X_REQUEST_ID            A unique id for the request. A retransmitted request will have the same id  (required)
+     * @param limit                   maximum number of items in a list (optional)
+     * @param after                   cursor that points to the end of the page of data that has been returned (optional)
+     * @param before                  cursor that points to the start of the page of data that has been returned (optional)
+     * @param ifNoneMatch             ETag of the cached offer list (optional)
+     * @param ifModifiedSince         Last-Modified of the cached offer list (optional)
+     * @param progressListener        Progress listener
+     * @param progressRequestListener Progress request listener
+     * @return Call to execute
+     * @throws ApiException If fail to serialize the request body object
+     */
+    public Call getOffersCall(String X_REQUEST_ID, Integer limit, String after, String before, String ifNoneMatch, String ifModifiedSince, final ProgressListener progressListener, final ProgressRequestListener progressRequestListener) throws ApiException {
         Object localVarPostBody = null;
 
         // create path and map variables
@@ -73,6 +88,10 @@ public class OffersApi {
         Map<String, String> localVarHeaderParams = new HashMap<String, String>();
         if (X_REQUEST_ID != null)
             localVarHeaderParams.put("X-REQUEST-ID", apiClient.parameterToString(X_REQUEST_ID));
+        if (ifNoneMatch != null)
+            localVarHeaderParams.put("If-None-Match", apiClient.parameterToString(ifNoneMatch));
+        if (ifModifiedSince != null)
+            localVarHeaderParams.put("If-Modified-Since", apiClient.parameterToString(ifModifiedSince));
 
         Map<String, Object> localVarFormParams = new HashMap<String, Object>();
 
@@ -88,24 +107,12 @@ public class OffersApi {
         final String localVarContentType = apiClient.selectHeaderContentType(localVarContentTypes);
         localVarHeaderParams.put("Content-Type", localVarContentType);
 
-        if (progressListener != null) {
-            apiClient.addNetworkInterceptor(new Interceptor() {
-                @Override
-                public Response intercept(Chain chain) throws IOException {
-                    Response originalResponse = chain.proceed(chain.request());
-                    return originalResponse.newBuilder()
-                            .body(new ProgressResponseBody(originalResponse.body(), progressListener))
-                            .build();
-                }
-            });
-        }
-
         String[] localVarAuthNames = new String[]{};
-        return apiClient.buildCall(localVarPath, ApiClient.GET, localVarQueryParams, localVarCollectionQueryParams, localVarPostBody, localVarHeaderParams, localVarFormParams, localVarAuthNames, progressRequestListener);
+        return apiClient.buildCall(localVarPath, ApiClient.GET, localVarQueryParams, localVarCollectionQueryParams, localVarPostBody, localVarHeaderParams, localVarFormParams, localVarAuthNames, progressListener, progressRequestListener);
     }
 
     @SuppressWarnings("rawtypes")
-    private Call getOffersValidateBeforeCall(String X_REQUEST_ID, Integer limit, String after, String before, final ProgressResponseBody.ProgressListener progressListener, final ProgressRequestListener progressRequestListener) throws ApiException {
+    private Call getOffersValidateBeforeCall(String X_REQUEST_ID, Integer limit, String after, String before, String ifNoneMatch, String ifModifiedSince, final ProgressResponseBody.ProgressListener progressListener, final ProgressRequestListener progressRequestListener) throws ApiException {
 
 
         // verify the required parameter 'X_REQUEST_ID' is set
@@ -114,7 +121,7 @@ public class OffersApi {
         }
 
 
-        Call call = getOffersCall(X_REQUEST_ID, limit, after, before, progressListener, progressRequestListener);
+        Call call = getOffersCall(X_REQUEST_ID, limit, after, before, ifNoneMatch, ifModifiedSince, progressListener, progressRequestListener);
         return call;
 
 
@@ -148,10 +155,10 @@ public class OffersApi {
      * @throws ApiException If fail to call the API, e.g. server error or cannot deserialize the response body
      */
     public ApiResponse<OfferList> getOffersWithHttpInfo(String X_REQUEST_ID, Integer limit, String after, String before) throws ApiException {
-        Call call = getOffersValidateBeforeCall(X_REQUEST_ID, limit, after, before, null, null);
+        Call call = getOffersValidateBeforeCall(X_REQUEST_ID, limit, after, before, null, null, null, null);
         Type localVarReturnType = new TypeToken<OfferList>() {
         }.getType();
-        return apiClient.execute(call, localVarReturnType);
+        return apiClient.execute(call, localVarReturnType, "OffersApi.getOffers");
     }
 
     /**
@@ -167,6 +174,24 @@ public class OffersApi {
      * @throws ApiException If fail to process the API call, e.g. serializing the request body object
      */
     public Call getOffersAsync(String X_REQUEST_ID, Integer limit, String after, String before, final ApiCallback<OfferList> callback) throws ApiException {
+        return getOffersAsync(X_REQUEST_ID, limit, after, before, null, null, callback);
+    }
+
+    /**
+     * Return a list of offers if it was modified (asynchronously)
+     * The callback gets a null result with status code 304 when the list was not modified.
+     *
+     * @param X_REQUEST_ID    A unique id for the request. A retransmitted request will have the same id  (required)
+     * @param limit           maximum number of items in a list (optional)
+     * @param after           cursor that points to the end of the page of data that has been returned (optional)
+     * @param before          cursor that points to the start of the page of data that has been returned (optional)
+     * @param ifNoneMatch     ETag of the cached offer list (optional)
+     * @param ifModifiedSince Last-Modified of the cached offer list (optional)
+     * @param callback        The callback to be executed when the API call finishes
+     * @return The request call
+     * @throws ApiException If fail to process the API call, e.g. serializing the request body object
+     */
+    public Call getOffersAsync(String X_REQUEST_ID, Integer limit, String after, String before, String ifNoneMatch, String ifModifiedSince, final ApiCallback<OfferList> callback) throws ApiException {
 
         ProgressResponseBody.ProgressListener progressListener = null;
         ProgressRequestListener progressRequestListener = null;
@@ -187,10 +212,10 @@ public class OffersApi {
             };
         }
 
-        Call call = getOffersValidateBeforeCall(X_REQUEST_ID, limit, after, before, progressListener, progressRequestListener);
+        Call call = getOffersValidateBeforeCall(X_REQUEST_ID, limit, after, before, ifNoneMatch, ifModifiedSince, progressListener, progressRequestListener);
         Type localVarReturnType = new TypeToken<OfferList>() {
         }.getType();
-        apiClient.executeAsync(call, localVarReturnType, callback);
+        apiClient.executeAsync(call, localVarReturnType, "OffersApi.getOffers", callback);
         return call;
     }
 
@@ -27,15 +27,12 @@ import com.kin.ecosystem.core.network.model.ExternalOrderRequest;
 import com.kin.ecosystem.core.network.model.OpenOrder;
 import com.kin.ecosystem.core.network.model.Order;
 import com.kin.ecosystem.core.network.model.OrderList;
-import java.io.IOException;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import okhttp3.Call;
-import okhttp3.Interceptor;
-import okhttp3.Response;
 
 
 public class OrdersApi {
@@ -102,23 +99,11 @@ public class OrdersApi {
 		final String localVarContentType = apiClient.selectHeaderContentType(localVarContentTypes);
 		localVarHeaderParams.put("Content-Type", localVarContentType);
 
-		if (progressListener != null) {
-			apiClient.addNetworkInterceptor(new Interceptor() {
-				@Override
-				public Response intercept(Chain chain) throws IOException {
-					Response originalResponse = chain.proceed(chain.request());
-					return originalResponse.newBuilder()
-						.body(new ProgressResponseBody(originalResponse.body(), progressListener))
-						.build();
-				}
-			});
-		}
-
 		String[] localVarAuthNames = new String[]{};
 		return apiClient
 			.buildCall(localVarPath, ApiClient.DELETE, localVarQueryParams, localVarCollectionQueryParams,
 				localVarPostBody,
-				localVarHeaderParams, localVarFormParams, localVarAuthNames, progressRequestListener);
+				localVarHeaderParams, localVarFormParams, localVarAuthNames, progressListener, progressRequestListener);
 	}
 
 	@SuppressWarnings("rawtypes")
@@ -165,7 +150,7 @@ public class OrdersApi {
 	 */
 	public ApiResponse<Void> cancelOrderWithHttpInfo(String orderId, String X_REQUEST_ID) throws ApiException {
 		Call call = cancelOrderValidateBeforeCall(orderId, X_REQUEST_ID, null, null);
-		return apiClient.execute(call);
+		return apiClient.execute(call, null, "OrdersApi.cancelOrder");
 	}
 
 	/**
@@ -201,7 +186,7 @@ public class OrdersApi {
 		}
 
 		Call call = cancelOrderValidateBeforeCall(orderId, X_REQUEST_ID, progressListener, progressRequestListener);
-		apiClient.executeAsync(call, callback);
+		apiClient.executeAsync(call, null, "OrdersApi.cancelOrder", callback);
 		return call;
 	}
 
@@ -244,21 +229,9 @@ public class OrdersApi {
 		final String localVarContentType = apiClient.selectHeaderContentType(localVarContentTypes);
 		localVarHeaderParams.put("Content-Type", localVarContentType);
 
-		if (progressListener != null) {
-			apiClient.addNetworkInterceptor(new Interceptor() {
-				@Override
-				public Response intercept(Interceptor.Chain chain) throws IOException {
-					Response originalResponse = chain.proceed(chain.request());
-					return originalResponse.newBuilder()
-						.body(new ProgressResponseBody(originalResponse.body(), progressListener))
-						.build();
-				}
-			});
-		}
-
 		String[] localVarAuthNames = new String[]{};
 		return apiClient.buildCall(localVarPath, ApiClient.PATCH, localVarQueryParams, localVarCollectionQueryParams,
-			localVarPostBody, localVarHeaderParams, localVarFormParams, localVarAuthNames, progressRequestListener);
+			localVarPostBody, localVarHeaderParams, localVarFormParams, localVarAuthNames, progressListener, progressRequestListener);
 	}
 
 	@SuppressWarnings("rawtypes")
@@ -306,7 +279,7 @@ public class OrdersApi {
 		Call call = changeOrderValidateBeforeCall(orderId, body, null, null);
 		Type localVarReturnType = new TypeToken<Order>() {
 		}.getType();
-		return apiClient.execute(call, localVarReturnType);
+		return apiClient.execute(call, localVarReturnType, "OrdersApi.changeOrder");
 	}
 
 	/**
@@ -345,7 +318,7 @@ public class OrdersApi {
 		Call call = changeOrderValidateBeforeCall(orderId, body, progressListener, progressRequestListener);
 		Type localVarReturnType = new TypeToken<Order>() {
 		}.getType();
-		apiClient.executeAsync(call, localVarReturnType, callback);
+		apiClient.executeAsync(call, localVarReturnType, "OrdersApi.changeOrder", callback);
 		return call;
 	}
 
@@ -392,21 +365,9 @@ public class OrdersApi {
 		final String localVarContentType = apiClient.selectHeaderContentType(localVarContentTypes);
 		localVarHeaderParams.put("Content-Type", localVarContentType);
 
-		if (progressListener != null) {
-			apiClient.addNetworkInterceptor(new Interceptor() {
-				@Override
-				public Response intercept(Interceptor.Chain chain) throws IOException {
-					Response originalResponse = chain.proceed(chain.request());
-					return originalResponse.newBuilder()
-						.body(new ProgressResponseBody(originalResponse.body(), progressListener))
-						.build();
-				}
-			});
-		}
-
 		String[] localVarAuthNames = new String[]{};
 		return apiClient.buildCall(localVarPath, ApiClient.POST, localVarQueryParams, localVarCollectionQueryParams,
-			localVarPostBody, localVarHeaderParams, localVarFormParams, localVarAuthNames, progressRequestListener);
+			localVarPostBody, localVarHeaderParams, localVarFormParams, localVarAuthNames, progressListener, progressRequestListener);
 	}
 
 	@SuppressWarnings("rawtypes")
@@ -460,7 +421,7 @@ public class OrdersApi {
 		Call call = createExternalOrderValidateBeforeCall(externalorderrequest, X_REQUEST_ID, null, null);
 		Type localVarReturnType = new TypeToken<OpenOrder>() {
 		}.getType();
-		return apiClient.execute(call, localVarReturnType);
+		return apiClient.execute(call, localVarReturnType, "OrdersApi.createExternalOrder");
 	}
 
 	/**
@@ -499,7 +460,7 @@ public class OrdersApi {
 			progressRequestListener);
 		Type localVarReturnType = new TypeToken<OpenOrder>() {
 		}.getType();
-		apiClient.executeAsync(call, localVarReturnType, callback);
+		apiClient.executeAsync(call, localVarReturnType, "OrdersApi.createExternalOrder", callback);
 		return call;
 	}
 
@@ -546,23 +507,11 @@ public class OrdersApi {
 		final String localVarContentType = apiClient.selectHeaderContentType(localVarContentTypes);
 		localVarHeaderParams.put("Content-Type", localVarContentType);
 
-		if (progressListener != null) {
-			apiClient.addNetworkInterceptor(new Interceptor() {
-				@Override
-				public Response intercept(Chain chain) throws IOException {
-					Response originalResponse = chain.proceed(chain.request());
-					return originalResponse.newBuilder()
-						.body(new ProgressResponseBody(originalResponse.body(), progressListener))
-						.build();
-				}
-			});
-		}
-
 		String[] localVarAuthNames = new String[]{};
 		return apiClient
 			.buildCall(localVarPath, ApiClient.POST, localVarQueryParams, localVarCollectionQueryParams,
 				localVarPostBody,
-				localVarHeaderParams, localVarFormParams, localVarAuthNames, progressRequestListener);
+				localVarHeaderParams, localVarFormParams, localVarAuthNames, progressListener, progressRequestListener);
 	}
 
 	@SuppressWarnings("rawtypes")
@@ -611,7 +560,7 @@ public class OrdersApi {
 		Call call = createOrderValidateBeforeCall(offerId, X_REQUEST_ID, null, null);
 		Type localVarReturnType = new TypeToken<OpenOrder>() {
 		}.getType();
-		return apiClient.execute(call, localVarReturnType);
+		return apiClient.execute(call, localVarReturnType, "OrdersApi.createOrder");
 	}
 
 	/**
@@ -649,7 +598,7 @@ public class OrdersApi {
 		Call call = createOrderValidateBeforeCall(offerId, X_REQUEST_ID, progressListener, progressRequestListener);
 		Type localVarReturnType = new TypeToken<OpenOrder>() {
 		}.getType();
-		apiClient.executeAsync(call, localVarReturnType, callback);
+		apiClient.executeAsync(call, localVarReturnType, "OrdersApi.createOrder", callback);
 		return call;
 	}
 
@@ -715,23 +664,11 @@ public class OrdersApi {
 		final String localVarContentType = apiClient.selectHeaderContentType(localVarContentTypes);
 		localVarHeaderParams.put("Content-Type", localVarContentType);
 
-		if (progressListener != null) {
-			apiClient.addNetworkInterceptor(new Interceptor() {
-				@Override
-				public Response intercept(Chain chain) throws IOException {
-					Response originalResponse = chain.proceed(chain.request());
-					return originalResponse.newBuilder()
-						.body(new ProgressResponseBody(originalResponse.body(), progressListener))
-						.build();
-				}
-			});
-		}
-
 		String[] localVarAuthNames = new String[]{};
 		return apiClient
 			.buildCall(localVarPath, ApiClient.GET, localVarQueryParams, localVarCollectionQueryParams,
 				localVarPostBody,
-				localVarHeaderParams, localVarFormParams, localVarAuthNames, progressRequestListener);
+				localVarHeaderParams, localVarFormParams, localVarAuthNames, progressListener, progressRequestListener);
 	}
 
 	@SuppressWarnings("rawtypes")
@@ -790,7 +727,7 @@ public class OrdersApi {
 		Call call = getHistoryValidateBeforeCall(X_REQUEST_ID, origin, offerId, limit, before, after, null, null);
 		Type localVarReturnType = new TypeToken<OrderList>() {
 		}.getType();
-		return apiClient.execute(call, localVarReturnType);
+		return apiClient.execute(call, localVarReturnType, "OrdersApi.getHistory");
 	}
 
 	/**
@@ -834,7 +771,7 @@ public class OrdersApi {
 			progressRequestListener);
 		Type localVarReturnType = new TypeToken<OrderList>() {
 		}.getType();
-		apiClient.executeAsync(call, localVarReturnType, callback);
+		apiClient.executeAsync(call, localVarReturnType, "OrdersApi.getHistory", callback);
 		return call;
 	}
 
@@ -881,23 +818,11 @@ public class OrdersApi {
 		final String localVarContentType = apiClient.selectHeaderContentType(localVarContentTypes);
 		localVarHeaderParams.put("Content-Type", localVarContentType);
 
-		if (progressListener != null) {
-			apiClient.addNetworkInterceptor(new Interceptor() {
-				@Override
-				public Response intercept(Chain chain) throws IOException {
-					Response originalResponse = chain.proceed(chain.request());
-					return originalResponse.newBuilder()
-						.body(new ProgressResponseBody(originalResponse.body(), progressListener))
-						.build();
-				}
-			});
-		}
-
 		String[] localVarAuthNames = new String[]{};
 		return apiClient
 			.buildCall(localVarPath, ApiClient.GET, localVarQueryParams, localVarCollectionQueryParams,
 				localVarPostBody,
-				localVarHeaderParams, localVarFormParams, localVarAuthNames, progressRequestListener);
+				localVarHeaderParams, localVarFormParams, localVarAuthNames, progressListener, progressRequestListener);
 	}
 
 	@SuppressWarnings("rawtypes")
@@ -948,7 +873,7 @@ public class OrdersApi {
 		Call call = getOrderValidateBeforeCall(orderId, X_REQUEST_ID, null, null);
 		Type localVarReturnType = new TypeToken<Order>() {
 		}.getType();
-		return apiClient.execute(call, localVarReturnType);
+		return apiClient.execute(call, localVarReturnType, "OrdersApi.getOrder");
 	}
 
 	/**
@@ -986,7 +911,7 @@ public class OrdersApi {
 		Call call = getOrderValidateBeforeCall(orderId, X_REQUEST_ID, progressListener, progressRequestListener);
 		Type localVarReturnType = new TypeToken<Order>() {
 		}.getType();
-		apiClient.executeAsync(call, localVarReturnType, callback);
+		apiClient.executeAsync(call, localVarReturnType, "OrdersApi.getOrder", callback);
 		return call;
 	}
 
@@ -1034,23 +959,11 @@ public class OrdersApi {
 		final String localVarContentType = apiClient.selectHeaderContentType(localVarContentTypes);
 		localVarHeaderParams.put("Content-Type", localVarContentType);
 
-		if (progressListener != null) {
-			apiClient.addNetworkInterceptor(new Interceptor() {
-				@Override
-				public Response intercept(Chain chain) throws IOException {
-					Response originalResponse = chain.proceed(chain.request());
-					return originalResponse.newBuilder()
-						.body(new ProgressResponseBody(originalResponse.body(), progressListener))
-						.build();
-				}
-			});
-		}
-
 		String[] localVarAuthNames = new String[]{};
 		return apiClient
 			.buildCall(localVarPath, ApiClient.POST, localVarQueryParams, localVarCollectionQueryParams,
 				localVarPostBody,
-				localVarHeaderParams, localVarFormParams, localVarAuthNames, progressRequestListener);
+				localVarHeaderParams, localVarFormParams, localVarAuthNames, progressListener, progressRequestListener);
 	}
 
 	@SuppressWarnings("rawtypes")
@@ -1109,7 +1022,7 @@ public class OrdersApi {
 		Call call = submitOrderValidateBeforeCall(earnsubmission, orderId, X_REQUEST_ID, null, null);
 		Type localVarReturnType = new TypeToken<Order>() {
 		}.getType();
-		return apiClient.execute(call, localVarReturnType);
+		return apiClient.execute(call, localVarReturnType, "OrdersApi.submitOrder");
 	}
 
 	/**
@@ -1149,7 +1062,7 @@ public class OrdersApi {
 			progressRequestListener);
 		Type localVarReturnType = new TypeToken<Order>() {
 		}.getType();
-		apiClient.executeAsync(call, localVarReturnType, callback);
+		apiClient.executeAsync(call, localVarReturnType, "OrdersApi.submitOrder", callback);
 		return call;
 	}
 
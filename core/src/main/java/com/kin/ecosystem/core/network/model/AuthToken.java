@@ -12,6 +12,7 @@ package com.kin.ecosystem.core.network.model;/*
 
 
 import com.google.gson.annotations.SerializedName;
+import com.kin.ecosystem.core.util.DateUtil;
 
 /**
  * token issued by marketplace server
@@ -21,15 +22,19 @@ public class AuthToken {
 	@SerializedName("token")
 	private String token = null;
 	@SerializedName("activated")
-	private Boolean activated = false;
+	Boolean activated = false;
 	@SerializedName("expiration_date")
 	private String expirationDate = null;
 	@SerializedName("app_id")
-	private String appID = null;
+	String appID = null;
 	@SerializedName("user_id")
-	private String userID = null;
+	String userID = null;
 	@SerializedName("ecosystem_user_id")
-	private String ecosystemUserID = null;
+	String ecosystemUserID = null;
+
+	private static final long NOT_PARSED = Long.MAX_VALUE;
+	// Parsed once from expirationDate, not serialized.
+	private transient volatile long expirationTime = NOT_PARSED;
 
 	public AuthToken() {
 	}
@@ -83,7 +88,7 @@ public class AuthToken {
 	}
 
 	public AuthToken expirationDate(String expirationDate) {
-		this.expirationDate = expirationDate;
+		setExpirationDate(expirationDate);
 		return this;
 	}
 
@@ -99,6 +104,19 @@ public class AuthToken {
 
 	public void setExpirationDate(String expirationDate) {
 		this.expirationDate = expirationDate;
+		this.expirationTime = NOT_PARSED;
+	}
+
+	/**
+	 * @return expirationDate in epoch millis, or {@link DateUtil#INVALID_TIME} if it can't be parsed.
+	 */
+	public long getExpirationTime() {
+		long time = expirationTime;
+		if (time == NOT_PARSED) {
+			time = DateUtil.getTimeFromUTCString(expirationDate);
+			expirationTime = time;
+		}
+		return time;
 	}
 
 	public String getAppID() {
@@ -20,7 +20,7 @@ public class CouponCodeResult extends OrderSpendResult{
 
 
     @SerializedName("coupon_code")
-    private String couponCode = null;
+    String couponCode = null;
 
     public CouponCodeResult type(TypeEnum type) {
         this.type = type;
@@ -28,6 +28,10 @@ public class Error {
     @SerializedName("code")
     private Integer code = null;
 
+    // For deserialization.
+    Error() {
+    }
+
     public Error(String error, String message, Integer code) {
         this.error = error;
         this.message = message;
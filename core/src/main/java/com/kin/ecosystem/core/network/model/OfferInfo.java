@@ -5,19 +5,19 @@ import com.google.gson.annotations.SerializedName;
 public class OfferInfo {
 
     @SerializedName("image")
-    private String image;
+    String image;
 
     @SerializedName("title")
-    private String title;
+    String title;
 
     @SerializedName("description")
-    private String description;
+    String description;
 
     @SerializedName("amount")
-    private int amount;
+    int amount;
 
     @SerializedName("confirmation")
-    private Confirmation confirmation;
+    Confirmation confirmation;
 
     public String getImage() {
         return image;
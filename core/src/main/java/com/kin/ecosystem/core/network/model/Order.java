@@ -32,7 +32,7 @@ public class Order {
     private OrderSpendResult result = null;
 
     @SerializedName("content")
-    private String content = null;
+    String content = null;
 
     /**
      * Gets or Sets status
@@ -139,7 +139,7 @@ public class Order {
     @SerializedName("id")
     private String orderId = null;
     @SerializedName("offer_id")
-    private String offerId = null;
+    String offerId = null;
     @SerializedName("completion_date")
     private String completionDate = null;
     @SerializedName("blockchain_data")
@@ -155,7 +155,7 @@ public class Order {
     @SerializedName("amount")
     private Integer amount = null;
     @SerializedName("error")
-    private Error error = null;
+    Error error = null;
 
     public Order result(OrderSpendResult result) {
         this.result = result;
@@ -0,0 +1,7 @@
+/**
+ * Network models, serialized with the generated {@link com.kin.ecosystem.core.network.model.ModelTypeAdapterFactory}.
+ */
+@GenerateTypeAdapters("ModelTypeAdapterFactory")
+package com.kin.ecosystem.core.network.model;
+
+import com.kin.ecosystem.json.GenerateTypeAdapters;
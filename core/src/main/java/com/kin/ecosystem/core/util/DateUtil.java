@@ -1,33 +1,121 @@
 package com.kin.ecosystem.core.util;
 
-import java.text.DateFormat;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.util.Date;
-import java.util.Locale;
 import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Parses the "yyyy-MM-dd'T'HH:mm" prefix of the server UTC dates, anything after the minutes is ignored.
+ * Parsing and formatting are done by hand instead of with a shared SimpleDateFormat,
+ * so they are thread safe and don't allocate more than the result.
+ */
 public class DateUtil {
 
-    private static DateFormat dateFormat = new SimpleDateFormat("dd.MM.yy", Locale.US);
-    private static DateFormat utcDateFormat = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm", Locale.US);
-    private static TimeZone utcTimeZone = TimeZone.getTimeZone("UTC");
+    public static final long INVALID_TIME = Long.MIN_VALUE;
 
+    private static final int UTC_DATE_LENGTH = "yyyy-MM-ddTHH:mm".length();
+    private static final long MILLIS_PER_DAY = TimeUnit.DAYS.toMillis(1);
+    private static final long MILLIS_PER_HOUR = TimeUnit.HOURS.toMillis(1);
+    private static final long MILLIS_PER_MINUTE = TimeUnit.MINUTES.toMillis(1);
+
+    // Formatted dates are shown in the device time zone.
+    private static final TimeZone localTimeZone = TimeZone.getDefault();
+
+    /**
+     * @return the date as "dd.MM.yy" in the device time zone, or an empty string if it can't be parsed.
+     */
     public static String getDateFormatted(String dateStr) {
-        Date date = getDateFromUTCString(dateStr);
-        if(date != null){
-            return dateFormat.format(date);
-        } else {
+        final long time = getTimeFromUTCString(dateStr);
+        if (time == INVALID_TIME) {
             return "";
         }
+        final long localTime = time + localTimeZone.getOffset(time);
+        final long days = floorDiv(localTime, MILLIS_PER_DAY);
+
+        // Civil date from days since epoch, see http://howardhinnant.github.io/date_algorithms.html
+        final long z = days + 719468;
+        final long era = floorDiv(z, 146097);
+        final long dayOfEra = z - era * 146097;
+        final long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        final long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        final long mp = (5 * dayOfYear + 2) / 153;
+        final int day = (int) (dayOfYear - (153 * mp + 2) / 5 + 1);
+        final int month = (int) (mp < 10 ? mp + 3 : mp - 9);
+        final long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+
+        final char[] formatted = new char[8];
+        putTwoDigits(formatted, 0, day);
+        formatted[2] = '.';
+        putTwoDigits(formatted, 3, month);
+        formatted[5] = '.';
+        putTwoDigits(formatted, 6, (int) floorMod(year, 100));
+        return new String(formatted);
     }
 
     public static Date getDateFromUTCString(String dateStr) {
-        utcDateFormat.setTimeZone(utcTimeZone);
-        try {
-            return utcDateFormat.parse(dateStr);
-        } catch (ParseException e) {
-            return null;
+        final long time = getTimeFromUTCString(dateStr);
+        return time != INVALID_TIME ? new Date(time) : null;
+    }
+
+    /**
+     * @return the date in epoch millis, or {@link #INVALID_TIME} if it can't be parsed.
+     */
+    public static long getTimeFromUTCString(String dateStr) {
+        if (dateStr == null || dateStr.length() < UTC_DATE_LENGTH
+            || dateStr.charAt(4) != '-' || dateStr.charAt(7) != '-'
+            || dateStr.charAt(10) != 'T' || dateStr.charAt(13) != ':') {
+            return INVALID_TIME;
+        }
+        final int year = parseDigits(dateStr, 0, 4);
+        final int month = parseDigits(dateStr, 5, 2);
+        final int day = parseDigits(dateStr, 8, 2);
+        final int hour = parseDigits(dateStr, 11, 2);
+        final int minute = parseDigits(dateStr, 14, 2);
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > 31
+            || hour < 0 || hour > 23 || minute < 0 || minute > 59) {
+            return INVALID_TIME;
+        }
+        return daysFromCivil(year, month, day) * MILLIS_PER_DAY + hour * MILLIS_PER_HOUR + minute * MILLIS_PER_MINUTE;
+    }
+
+    /**
+     * @return days since epoch, see http://howardhinnant.github.io/date_algorithms.html
+     */
+    private static long daysFromCivil(int year, int month, int day) {
+        final long y = month <= 2 ? year - 1 : year;
+        final long era = floorDiv(y, 400);
+        final long yearOfEra = y - era * 400;
+        final long dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        final long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097 + dayOfEra - 719468;
+    }
+
+    /**
+     * @return the number, or -1 if one of the chars is not a digit.
+     */
+    private static int parseDigits(String str, int start, int count) {
+        int result = 0;
+        for (int i = start; i < start + count; i++) {
+            final char c = str.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            result = result * 10 + (c - '0');
         }
+        return result;
+    }
+
+    private static void putTwoDigits(char[] chars, int index, int value) {
+        chars[index] = (char) ('0' + value / 10);
+        chars[index + 1] = (char) ('0' + value % 10);
+    }
+
+    private static long floorDiv(long x, long y) {
+        final long q = x / y;
+        return (x % y != 0 && ((x ^ y) < 0)) ? q - 1 : q;
+    }
+
+    private static long floorMod(long x, long y) {
+        return x - floorDiv(x, y) * y;
     }
 }
@@ -0,0 +1,77 @@
+package com.kin.ecosystem.core.util;
+
+/**
+ * A snapshot of one of the {@link ExecutorsUtil} pools, times are since the process started.
+ */
+public class ExecutorMetrics {
+
+    private final String name;
+    private final int queueDepth;
+    private final int activeThreads;
+    private final long completedTasks;
+    private final long averageQueueTimeMillis;
+    private final long maxQueueTimeMillis;
+    private final long averageRunTimeMillis;
+    private final long maxRunTimeMillis;
+
+    ExecutorMetrics(String name, int queueDepth, int activeThreads, long completedTasks,
+        long averageQueueTimeMillis, long maxQueueTimeMillis, long averageRunTimeMillis, long maxRunTimeMillis) {
+        this.name = name;
+        this.queueDepth = queueDepth;
+        this.activeThreads = activeThreads;
+        this.completedTasks = completedTasks;
+        this.averageQueueTimeMillis = averageQueueTimeMillis;
+        this.maxQueueTimeMillis = maxQueueTimeMillis;
+        this.averageRunTimeMillis = averageRunTimeMillis;
+        this.maxRunTimeMillis = maxRunTimeMillis;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the number of tasks that wait for a thread, delayed tasks that are not due yet are included.
+     */
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    public int getActiveThreads() {
+        return activeThreads;
+    }
+
+    public long getCompletedTasks() {
+        return completedTasks;
+    }
+
+    public long getAverageQueueTimeMillis() {
+        return averageQueueTimeMillis;
+    }
+
+    public long getMaxQueueTimeMillis() {
+        return maxQueueTimeMillis;
+    }
+
+    public long getAverageRunTimeMillis() {
+        return averageRunTimeMillis;
+    }
+
+    public long getMaxRunTimeMillis() {
+        return maxRunTimeMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "ExecutorMetrics{" +
+            "name='" + name + '\'' +
+            ", queueDepth=" + queueDepth +
+            ", activeThreads=" + activeThreads +
+            ", completedTasks=" + completedTasks +
+            ", averageQueueTimeMillis=" + averageQueueTimeMillis +
+            ", maxQueueTimeMillis=" + maxQueueTimeMillis +
+            ", averageRunTimeMillis=" + averageRunTimeMillis +
+            ", maxRunTimeMillis=" + maxRunTimeMillis +
+            '}';
+    }
+}
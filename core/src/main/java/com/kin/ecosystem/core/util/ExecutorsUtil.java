@@ -2,33 +2,84 @@ package com.kin.ecosystem.core.util;
 
 import android.os.Handler;
 import android.os.Looper;
+import android.os.Process;
 import android.support.annotation.NonNull;
+import com.kin.ecosystem.core.Tracer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Delayed;
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * The executors that all the background work of the SDK runs on.
+ * The pools are created once per process and are shared by all the instances,
+ * so the number of SDK threads stays bounded no matter how many calls are made at the same time.
+ * <ul>
+ * <li>{@link #diskIO()} one thread, disk reads and writes run in the order they were submitted.</li>
+ * <li>{@link #networkIO()} a few threads for blocking network and blockchain calls.</li>
+ * <li>{@link #scheduled()} one thread for delayed and periodic tasks, they should be short and hand blocking
+ * work to one of the other pools.</li>
+ * </ul>
+ * Idle disk and network threads are stopped, and all the threads run with a background priority
+ * so they don't compete with the app UI.
+ */
 public class ExecutorsUtil {
 
-    private final Executor diskIO;
+    private static final int NETWORK_IO_THREADS = 4;
+    private static final long KEEP_ALIVE_SECONDS = 30;
 
+    private final Executor diskIO;
+    private final Executor networkIO;
+    private final ScheduledExecutorService scheduled;
     private final Executor mainThread;
 
-    ExecutorsUtil(Executor diskIO, Executor mainThread) {
+    ExecutorsUtil(Executor diskIO, Executor networkIO, ScheduledExecutorService scheduled, Executor mainThread) {
         this.diskIO = diskIO;
+        this.networkIO = networkIO;
+        this.scheduled = scheduled;
         this.mainThread = mainThread;
     }
 
     public ExecutorsUtil() {
-        this(new DiskIOThreadExecutor(), new MainThreadExecutor());
+        this(Pools.DISK_IO, Pools.NETWORK_IO, Pools.SCHEDULED, new MainThreadExecutor());
     }
 
     public Executor diskIO() {
         return diskIO;
     }
 
+    public Executor networkIO() {
+        return networkIO;
+    }
+
+    public ScheduledExecutorService scheduled() {
+        return scheduled;
+    }
+
     public Executor mainThread() {
         return mainThread;
     }
 
+    /**
+     * @return the current queue depth and task latencies of the shared pools.
+     */
+    public static List<ExecutorMetrics> getMetrics() {
+        final List<ExecutorMetrics> metrics = new ArrayList<>(3);
+        metrics.add(Pools.DISK_IO.stats.snapshot(Pools.DISK_IO));
+        metrics.add(Pools.NETWORK_IO.stats.snapshot(Pools.NETWORK_IO));
+        metrics.add(Pools.SCHEDULED.stats.snapshot(Pools.SCHEDULED));
+        return metrics;
+    }
+
     public static class MainThreadExecutor implements Executor {
 
         private Handler handler = new Handler(Looper.getMainLooper());
@@ -49,17 +100,179 @@ public class ExecutorsUtil {
         }
     }
 
-    private static class DiskIOThreadExecutor implements Executor {
+    // Created on first use.
+    private static class Pools {
 
-        private final Executor diskIO;
+        static final MeteredThreadPoolExecutor DISK_IO = new MeteredThreadPoolExecutor("kin-disk-io", 1,
+            Process.THREAD_PRIORITY_BACKGROUND);
+        // Network calls are usually made while the user waits for them.
+        static final MeteredThreadPoolExecutor NETWORK_IO = new MeteredThreadPoolExecutor("kin-network-io",
+            NETWORK_IO_THREADS, Process.THREAD_PRIORITY_BACKGROUND + Process.THREAD_PRIORITY_MORE_FAVORABLE);
+        static final MeteredScheduledExecutor SCHEDULED = new MeteredScheduledExecutor("kin-scheduled",
+            Process.THREAD_PRIORITY_BACKGROUND);
+    }
 
-        DiskIOThreadExecutor() {
-            diskIO = Executors.newSingleThreadExecutor();
+    private static class MeteredThreadPoolExecutor extends ThreadPoolExecutor {
+
+        private final TaskStats stats;
+
+        MeteredThreadPoolExecutor(String name, int threads, int priority) {
+            super(threads, threads, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(),
+                new BackgroundThreadFactory(name, priority));
+            this.stats = new TaskStats(name);
+            allowCoreThreadTimeOut(true);
         }
 
         @Override
         public void execute(@NonNull Runnable command) {
-            diskIO.execute(command);
+            super.execute(new TimedRunnable(command));
+        }
+
+        @Override
+        protected void beforeExecute(Thread t, Runnable r) {
+            super.beforeExecute(t, r);
+            stats.onStart(System.nanoTime() - ((TimedRunnable) r).submittedAt);
+            stats.traceQueueDepth(getQueue());
+        }
+
+        @Override
+        protected void afterExecute(Runnable r, Throwable t) {
+            super.afterExecute(r, t);
+            stats.onFinish();
+        }
+    }
+
+    private static class MeteredScheduledExecutor extends ScheduledThreadPoolExecutor {
+
+        private final TaskStats stats;
+
+        MeteredScheduledExecutor(String name, int priority) {
+            super(1, new BackgroundThreadFactory(name, priority));
+            this.stats = new TaskStats(name);
+        }
+
+        @Override
+        protected void beforeExecute(Thread t, Runnable r) {
+            super.beforeExecute(t, r);
+            // The queue time of a delayed task is how late it started, the delay itself is not counted.
+            final long lateNanos = r instanceof Delayed ? -((Delayed) r).getDelay(TimeUnit.NANOSECONDS) : 0;
+            stats.onStart(Math.max(lateNanos, 0));
+            stats.traceQueueDepth(getQueue());
+        }
+
+        @Override
+        protected void afterExecute(Runnable r, Throwable t) {
+            super.afterExecute(r, t);
+            stats.onFinish();
+        }
+    }
+
+    private static class TimedRunnable implements Runnable {
+
+        private final Runnable command;
+        private final long submittedAt = System.nanoTime();
+
+        TimedRunnable(Runnable command) {
+            this.command = command;
+        }
+
+        @Override
+        public void run() {
+            command.run();
+        }
+    }
+
+    private static class TaskStats {
+
+        private final String name;
+        private final String queueGaugeName;
+        private final AtomicLong completedTasks = new AtomicLong();
+        private final AtomicLong totalQueueNanos = new AtomicLong();
+        private final AtomicLong maxQueueNanos = new AtomicLong();
+        private final AtomicLong totalRunNanos = new AtomicLong();
+        private final AtomicLong maxRunNanos = new AtomicLong();
+
+        // Start time of the task that runs on the current pool thread.
+        private final ThreadLocal<long[]> startedAt = new ThreadLocal<long[]>() {
+            @Override
+            protected long[] initialValue() {
+                return new long[1];
+            }
+        };
+
+        TaskStats(String name) {
+            this.name = name;
+            this.queueGaugeName = "executor." + name + ".queue";
+        }
+
+        void onStart(long queueNanos) {
+            totalQueueNanos.addAndGet(queueNanos);
+            updateMax(maxQueueNanos, queueNanos);
+            startedAt.get()[0] = System.nanoTime();
+        }
+
+        // Sampled when a task starts, the tasks that still wait behind it.
+        void traceQueueDepth(BlockingQueue<Runnable> queue) {
+            if (Tracer.isEnabled()) {
+                Tracer.gauge(queueGaugeName, queue.size());
+            }
+        }
+
+        void onFinish() {
+            final long runNanos = System.nanoTime() - startedAt.get()[0];
+            totalRunNanos.addAndGet(runNanos);
+            updateMax(maxRunNanos, runNanos);
+            completedTasks.incrementAndGet();
+        }
+
+        ExecutorMetrics snapshot(ThreadPoolExecutor executor) {
+            final BlockingQueue<Runnable> queue = executor.getQueue();
+            final long completed = completedTasks.get();
+            return new ExecutorMetrics(name, queue.size(), executor.getActiveCount(), completed,
+                average(totalQueueNanos.get(), completed), toMillis(maxQueueNanos.get()),
+                average(totalRunNanos.get(), completed), toMillis(maxRunNanos.get()));
+        }
+
+        private static void updateMax(AtomicLong max, long value) {
+            long current;
+            while (value > (current = max.get())) {
+                if (max.compareAndSet(current, value)) {
+                    return;
+                }
+            }
+        }
+
+        private static long average(long totalNanos, long count) {
+            return count > 0 ? toMillis(totalNanos / count) : 0;
+        }
+
+        private static long toMillis(long nanos) {
+            return TimeUnit.NANOSECONDS.toMillis(nanos);
+        }
+    }
+
+    private static class BackgroundThreadFactory implements ThreadFactory {
+
+        private final String name;
+        private final int priority;
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        BackgroundThreadFactory(String name, int priority) {
+            this.name = name;
+            this.priority = priority;
+        }
+
+        @Override
+        public Thread newThread(@NonNull final Runnable runnable) {
+            final Thread thread = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    Process.setThreadPriority(priority);
+                    runnable.run();
+                }
+            }, name + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
         }
     }
 }
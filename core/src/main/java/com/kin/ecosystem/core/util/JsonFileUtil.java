@@ -0,0 +1,99 @@
+package com.kin.ecosystem.core.util;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.kin.ecosystem.core.Log;
+import com.kin.ecosystem.core.Logger;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.Charset;
+
+/**
+ * Read and write a single object as a JSON file, should be called from a background thread.
+ */
+public class JsonFileUtil {
+
+    private static final String TAG = JsonFileUtil.class.getSimpleName();
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    /**
+     * @return the object that is saved in the file, or null if the file does not exist or can't be parsed.
+     */
+    @Nullable
+    public static <T> T read(@NonNull File file, @NonNull Gson gson, @NonNull Class<T> classOfT) {
+        if (!file.exists()) {
+            return null;
+        }
+        Reader reader = null;
+        try {
+            reader = new InputStreamReader(new FileInputStream(file), UTF_8);
+            return gson.fromJson(reader, classOfT);
+        } catch (IOException | JsonParseException e) {
+            Logger.log(Log.create(TAG).priority(Log.ERROR).put("Read failed", file.getName()).put("error", e.getMessage()));
+            return null;
+        } finally {
+            close(reader);
+        }
+    }
+
+    /**
+     * Write to a temp file first and then replace the file, so a failed write will not corrupt the saved object.
+     *
+     * @return true if the object was saved.
+     */
+    public static boolean write(@NonNull File file, @NonNull Gson gson, @NonNull Object object) {
+        final File tempFile = new File(file.getPath() + TEMP_FILE_SUFFIX);
+        Writer writer = null;
+        try {
+            writer = new OutputStreamWriter(new FileOutputStream(tempFile), UTF_8);
+            gson.toJson(object, writer);
+            writer.flush();
+        } catch (IOException | JsonParseException e) {
+            Logger.log(Log.create(TAG).priority(Log.ERROR).put("Write failed", file.getName()).put("error", e.getMessage()));
+            return false;
+        } finally {
+            close(writer);
+        }
+        if (!tempFile.renameTo(file)) {
+            Logger.log(Log.create(TAG).priority(Log.ERROR).put("Rename failed", file.getName()));
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Delete the files in the directory whose name starts with the prefix, except the given file.
+     * Used to remove the saved copies of a previous user.
+     */
+    public static void deleteOthers(@NonNull File dir, @NonNull final String prefix, @NonNull File keep) {
+        final File[] files = dir.listFiles();
+        if (files == null) {
+            return;
+        }
+        for (File file : files) {
+            if (file.getName().startsWith(prefix) && !file.equals(keep) && !file.delete()) {
+                Logger.log(Log.create(TAG).priority(Log.ERROR).put("Delete failed", file.getName()));
+            }
+        }
+    }
+
+    private static void close(Closeable closeable) {
+        if (closeable != null) {
+            try {
+                closeable.close();
+            } catch (IOException e) {
+                // Nothing to do
+            }
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.kin.ecosystem.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Micro benchmark for the disabled logging path, which is the path of release builds.
+ * Measures the bytes allocated by the current thread while logging with logs disabled.
+ */
+public class LoggerTest {
+
+	private static final String TAG = LoggerTest.class.getSimpleName();
+
+	private static final int WARM_UP_ITERATIONS = 20000;
+	private static final int MEASURED_ITERATIONS = 1000000;
+	// A boxed Integer alone is 16 bytes, so anything allocated per log call is way above this.
+	private static final long ALLOCATION_TOLERANCE_BYTES = 1024;
+
+	private com.sun.management.ThreadMXBean threadMXBean;
+
+	@Before
+	public void setUp() {
+		java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+		threadMXBean = (com.sun.management.ThreadMXBean) bean;
+		assumeTrue(threadMXBean.isThreadAllocatedMemorySupported());
+		threadMXBean.setThreadAllocatedMemoryEnabled(true);
+		Logger.enableLogs(false);
+	}
+
+	@After
+	public void tearDown() {
+		Logger.enableLogs(false);
+	}
+
+	@Test
+	public void log_Disabled_NoAllocations() {
+		logLoop(WARM_UP_ITERATIONS);
+
+		final long threadId = Thread.currentThread().getId();
+		final long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+		logLoop(MEASURED_ITERATIONS);
+		final long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+		assertTrue("Disabled logging allocated " + allocated + " bytes", allocated < ALLOCATION_TOLERANCE_BYTES);
+	}
+
+	@Test
+	public void create_Disabled_SharedInstance() {
+		assertTrue(Log.create(TAG) == Log.create("other tag"));
+	}
+
+	@Test
+	public void create_Enabled_NewInstance() {
+		Logger.enableLogs(true);
+		assertTrue(Log.create(TAG) != Log.create(TAG));
+		assertEquals(true, Logger.isEnabled());
+	}
+
+	private static void logLoop(int iterations) {
+		for (int i = 0; i < iterations; i++) {
+			// Values above the Integer cache, they would be boxed into new objects if the int overload is missed.
+			final int balance = 1000 + i;
+			Logger.log(Log.create(TAG).priority(Log.DEBUG)
+				.put("getBalance onResult", balance)
+				.put("timestamp", (long) i)
+				.put("isEarn", (i & 1) == 0)
+				.text("balance listener"));
+		}
+	}
+}
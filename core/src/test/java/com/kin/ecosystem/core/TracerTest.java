@@ -0,0 +1,74 @@
+package com.kin.ecosystem.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.kin.ecosystem.common.RingBufferTraceSink;
+import com.kin.ecosystem.common.model.TraceEvent;
+import com.kin.ecosystem.common.model.TraceEvent.Type;
+import java.util.List;
+import org.junit.After;
+import org.junit.Test;
+
+public class TracerTest {
+
+	private final RingBufferTraceSink sink = new RingBufferTraceSink(3);
+
+	@After
+	public void tearDown() {
+		Tracer.removeSink(sink);
+	}
+
+	@Test
+	public void no_sink_nothing_recorded() {
+		assertFalse(Tracer.isEnabled());
+		Tracer.startSpan("span").end();
+		Tracer.count("counter");
+
+		Tracer.addSink(sink);
+		assertTrue(sink.getEvents().isEmpty());
+	}
+
+	@Test
+	public void events_delivered_until_sink_removed() {
+		Tracer.addSink(sink);
+		Tracer.addSink(sink);
+		Tracer.startSpan("span").end("200");
+		Tracer.count("counter", 2);
+		Tracer.gauge("gauge", 5);
+
+		List<TraceEvent> events = sink.getEvents();
+		assertEquals(3, events.size());
+		assertEquals(Type.SPAN, events.get(0).getType());
+		assertEquals("span", events.get(0).getName());
+		assertEquals("200", events.get(0).getDetail());
+		assertTrue(events.get(0).getValue() >= 0);
+		assertEquals(Type.COUNTER, events.get(1).getType());
+		assertEquals(2, events.get(1).getValue());
+		assertEquals(Type.GAUGE, events.get(2).getType());
+		assertEquals(5, events.get(2).getValue());
+
+		Tracer.removeSink(sink);
+		assertFalse(Tracer.isEnabled());
+		Tracer.count("counter");
+		assertEquals(3, sink.getEvents().size());
+	}
+
+	@Test
+	public void ring_buffer_keeps_last_events() {
+		Tracer.addSink(sink);
+		for (int i = 0; i < 5; i++) {
+			Tracer.gauge("gauge", i);
+		}
+
+		List<TraceEvent> events = sink.getEvents();
+		assertEquals(3, events.size());
+		assertEquals(2, events.get(0).getValue());
+		assertEquals(4, events.get(2).getValue());
+		assertEquals(3, sink.dump().split("\n").length);
+
+		sink.clear();
+		assertTrue(sink.getEvents().isEmpty());
+	}
+}
@@ -0,0 +1,318 @@
+package com.kin.ecosystem.core.bi;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.kin.ecosystem.core.bi.events.Common;
+import com.kin.ecosystem.core.bi.events.User;
+import com.kin.ecosystem.core.network.ApiClient;
+import com.kin.ecosystem.core.network.ApiException;
+import com.kin.ecosystem.core.network.JSON;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+public class EventLoggerImplTest {
+
+	private static final Charset UTF_8 = Charset.forName("UTF-8");
+	private static final long FLUSH_INTERVAL_MILLIS = TimeUnit.SECONDS.toMillis(15);
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private final List<ScheduledFlush> scheduled = new ArrayList<>();
+	private final List<String> sentBatches = new ArrayList<>();
+	private final List<String> requestIds = new ArrayList<>();
+
+	private File queueFile;
+	private EventsApi eventsApi;
+	private EventsQueue eventsQueue;
+	private EventLoggerImpl eventLogger;
+	// The code sendEvents fails with, 0 to succeed.
+	private int failureCode;
+	private int sentEvents;
+
+	@Before
+	public void setUp() throws Exception {
+		final JSON json = mock(JSON.class);
+		when(json.serialize(any())).thenAnswer(new Answer<String>() {
+			@Override
+			public String answer(InvocationOnMock invocation) {
+				return ((TestEvent) invocation.getArgument(0)).json;
+			}
+		});
+		final ApiClient apiClient = mock(ApiClient.class);
+		when(apiClient.getJSON()).thenReturn(json);
+		eventsApi = mock(EventsApi.class);
+		when(eventsApi.getApiClient()).thenReturn(apiClient);
+		doAnswer(new Answer<Void>() {
+			@Override
+			public Void answer(InvocationOnMock invocation) throws ApiException {
+				sentBatches.add(new String((byte[]) invocation.getArgument(0), UTF_8));
+				requestIds.add((String) invocation.getArgument(1));
+				if (failureCode != 0) {
+					throw new ApiException(failureCode, "failed");
+				}
+				return null;
+			}
+		}).when(eventsApi).sendEvents(any(byte[].class), anyString());
+
+		final ScheduledExecutorService executor = mock(ScheduledExecutorService.class);
+		doAnswer(new Answer<Void>() {
+			@Override
+			public Void answer(InvocationOnMock invocation) {
+				((Runnable) invocation.getArgument(0)).run();
+				return null;
+			}
+		}).when(executor).execute(any(Runnable.class));
+		when(executor.schedule(any(Runnable.class), anyLong(), any(TimeUnit.class)))
+			.thenAnswer(new Answer<ScheduledFuture<?>>() {
+				@Override
+				public ScheduledFuture<?> answer(InvocationOnMock invocation) {
+					final ScheduledFlush flush = new ScheduledFlush((Runnable) invocation.getArgument(0),
+						(Long) invocation.getArgument(1));
+					scheduled.add(flush);
+					return flush.future;
+				}
+			});
+		final Executor networkIO = new Executor() {
+			@Override
+			public void execute(Runnable command) {
+				command.run();
+			}
+		};
+
+		queueFile = new File(folder.getRoot(), "events");
+		eventsQueue = new EventsQueue(queueFile, 500);
+		eventLogger = new EventLoggerImpl(eventsApi, eventsQueue, executor, networkIO);
+	}
+
+	@Test
+	public void send_flushed_after_interval() throws Exception {
+		send(3);
+		assertEquals(FLUSH_INTERVAL_MILLIS, runNextFlush());
+
+		assertEquals(1, sentBatches.size());
+		assertEquals("[{\"i\":0},{\"i\":1},{\"i\":2}]", sentBatches.get(0));
+		assertEquals(0, eventsQueue.size());
+		assertNull(nextFlush());
+	}
+
+	@Test
+	public void send_flush_batch_size_flushed_now() throws Exception {
+		send(19);
+		assertEquals(FLUSH_INTERVAL_MILLIS, nextFlush().delayMillis);
+		send(1);
+		assertEquals(0, runNextFlush());
+
+		assertEquals(1, sentBatches.size());
+		assertEquals(0, eventsQueue.size());
+	}
+
+	@Test
+	public void send_more_than_batch_sent_in_batches() throws Exception {
+		send(70);
+		assertEquals(0, runNextFlush());
+		assertEquals(20, eventsQueue.size());
+		assertEquals(0, runNextFlush());
+
+		assertEquals(2, sentBatches.size());
+		assertEquals(0, eventsQueue.size());
+	}
+
+	@Test
+	public void server_error_retried_with_backoff_same_request() throws Exception {
+		failureCode = 500;
+		send(3);
+		runNextFlush();
+		assertEquals(TimeUnit.SECONDS.toMillis(5), nextFlush().delayMillis);
+
+		// Events sent while the batch is retried wait for it.
+		send(30);
+		assertEquals(TimeUnit.SECONDS.toMillis(5), runNextFlush());
+		assertEquals(TimeUnit.SECONDS.toMillis(10), runNextFlush());
+		assertEquals(TimeUnit.SECONDS.toMillis(20), nextFlush().delayMillis);
+
+		failureCode = 0;
+		runNextFlush();
+
+		assertEquals(4, sentBatches.size());
+		for (int i = 1; i < sentBatches.size(); i++) {
+			assertEquals(sentBatches.get(0), sentBatches.get(i));
+			assertEquals(requestIds.get(0), requestIds.get(i));
+		}
+		assertEquals(30, eventsQueue.size());
+		// The backoff is over, the waiting events are sent now.
+		assertEquals(0, runNextFlush());
+		assertEquals(0, eventsQueue.size());
+	}
+
+	@Test
+	public void server_error_evicted_events_not_removed_with_batch() throws Exception {
+		failureCode = 503;
+		send(3);
+		runNextFlush();
+		// Fills the queue, older events are evicted while the batch waits for its retry.
+		send(600);
+		final List<String> queued = readQueueFile();
+		assertEquals(Arrays.asList("{\"i\":0}", "{\"i\":1}", "{\"i\":2}"), queued.subList(0, 3));
+
+		failureCode = 0;
+		runNextFlush();
+
+		assertEquals(sentBatches.get(0), sentBatches.get(1));
+		assertEquals(requestIds.get(0), requestIds.get(1));
+		// Only the sent batch was removed.
+		assertEquals(queued.subList(3, queued.size()), readQueueFile());
+	}
+
+	@Test
+	public void client_error_batch_dropped() throws Exception {
+		failureCode = 400;
+		send(3);
+		runNextFlush();
+
+		verify(eventsApi, times(1)).sendEvents(any(byte[].class), anyString());
+		assertEquals(0, eventsQueue.size());
+		assertNull(nextFlush());
+	}
+
+	@Test
+	public void timeout_and_too_many_requests_retried() throws Exception {
+		failureCode = 408;
+		send(3);
+		runNextFlush();
+		assertEquals(3, eventsQueue.size());
+
+		failureCode = 429;
+		assertEquals(TimeUnit.SECONDS.toMillis(5), runNextFlush());
+		assertEquals(3, eventsQueue.size());
+		assertEquals(TimeUnit.SECONDS.toMillis(10), nextFlush().delayMillis);
+	}
+
+	@Test
+	public void empty_queue_nothing_sent() throws Exception {
+		assertEquals(FLUSH_INTERVAL_MILLIS, runNextFlush());
+
+		verify(eventsApi, never()).sendEvents(any(byte[].class), anyString());
+		assertNull(nextFlush());
+	}
+
+	private void send(int count) {
+		for (int i = 0; i < count; i++) {
+			eventLogger.send(new TestEvent("{\"i\":" + sentEvents++ + "}"));
+		}
+	}
+
+	private List<String> readQueueFile() throws IOException {
+		final List<String> lines = new ArrayList<>();
+		final BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(queueFile), UTF_8));
+		try {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				lines.add(line);
+			}
+		} finally {
+			reader.close();
+		}
+		return lines;
+	}
+
+	/**
+	 * @return the flush that is scheduled now, null if there is none.
+	 */
+	private ScheduledFlush nextFlush() {
+		ScheduledFlush next = null;
+		for (ScheduledFlush flush : scheduled) {
+			if (!flush.isCancelled && !flush.isDone) {
+				next = flush;
+			}
+		}
+		return next;
+	}
+
+	/**
+	 * @return the delay the flush was scheduled with.
+	 */
+	private long runNextFlush() {
+		final ScheduledFlush flush = nextFlush();
+		flush.isDone = true;
+		flush.runnable.run();
+		return flush.delayMillis;
+	}
+
+	private static class TestEvent implements Event {
+
+		private final String json;
+
+		TestEvent(String json) {
+			this.json = json;
+		}
+
+		@Override
+		public Common getCommon() {
+			return null;
+		}
+
+		@Override
+		public void setCommon(Common common) {
+		}
+
+		@Override
+		public User getUser() {
+			return null;
+		}
+
+		@Override
+		public void setUser(User user) {
+		}
+	}
+
+	private static class ScheduledFlush {
+
+		private final Runnable runnable;
+		private final long delayMillis;
+		private final ScheduledFuture<?> future = mock(ScheduledFuture.class);
+
+		private boolean isCancelled;
+		private boolean isDone;
+
+		ScheduledFlush(Runnable runnable, long delayMillis) {
+			this.runnable = runnable;
+			this.delayMillis = delayMillis;
+			when(future.cancel(anyBoolean())).thenAnswer(new Answer<Boolean>() {
+				@Override
+				public Boolean answer(InvocationOnMock invocation) {
+					isCancelled = true;
+					return true;
+				}
+			});
+		}
+	}
+}
@@ -0,0 +1,142 @@
+package com.kin.ecosystem.core.bi;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class EventsQueueTest {
+
+	private static final int MAX_QUEUE_SIZE = 500;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private File file;
+
+	@Before
+	public void setUp() throws Exception {
+		file = new File(folder.getRoot(), "events");
+	}
+
+	@Test
+	public void events_saved_one_per_line_and_removed_from_head() throws Exception {
+		EventsQueue queue = new EventsQueue(file, MAX_QUEUE_SIZE);
+		queue.add("{\"event_name\":\"a\"}");
+		queue.add("{\"event_name\":\"b\"}");
+		queue.add("{\"event_name\":\"c\"}");
+		assertEquals(Arrays.asList("{\"event_name\":\"a\"}", "{\"event_name\":\"b\"}", "{\"event_name\":\"c\"}"),
+			readLines());
+
+		assertEquals(Arrays.asList("{\"event_name\":\"a\"}", "{\"event_name\":\"b\"}"), queue.peekBatch(2));
+		queue.removeBatch();
+		assertEquals(Arrays.asList("{\"event_name\":\"c\"}"), readLines());
+
+		EventsQueue loaded = new EventsQueue(file, MAX_QUEUE_SIZE);
+		assertEquals(1, loaded.size());
+		assertEquals(Arrays.asList("{\"event_name\":\"c\"}"), loaded.peekBatch(50));
+	}
+
+	@Test
+	public void batch_kept_until_removed() throws Exception {
+		EventsQueue queue = new EventsQueue(file, MAX_QUEUE_SIZE);
+		queue.add("1");
+		queue.add("2");
+		assertEquals(Arrays.asList("1", "2"), queue.peekBatch(50));
+
+		queue.add("3");
+		assertEquals(Arrays.asList("1", "2"), queue.peekBatch(50));
+		queue.removeBatch();
+		assertEquals(Arrays.asList("3"), queue.peekBatch(50));
+	}
+
+	@Test
+	public void full_queue_evicts_oldest_tenth() throws Exception {
+		EventsQueue queue = new EventsQueue(file, MAX_QUEUE_SIZE);
+		for (int i = 0; i < MAX_QUEUE_SIZE; i++) {
+			queue.add(Integer.toString(i));
+		}
+		assertEquals(MAX_QUEUE_SIZE, queue.size());
+
+		queue.add(Integer.toString(MAX_QUEUE_SIZE));
+		assertEquals(MAX_QUEUE_SIZE - MAX_QUEUE_SIZE / 10 + 1, queue.size());
+		assertEquals("50", queue.peekBatch(1).get(0));
+
+		List<String> lines = readLines();
+		assertEquals(queue.size(), lines.size());
+		assertEquals("50", lines.get(0));
+		assertEquals(Integer.toString(MAX_QUEUE_SIZE), lines.get(lines.size() - 1));
+	}
+
+	@Test
+	public void full_queue_keeps_batch_in_flight() throws Exception {
+		EventsQueue queue = new EventsQueue(file, MAX_QUEUE_SIZE);
+		for (int i = 0; i < MAX_QUEUE_SIZE; i++) {
+			queue.add(Integer.toString(i));
+		}
+		final List<String> batch = queue.peekBatch(20);
+
+		queue.add(Integer.toString(MAX_QUEUE_SIZE));
+		assertEquals(batch, queue.peekBatch(20));
+		// The oldest events after the batch are evicted.
+		assertEquals(MAX_QUEUE_SIZE - MAX_QUEUE_SIZE / 10 + 1, queue.size());
+		List<String> lines = readLines();
+		assertEquals(batch, lines.subList(0, 20));
+		assertEquals("70", lines.get(20));
+
+		queue.removeBatch();
+		assertEquals("70", queue.peekBatch(1).get(0));
+		assertEquals(MAX_QUEUE_SIZE - MAX_QUEUE_SIZE / 10 + 1 - 20, queue.size());
+	}
+
+	@Test
+	public void full_queue_of_batch_not_evicted() throws Exception {
+		EventsQueue queue = new EventsQueue(file, 2);
+		queue.add("1");
+		queue.add("2");
+		queue.peekBatch(2);
+
+		queue.add("3");
+		assertEquals(Arrays.asList("1", "2", "3"), readLines());
+		queue.removeBatch();
+		assertEquals(Arrays.asList("3"), queue.peekBatch(2));
+	}
+
+	@Test
+	public void load_skips_empty_lines_and_keeps_newest() throws Exception {
+		Writer writer = new OutputStreamWriter(new FileOutputStream(file), "UTF-8");
+		writer.write("1\n\n2\n3\n4\n");
+		writer.close();
+
+		EventsQueue queue = new EventsQueue(file, 3);
+		assertEquals(3, queue.size());
+		assertEquals(Arrays.asList("2", "3", "4"), queue.peekBatch(10));
+	}
+
+	private List<String> readLines() throws IOException {
+		List<String> lines = new ArrayList<>();
+		BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(file), "UTF-8"));
+		try {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				lines.add(line);
+			}
+		} finally {
+			reader.close();
+		}
+		return lines;
+	}
+}
@@ -0,0 +1,219 @@
+package com.kin.ecosystem.core.bi;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.kin.ecosystem.core.bi.EventsStore.ClientModifier;
+import com.kin.ecosystem.core.bi.EventsStore.CommonModifier;
+import com.kin.ecosystem.core.bi.EventsStore.DynamicValue;
+import com.kin.ecosystem.core.bi.EventsStore.UserModifier;
+import com.kin.ecosystem.core.bi.events.Client;
+import com.kin.ecosystem.core.bi.events.ClientProxy;
+import com.kin.ecosystem.core.bi.events.Common;
+import com.kin.ecosystem.core.bi.events.CommonProxy;
+import com.kin.ecosystem.core.bi.events.KinBalanceUpdated;
+import com.kin.ecosystem.core.bi.events.User;
+import com.kin.ecosystem.core.bi.events.UserProxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Events are created on the main thread and on network threads while the store is updated.
+ * Every property of an update is set from the same generation number,
+ * so an event with properties from different generations is torn.
+ */
+public class EventsStoreTest {
+
+	private static final int WRITERS = 2;
+	private static final int NETWORK_READERS = 4;
+	private static final int UPDATES_PER_WRITER = 5000;
+	private static final long TIMEOUT_SECONDS = 60;
+
+	private final AtomicInteger generation = new AtomicInteger();
+	private final AtomicReference<String> tornEvent = new AtomicReference<>();
+	private final AtomicBoolean writersDone = new AtomicBoolean();
+
+	@Before
+	public void setUp() {
+		EventsStore.init(userModifier(0), commonModifier(0), clientModifier(0));
+	}
+
+	@Test
+	public void update_WhileCreatingEvents_NoTornSnapshots() throws Exception {
+		final List<Thread> threads = new ArrayList<>();
+		final CountDownLatch start = new CountDownLatch(1);
+		final CountDownLatch writersLatch = new CountDownLatch(WRITERS);
+		final AtomicInteger eventsCreated = new AtomicInteger();
+		final long initialVersion = EventsStore.version();
+
+		for (int i = 0; i < WRITERS; i++) {
+			threads.add(new Thread(new Runnable() {
+				@Override
+				public void run() {
+					await(start);
+					for (int j = 0; j < UPDATES_PER_WRITER; j++) {
+						switch (j % 4) {
+							case 0:
+								EventsStore.update(userModifier(generation.incrementAndGet()));
+								break;
+							case 1:
+								EventsStore.update(commonModifier(generation.incrementAndGet()));
+								break;
+							case 2:
+								EventsStore.update(clientModifier(generation.incrementAndGet()));
+								break;
+							default:
+								EventsStore.refresh();
+								break;
+						}
+					}
+					writersLatch.countDown();
+				}
+			}, "writer-" + i));
+		}
+
+		// One reader stands for the main thread, the others for OkHttp threads.
+		for (int i = 0; i <= NETWORK_READERS; i++) {
+			threads.add(new Thread(new Runnable() {
+				@Override
+				public void run() {
+					await(start);
+					long lastVersion = 0;
+					while (!writersDone.get() && tornEvent.get() == null) {
+						final long version = EventsStore.version();
+						if (version < lastVersion) {
+							tornEvent.compareAndSet(null, "Version went back from " + lastVersion + " to " + version);
+						}
+						lastVersion = version;
+						check(KinBalanceUpdated.create(1.0));
+						eventsCreated.incrementAndGet();
+					}
+				}
+			}, i == 0 ? "main" : "OkHttp-" + i));
+		}
+
+		for (Thread thread : threads) {
+			thread.start();
+		}
+		start.countDown();
+		assertTrue(writersLatch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+		writersDone.set(true);
+		for (Thread thread : threads) {
+			thread.join(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+		}
+
+		assertNull(tornEvent.get());
+		assertTrue(eventsCreated.get() > 0);
+		assertEquals(initialVersion + WRITERS * UPDATES_PER_WRITER, EventsStore.version());
+	}
+
+	private void check(KinBalanceUpdated event) {
+		final User user = event.getUser();
+		final int userGeneration = parseGeneration(user.getDigitalServiceUserId());
+		if (user.getBalance() != userGeneration
+			|| user.getEarnCount() != userGeneration
+			|| parseGeneration(user.getDigitalServiceId()) != userGeneration
+			|| parseGeneration(user.getEntryPointParam()) != userGeneration) {
+			tornEvent.compareAndSet(null, "Torn user " + user.getDigitalServiceUserId() + ", " + user.getBalance());
+		}
+
+		final Common common = event.getCommon();
+		if (parseGeneration(common.getVersion()) != parseGeneration(common.getUserId())
+			|| common.getEventId() == null || common.getTimestamp() == null) {
+			tornEvent.compareAndSet(null, "Torn common " + common.getVersion() + ", " + common.getUserId());
+		}
+
+		final Client client = event.getClient();
+		final int clientGeneration = parseGeneration(client.getOs());
+		if (parseGeneration(client.getLanguage()) != clientGeneration
+			|| parseGeneration(client.getCarrier()) != clientGeneration
+			|| parseGeneration(client.getDeviceId()) != clientGeneration
+			|| parseGeneration(client.getDeviceModel()) != clientGeneration) {
+			tornEvent.compareAndSet(null, "Torn client " + client.getOs() + ", " + client.getDeviceId());
+		}
+	}
+
+	private static int parseGeneration(String value) {
+		return Integer.parseInt(value.substring(value.indexOf('-') + 1));
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	// Dynamic values, so the store is left for the other tests to modify.
+	private static UserModifier userModifier(final int generation) {
+		return new UserModifier() {
+			@Override
+			public void modify(UserProxy mutable) {
+				mutable.setDigitalServiceUserId(value("user-" + generation));
+				mutable.setBalance(value((double) generation));
+				mutable.setEarnCount(value(generation));
+				mutable.setTotalKinSpent(value(0.0));
+				mutable.setDigitalServiceId(value("service-" + generation));
+				mutable.setTransactionCount(value(0));
+				mutable.setEntryPointParam(value("entry-" + generation));
+				mutable.setSpendCount(value(0));
+				mutable.setTotalKinEarned(value(0.0));
+			}
+		};
+	}
+
+	private static CommonModifier commonModifier(final int generation) {
+		return new CommonModifier() {
+			@Override
+			public void modify(CommonProxy mutable) {
+				mutable.setVersion(value("version-" + generation));
+				mutable.setUserId(value("user-" + generation));
+				mutable.setEventId(new DynamicValue<UUID>() {
+					@Override
+					public UUID get() {
+						return UUID.randomUUID();
+					}
+				});
+				mutable.setTimestamp(new DynamicValue<Long>() {
+					@Override
+					public Long get() {
+						return System.currentTimeMillis();
+					}
+				});
+			}
+		};
+	}
+
+	private static ClientModifier clientModifier(final int generation) {
+		return new ClientModifier() {
+			@Override
+			public void modify(ClientProxy mutable) {
+				mutable.setOs(value("os-" + generation));
+				mutable.setLanguage(value("language-" + generation));
+				mutable.setCarrier(value("carrier-" + generation));
+				mutable.setDeviceId(value("device-" + generation));
+				mutable.setDeviceManufacturer(value("manufacturer-" + generation));
+				mutable.setDeviceModel(value("model-" + generation));
+			}
+		};
+	}
+
+	private static <T> DynamicValue<T> value(final T value) {
+		return new DynamicValue<T>() {
+			@Override
+			public T get() {
+				return value;
+			}
+		};
+	}
+}
@@ -8,6 +8,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -19,12 +20,14 @@ import com.kin.ecosystem.common.model.Balance;
 import com.kin.ecosystem.core.data.blockchain.BlockchainSource;
 import com.kin.ecosystem.core.data.blockchain.BlockchainSourceImpl;
 import com.kin.ecosystem.core.data.blockchain.Payment;
+import com.kin.ecosystem.core.util.ExecutorsUtil;
 import java.lang.reflect.Field;
 import java.math.BigDecimal;
 import kin.core.BlockchainEvents;
 import kin.core.EventListener;
 import kin.core.KinAccount;
 import kin.core.KinClient;
+import kin.core.PaymentInfo;
 import kin.core.Request;
 import kin.core.ResultCallback;
 import kin.core.TransactionId;
@@ -87,6 +90,7 @@ public class BlockchainSourceImplTest extends BaseTestClass {
 		when(kinAccount.blockchainEvents()).thenReturn(blockchainEvents);
 		when(kinAccount.getBalance()).thenReturn(getBalanceReq);
 		when(balanceObj.value()).thenReturn(new BigDecimal(20));
+		when(local.getBalance()).thenReturn(BigDecimal.ZERO);
 		when(kinAccount.getPublicAddress()).thenReturn(PUBLIC_ADDRESS);
 		doNothing().when(kinAccount).activateSync();
 
@@ -99,7 +103,7 @@ public class BlockchainSourceImplTest extends BaseTestClass {
 		// init Balance
 		verify(getBalanceReq).run(getBalanceCaptor.capture());
 		getBalanceCaptor.getValue().onResult(balanceObj);
-		verify(local).setBalance(balanceObj.value().intValue());
+		verify(local).setBalance(balanceObj.value());
 
 		when(kinClient.getAccount(0)).thenReturn(kinAccount);
 		balance = new Balance();
@@ -110,14 +114,14 @@ public class BlockchainSourceImplTest extends BaseTestClass {
 		Field instance = BlockchainSourceImpl.class.getDeclaredField("instance");
 		instance.setAccessible(true);
 		instance.set(null, null);
-		BlockchainSourceImpl.init(eventLogger, kinClient, local);
+		BlockchainSourceImpl.init(eventLogger, kinClient, local, new ExecutorsUtil());
 		blockchainSource = BlockchainSourceImpl.getInstance();
 	}
 
 	@Test
 	public void init_once_and_one_account() throws Exception {
-		BlockchainSourceImpl.init(eventLogger, kinClient, local);
-		BlockchainSourceImpl.init(eventLogger, kinClient, local);
+		BlockchainSourceImpl.init(eventLogger, kinClient, local, new ExecutorsUtil());
+		BlockchainSourceImpl.init(eventLogger, kinClient, local, new ExecutorsUtil());
 		assertEquals(blockchainSource, BlockchainSourceImpl.getInstance());
 		verify(kinClient).addAccount();
 	}
@@ -227,14 +231,14 @@ public class BlockchainSourceImplTest extends BaseTestClass {
 		blockchainSource.setBalance(innerBalance);
 		assertEquals(value, balance.getAmount());
 
-		inOrder.verify(local).setBalance(25);
-		inOrder.verify(local).setBalance(50);
-		inOrder.verify(local, never()).setBalance(any(Integer.class));
+		inOrder.verify(local).setBalance(new BigDecimal(25));
+		inOrder.verify(local).setBalance(new BigDecimal(50));
+		inOrder.verify(local, never()).setBalance(any(BigDecimal.class));
 	}
 
 	@Test
 	public void add_balance_observer_and_start_listen() throws Exception {
-		ArgumentCaptor<EventListener<kin.core.Balance>> balanceEventListener = forClass(EventListener.class);
+		ArgumentCaptor<EventListener<PaymentInfo>> paymentEventListener = forClass(EventListener.class);
 
 		blockchainSource.addBalanceObserverAndStartListen(new Observer<Balance>() {
 			@Override
@@ -243,14 +247,36 @@ public class BlockchainSourceImplTest extends BaseTestClass {
 			}
 		});
 
-		verify(blockchainEvents).addBalanceListener(balanceEventListener.capture());
-		BigDecimal value = new BigDecimal(123);
+		verify(blockchainEvents).addPaymentListener(paymentEventListener.capture());
+		verify(blockchainEvents, never()).addBalanceListener(any(EventListener.class));
+
+		// A payment refreshes the balance.
+		PaymentInfo paymentInfo = mock(PaymentInfo.class);
+		when(paymentInfo.memo()).thenReturn(MEMO_EXAMPLE);
+		paymentEventListener.getValue().onEvent(paymentInfo);
 
+		BigDecimal value = new BigDecimal(123);
 		when(balanceObj.value()).thenReturn(value);
-		balanceEventListener.getValue().onEvent(balanceObj);
+		verify(getBalanceReq, times(2)).run(getBalanceCaptor.capture());
+		getBalanceCaptor.getValue().onResult(balanceObj);
 
 		assertEquals(value, balance.getAmount());
-		verify(local).setBalance(value.intValue());
+		verify(local).setBalance(value);
+	}
 
+	@Test
+	public void balance_and_payment_observers_share_one_stream() throws Exception {
+		Observer<Balance> balanceObserver = mock(Observer.class);
+		Observer<Payment> paymentObserver = mock(Observer.class);
+
+		blockchainSource.addBalanceObserverAndStartListen(balanceObserver);
+		blockchainSource.addPaymentObservable(paymentObserver);
+		verify(blockchainEvents).addPaymentListener(any(EventListener.class));
+
+		blockchainSource.removeBalanceObserverAndStopListen(balanceObserver);
+		blockchainSource.removePaymentObserver(paymentObserver);
+		blockchainSource.addPaymentObservable(paymentObserver);
+		// Still open, it is closed only after being idle for a while.
+		verify(blockchainEvents).addPaymentListener(any(EventListener.class));
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,98 @@
+package com.kin.ecosystem.core.data.blockchain;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.math.BigInteger;
+import java.util.Random;
+import org.junit.Test;
+
+public class MemoCodecTest {
+
+	private static final String APP_ID = "test";
+	private static final String ORDER_ID = "GyUGc8O1eKPfnNEmDv1WY";
+	private static final long SEED = 0x6b696e;
+	private static final int FUZZ_ITERATIONS = 200000;
+	// Memos are built mostly from these, so the random ones often look almost valid.
+	private static final String[] PARTS = {"1", "01", "2", "10", "x", "-", "--", APP_ID, "tes", "testt", "TEST",
+		ORDER_ID, "", " ", "\u00e9", "9999999999999"};
+	private static final String CHARS = "-01a2tesT ";
+
+	@Test
+	public void encode_decode() {
+		assertEquals("1-" + APP_ID + "-" + ORDER_ID, MemoCodec.encode(APP_ID, ORDER_ID));
+		assertEquals(ORDER_ID, MemoCodec.decodeOrderId(MemoCodec.encode(APP_ID, ORDER_ID), APP_ID));
+	}
+
+	@Test
+	public void decode_not_matching() {
+		assertNull(MemoCodec.decodeOrderId(null, APP_ID));
+		assertNull(MemoCodec.decodeOrderId("1-" + APP_ID + "-" + ORDER_ID, null));
+		assertNull(MemoCodec.decodeOrderId("1-" + APP_ID + "-" + ORDER_ID, "other"));
+		assertNull(MemoCodec.decodeOrderId("2-" + APP_ID + "-" + ORDER_ID, APP_ID));
+		assertNull(MemoCodec.decodeOrderId("-" + APP_ID + "-" + ORDER_ID, APP_ID));
+		assertNull(MemoCodec.decodeOrderId("1-" + APP_ID + "-", APP_ID));
+		assertNull(MemoCodec.decodeOrderId("1-" + APP_ID, APP_ID));
+		assertNull(MemoCodec.decodeOrderId("1-" + APP_ID + "-" + ORDER_ID + "-", APP_ID));
+		assertNull(MemoCodec.decodeOrderId("1-" + APP_ID + "1-" + ORDER_ID, APP_ID));
+		assertNull(MemoCodec.decodeOrderId("", APP_ID));
+	}
+
+	@Test
+	public void decode_fuzz_same_as_split() {
+		final Random random = new Random(SEED);
+		for (int i = 0; i < FUZZ_ITERATIONS; i++) {
+			final String memo = randomMemo(random);
+			assertEquals(memo, decodeWithSplit(memo, APP_ID), MemoCodec.decodeOrderId(memo, APP_ID));
+		}
+	}
+
+	@Test
+	public void encode_decode_fuzz() {
+		final Random random = new Random(SEED);
+		for (int i = 0; i < FUZZ_ITERATIONS; i++) {
+			final String appID = randomString(random, 1 + random.nextInt(8), "-");
+			final String orderID = randomString(random, 1 + random.nextInt(32), "-");
+			assertEquals(orderID, MemoCodec.decodeOrderId(MemoCodec.encode(appID, orderID), appID));
+		}
+	}
+
+	private static String randomMemo(Random random) {
+		final StringBuilder memo = new StringBuilder();
+		final int parts = random.nextInt(6);
+		for (int i = 0; i < parts; i++) {
+			if (random.nextInt(4) == 0) {
+				memo.append(CHARS.charAt(random.nextInt(CHARS.length())));
+			} else {
+				memo.append(PARTS[random.nextInt(PARTS.length)]);
+			}
+			if (random.nextBoolean()) {
+				memo.append(MemoCodec.MEMO_DELIMITER);
+			}
+		}
+		return memo.toString();
+	}
+
+	private static String randomString(Random random, int length, String excluded) {
+		final StringBuilder builder = new StringBuilder(length);
+		while (builder.length() < length) {
+			final char c = (char) (' ' + random.nextInt('~' - ' '));
+			if (excluded.indexOf(c) < 0) {
+				builder.append(c);
+			}
+		}
+		return builder.toString();
+	}
+
+	// The memo format spelled out with split, version-appID-orderID.
+	private static String decodeWithSplit(String memo, String appID) {
+		final String[] parts = memo.split(String.valueOf(MemoCodec.MEMO_DELIMITER), -1);
+		if (parts.length != 3 || !parts[0].matches("[0-9]+") || parts[2].isEmpty()) {
+			return null;
+		}
+		if (!new BigInteger(parts[0]).equals(BigInteger.valueOf(MemoCodec.MEMO_FORMAT_VERSION))) {
+			return null;
+		}
+		return parts[1].equals(appID) ? parts[2] : null;
+	}
+}
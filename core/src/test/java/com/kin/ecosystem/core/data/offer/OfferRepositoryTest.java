@@ -5,6 +5,7 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -14,6 +15,7 @@ import com.kin.ecosystem.common.NativeOfferClickEvent;
 import com.kin.ecosystem.common.Observer;
 import com.kin.ecosystem.common.Callback;
 import com.kin.ecosystem.common.model.NativeSpendOffer;
+import com.kin.ecosystem.core.data.auth.AuthDataSource;
 import com.kin.ecosystem.core.data.order.OrderDataSource;
 import com.kin.ecosystem.common.exception.KinEcosystemException;
 import com.kin.ecosystem.core.network.model.Offer;
@@ -43,6 +45,12 @@ public class OfferRepositoryTest {
 	@Mock
 	private OfferDataSource.Remote remote;
 
+	@Mock
+	private OfferDataSource.Local local;
+
+	@Mock
+	private AuthDataSource authRepository;
+
 	@Mock
 	private Offer offer;
 
@@ -58,7 +66,7 @@ public class OfferRepositoryTest {
 		Field instance = OfferRepository.class.getDeclaredField("instance");
 		instance.setAccessible(true);
 		instance.set(null, null);
-		OfferRepository.init(remote, orderRepository);
+		OfferRepository.init(remote, local, orderRepository, authRepository);
 		offerRepository = OfferRepository.getInstance();
 
 		when(offer.getId()).thenReturn("1");
@@ -74,14 +82,14 @@ public class OfferRepositoryTest {
 	@Test
 	public void getOffers_Succeed_SavedToCachedList() {
 		KinCallback<OfferList> offerListCallback = mock(KinCallback.class);
-		ArgumentCaptor<Callback<OfferList, ApiException>> getOfferCapture = ArgumentCaptor.forClass(Callback.class);
+		ArgumentCaptor<Callback<OfferCatalog, ApiException>> getOfferCapture = ArgumentCaptor.forClass(Callback.class);
 
 		OfferList offerList = getOfferList();
 
 		offerRepository.getOffers(offerListCallback);
-		verify(remote).getOffers(getOfferCapture.capture());
+		verify(remote).getOffers(isNull(OfferCatalog.class), getOfferCapture.capture());
 
-		getOfferCapture.getValue().onResponse(offerList);
+		getOfferCapture.getValue().onResponse(new OfferCatalog(offerList, "etag", null));
 		assertEquals(1, offerRepository.getCachedOfferList().getOffers().size());
 		verify(offerListCallback).onResponse(offerList);
 	}
@@ -89,10 +97,10 @@ public class OfferRepositoryTest {
 	@Test
 	public void getOffers_Failed() {
 		KinCallback<OfferList> offerListCallback = mock(KinCallback.class);
-		ArgumentCaptor<Callback<OfferList, ApiException>> getOfferCapture = ArgumentCaptor.forClass(Callback.class);
+		ArgumentCaptor<Callback<OfferCatalog, ApiException>> getOfferCapture = ArgumentCaptor.forClass(Callback.class);
 
 		offerRepository.getOffers(offerListCallback);
-		verify(remote).getOffers(getOfferCapture.capture());
+		verify(remote).getOffers(isNull(OfferCatalog.class), getOfferCapture.capture());
 
 		getOfferCapture.getValue().onFailure(getApiException());
 		assertEquals(0, offerRepository.getCachedOfferList().getOffers().size());
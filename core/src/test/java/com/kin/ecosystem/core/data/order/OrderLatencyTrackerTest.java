@@ -0,0 +1,125 @@
+package com.kin.ecosystem.core.data.order;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.kin.ecosystem.common.model.OrderLatency;
+import com.kin.ecosystem.core.bi.Event;
+import com.kin.ecosystem.core.bi.EventLogger;
+import com.kin.ecosystem.core.network.model.Offer.OfferType;
+import com.kin.ecosystem.core.network.model.OpenOrder;
+import com.kin.ecosystem.core.network.model.Order.Origin;
+import com.kin.ecosystem.core.network.model.Order.Status;
+import com.kin.ecosystem.core.util.ErrorUtil;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import kin.ecosystem.test.base.BaseTestClass;
+import org.junit.Before;
+import org.junit.Test;
+
+public class OrderLatencyTrackerTest extends BaseTestClass {
+
+	private static final String ORDER_ID = "GyUGc8O1eKPfnNEmDv1WY";
+
+	private EventLogger eventLogger;
+	private OrderLatencyTracker tracker;
+
+	@Before
+	public void setUp() throws Exception {
+		super.setUp();
+		eventLogger = mock(EventLogger.class);
+		tracker = new OrderLatencyTracker(eventLogger);
+	}
+
+	@Test
+	public void completed_spend_order_all_phases_measured() {
+		runOrder(ORDER_ID, OfferType.SPEND, Status.COMPLETED.getValue());
+
+		final Map<String, OrderLatency> latencies = byPhase(tracker.getLatencies());
+		assertEquals(OrderTimeline.PHASES.length, latencies.size());
+		for (String phase : OrderTimeline.PHASES) {
+			final OrderLatency latency = latencies.get(phase);
+			assertEquals("spend", latency.getOfferType());
+			assertEquals("marketplace", latency.getOrigin());
+			assertEquals(1, latency.getCount());
+			assertTrue(latency.getP50Millis() <= latency.getP95Millis());
+			assertTrue(latency.getP95Millis() <= latency.getP99Millis());
+		}
+		verify(eventLogger, never()).send(any(Event.class));
+	}
+
+	@Test
+	public void failed_order_not_measured() {
+		runOrder(ORDER_ID, OfferType.EARN, OrderLatencyTracker.OUTCOME_FAILED);
+
+		assertTrue(tracker.getLatencies().isEmpty());
+	}
+
+	@Test
+	public void cancelled_order_not_followed() {
+		final OrderTimeline timeline = tracker.start(Origin.MARKETPLACE, null);
+		tracker.onCreated(timeline, new OpenOrder().id(ORDER_ID).offerType(OfferType.SPEND));
+		tracker.onCancelled(ORDER_ID);
+		tracker.onFinished(ORDER_ID, Status.COMPLETED.getValue());
+
+		assertTrue(tracker.getLatencies().isEmpty());
+	}
+
+	@Test
+	public void order_finished_twice_measured_once() {
+		runOrder(ORDER_ID, OfferType.EARN, Status.COMPLETED.getValue());
+		tracker.onFinished(ORDER_ID, Status.COMPLETED.getValue());
+
+		assertEquals(1, byPhase(tracker.getLatencies()).get(OrderTimeline.TOTAL).getCount());
+	}
+
+	@Test
+	public void delayed_order_measured_when_completed() {
+		runOrder(ORDER_ID, OfferType.SPEND, Status.DELAYED.getValue());
+		assertTrue(tracker.getLatencies().isEmpty());
+
+		tracker.onFinished(ORDER_ID, Status.COMPLETED.getValue());
+		assertEquals(1, byPhase(tracker.getLatencies()).get(OrderTimeline.TOTAL).getCount());
+	}
+
+	@Test
+	public void timed_out_order_not_measured() {
+		runOrder(ORDER_ID, OfferType.SPEND, Status.DELAYED.getValue());
+		tracker.onFinished(ORDER_ID, OrderLatencyTracker.getOutcome(ErrorUtil.createOrderTimeoutException()));
+		tracker.onFinished(ORDER_ID, Status.COMPLETED.getValue());
+
+		assertTrue(tracker.getLatencies().isEmpty());
+	}
+
+	@Test
+	public void events_sent_when_enabled() {
+		tracker.setSendEvents(true);
+		runOrder(ORDER_ID, OfferType.EARN, Status.COMPLETED.getValue());
+		runOrder("other", OfferType.EARN, OrderLatencyTracker.OUTCOME_FAILED);
+
+		verify(eventLogger, times(2)).send(any(Event.class));
+	}
+
+	private void runOrder(String orderId, OfferType offerType, String outcome) {
+		final OrderTimeline timeline = tracker.start(Origin.MARKETPLACE, null);
+		tracker.onCreated(timeline, new OpenOrder().id(orderId).offerType(offerType));
+		tracker.onSubmitRequested(orderId);
+		tracker.onSubmitted(orderId);
+		tracker.onPaymentObserved(orderId);
+		tracker.onFinished(orderId, outcome);
+	}
+
+	private static Map<String, OrderLatency> byPhase(List<OrderLatency> latencies) {
+		final Map<String, OrderLatency> map = new HashMap<>();
+		for (OrderLatency latency : latencies) {
+			map.put(latency.getPhase(), latency);
+		}
+		return map;
+	}
+}
@@ -20,6 +20,7 @@ import com.kin.ecosystem.core.bi.events.EarnOrderPaymentConfirmed;
 import com.kin.ecosystem.core.bi.events.SpendOrderCompleted;
 import com.kin.ecosystem.core.bi.events.SpendOrderFailed;
 import com.kin.ecosystem.common.Callback;
+import com.kin.ecosystem.core.data.auth.AuthDataSource;
 import com.kin.ecosystem.core.data.blockchain.BlockchainSource;
 import com.kin.ecosystem.common.model.Balance;
 import com.kin.ecosystem.common.model.OrderConfirmation;
@@ -38,7 +39,10 @@ import com.kin.ecosystem.core.network.model.OpenOrder;
 import com.kin.ecosystem.core.network.model.Order;
 import com.kin.ecosystem.core.network.model.Order.Status;
 import com.kin.ecosystem.core.network.model.OrderList;
+import com.kin.ecosystem.core.network.model.Paging;
+import com.kin.ecosystem.core.network.model.PagingCursors;
 import com.kin.ecosystem.core.network.model.OrderSpendResult.TypeEnum;
+import com.kin.ecosystem.core.util.ExecutorsUtil;
 import java.lang.reflect.Field;
 import java.math.BigDecimal;
 import java.util.Arrays;
@@ -81,6 +85,9 @@ public class OrderRepositoryTest extends BaseTestClass {
 	@Mock
 	private OrderDataSource.Local local;
 
+	@Mock
+	private AuthDataSource authRepository;
+
 	@Mock
 	private KinCallback<OpenOrder> openOrderCallback;
 
@@ -135,7 +142,7 @@ public class OrderRepositoryTest extends BaseTestClass {
 		Field instance = OrderRepository.class.getDeclaredField("instance");
 		instance.setAccessible(true);
 		instance.set(null, null);
-		OrderRepository.init(blockchainSource, eventLogger, remote, local);
+		OrderRepository.init(blockchainSource, eventLogger, remote, local, authRepository, new ExecutorsUtil());
 		orderRepository = OrderRepository.getInstance();
 	}
 
@@ -158,6 +165,33 @@ public class OrderRepositoryTest extends BaseTestClass {
 		verify(orderHistoryCallback).onResponse(orderList);
 	}
 
+	@Test
+	public void getAllOrderHistory_NewerOrders_ReplaceCachedCopies() throws Exception {
+		when(authRepository.getEcosystemUserID()).thenReturn("ecosystemUserID");
+		resetInstance();
+		ArgumentCaptor<Callback<OrderList, Void>> localHistoryCaptor = ArgumentCaptor.forClass(Callback.class);
+		verify(local).getOrderHistory(anyString(), localHistoryCaptor.capture());
+		localHistoryCaptor.getValue().onResponse(new OrderList()
+			.addOrder(new Order().orderId("A").title("old").status(Status.COMPLETED))
+			.addOrder(new Order().orderId("C").status(Status.COMPLETED))
+			.paging(new Paging().cursors(new PagingCursors().before("cursor"))));
+
+		ArgumentCaptor<Callback<OrderList, ApiException>> newerCaptor = ArgumentCaptor.forClass(Callback.class);
+		orderRepository.getAllOrderHistory(mock(KinCallback.class));
+		verify(remote).getNewerOrderHistory(anyString(), newerCaptor.capture());
+		newerCaptor.getValue().onResponse(new OrderList()
+			.addOrder(new Order().orderId("A").title("new").status(Status.COMPLETED))
+			.addOrder(new Order().orderId("B").status(Status.COMPLETED)));
+
+		List<Order> orders = orderRepository.getAllCachedOrderHistory().getOrders();
+		assertEquals(3, orders.size());
+		assertEquals("A", orders.get(0).getOrderId());
+		assertEquals("new", orders.get(0).getTitle());
+		assertEquals("B", orders.get(1).getOrderId());
+		assertEquals("C", orders.get(2).getOrderId());
+		verify(local).setOrderHistory("ecosystemUserID", orderRepository.getAllCachedOrderHistory());
+	}
+
 	@Test
 	public void createOrder_Succeed() {
 		orderRepository.createOrder(offerID, openOrderCallback);
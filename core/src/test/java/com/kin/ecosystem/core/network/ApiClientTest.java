@@ -0,0 +1,79 @@
+package com.kin.ecosystem.core.network;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.kin.ecosystem.core.network.model.OfferList;
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.Okio;
+import okio.Source;
+import okio.Timeout;
+import org.junit.Test;
+
+public class ApiClientTest {
+
+	private static final MediaType JSON_TYPE = MediaType.parse("application/json");
+
+	private final ApiClient apiClient = new ApiClient("http://localhost/v1");
+
+	@Test
+	public void body_fails_while_parsing_api_exception_with_io_cause() {
+		final Source source = new Source() {
+			private final Buffer partial = new Buffer().writeUtf8("{\"offers\": [{\"id\": \"offer_id\", \"title\": \"");
+
+			@Override
+			public long read(Buffer sink, long byteCount) throws IOException {
+				if (partial.size() == 0) {
+					throw new SocketTimeoutException("timeout");
+				}
+				return partial.read(sink, byteCount);
+			}
+
+			@Override
+			public Timeout timeout() {
+				return Timeout.NONE;
+			}
+
+			@Override
+			public void close() {
+			}
+		};
+
+		try {
+			apiClient.handleResponse(response(ResponseBody.create(JSON_TYPE, -1, Okio.buffer(source))), OfferList.class);
+			fail("handleResponse should throw");
+		} catch (ApiException e) {
+			assertTrue(e.getCause() instanceof SocketTimeoutException);
+			assertEquals(200, e.getCode());
+		}
+	}
+
+	@Test
+	public void malformed_body_api_exception() {
+		try {
+			apiClient.handleResponse(response(ResponseBody.create(JSON_TYPE, "{\"offers\": 3}")), OfferList.class);
+			fail("handleResponse should throw");
+		} catch (ApiException e) {
+			assertEquals(200, e.getCode());
+		}
+	}
+
+	private static Response response(ResponseBody body) {
+		return new Response.Builder()
+			.request(new Request.Builder().url("http://localhost/v1/offers").build())
+			.protocol(Protocol.HTTP_1_1)
+			.code(200)
+			.message("OK")
+			.header("Content-Type", "application/json")
+			.body(body)
+			.build();
+	}
+}
@@ -0,0 +1,205 @@
+package com.kin.ecosystem.core.network;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.kin.ecosystem.core.bi.events.EventTypeAdapterFactory;
+import com.kin.ecosystem.core.network.model.ModelTypeAdapterFactory;
+import java.io.File;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import org.junit.Test;
+
+/**
+ * Every model and event that has a generated adapter is written and read the same as by the reflective adapter of
+ * Gson, both when all of its fields are set and when none are.
+ */
+public class GeneratedTypeAdaptersTest {
+
+	private static final int MAX_DEPTH = 3;
+
+	private final Gson generated = new JSON().getGson();
+	private final Gson reflective = new GsonBuilder()
+		.registerTypeAdapter(Date.class, new JSON.DateTypeAdapter())
+		.registerTypeAdapter(java.sql.Date.class, new JSON.SqlDateTypeAdapter())
+		.create();
+
+	@Test
+	public void models_same_as_reflective() throws Exception {
+		assertRoundTrips(new ModelTypeAdapterFactory());
+	}
+
+	@Test
+	public void events_same_as_reflective() throws Exception {
+		assertRoundTrips(new EventTypeAdapterFactory());
+	}
+
+	@Test
+	public void unknown_names_skipped() {
+		final String json = "{\"unknown\":{\"list\":[1,{\"a\":null}]},\"status\":\"completed\",\"id\":\"order_id\"}";
+		final Class<?> type = com.kin.ecosystem.core.network.model.Order.class;
+		assertEquals(reflective.toJson(reflective.fromJson(json, type)),
+			reflective.toJson(generated.fromJson(json, type)));
+	}
+
+	private void assertRoundTrips(TypeAdapterFactory factory) throws Exception {
+		final List<Class<?>> models = getModels(factory);
+		assertTrue("No models found for " + factory.getClass().getSimpleName(), models.size() > 1);
+		for (Class<?> model : models) {
+			assertRoundTrips(model, newInstance(model));
+			assertRoundTrips(model, populate(model, 0));
+		}
+	}
+
+	private void assertRoundTrips(Class<?> model, Object value) {
+		final String expected = reflective.toJson(value, model);
+		assertEquals(model.getName(), expected, generated.toJson(value, model));
+		final Object read = generated.fromJson(expected, model);
+		assertEquals(model.getName(), expected, reflective.toJson(read, model));
+	}
+
+	/**
+	 * @return the top level classes of the factory package that the factory has an adapter for.
+	 */
+	private List<Class<?>> getModels(TypeAdapterFactory factory) throws Exception {
+		final String packageName = factory.getClass().getPackage().getName();
+		final List<Class<?>> models = new ArrayList<>();
+		for (String className : getClassNames(factory.getClass(), packageName)) {
+			final Class<?> type = Class.forName(className);
+			if (factory.create(generated, TypeToken.get(type)) != null) {
+				models.add(type);
+			}
+		}
+		return models;
+	}
+
+	private static List<String> getClassNames(Class<?> anchor, String packageName) throws Exception {
+		final String packagePath = packageName.replace('.', '/');
+		final URL location = anchor.getProtectionDomain().getCodeSource().getLocation();
+		final File root = new File(location.toURI());
+		final List<String> names = new ArrayList<>();
+		if (root.isDirectory()) {
+			final File[] files = new File(root, packagePath).listFiles();
+			assertNotNull(files);
+			for (File file : files) {
+				addClassName(names, packageName, file.getName());
+			}
+		} else {
+			final JarFile jar = new JarFile(root);
+			try {
+				final Enumeration<JarEntry> entries = jar.entries();
+				while (entries.hasMoreElements()) {
+					final String name = entries.nextElement().getName();
+					final int slash = name.lastIndexOf('/');
+					if (slash > 0 && name.substring(0, slash).equals(packagePath)) {
+						addClassName(names, packageName, name.substring(slash + 1));
+					}
+				}
+			} finally {
+				jar.close();
+			}
+		}
+		return names;
+	}
+
+	private static void addClassName(List<String> names, String packageName, String fileName) {
+		if (fileName.endsWith(".class") && fileName.indexOf('$') < 0) {
+			names.add(packageName + "." + fileName.substring(0, fileName.length() - ".class".length()));
+		}
+	}
+
+	private static Object newInstance(Class<?> type) throws Exception {
+		final Constructor<?> constructor = type.getDeclaredConstructor();
+		constructor.setAccessible(true);
+		return constructor.newInstance();
+	}
+
+	/**
+	 * @return an instance with every field set, nested models are set up to {@link #MAX_DEPTH}.
+	 */
+	private static Object populate(Class<?> type, int depth) throws Exception {
+		final Object instance = newInstance(type);
+		for (Class<?> current = type; current != Object.class; current = current.getSuperclass()) {
+			for (Field field : current.getDeclaredFields()) {
+				final int modifiers = field.getModifiers();
+				if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers)) {
+					continue;
+				}
+				field.setAccessible(true);
+				field.set(instance, sample(field.getGenericType(), field.getName(), depth));
+			}
+		}
+		return instance;
+	}
+
+	private static Object sample(Type type, String name, int depth) throws Exception {
+		if (type instanceof ParameterizedType) {
+			final ParameterizedType parameterized = (ParameterizedType) type;
+			final Class<?> raw = (Class<?>) parameterized.getRawType();
+			final Type[] arguments = parameterized.getActualTypeArguments();
+			if (Collection.class.isAssignableFrom(raw)) {
+				final List<Object> list = new ArrayList<>();
+				list.add(sample(arguments[0], name, depth));
+				return list;
+			}
+			if (Map.class.isAssignableFrom(raw)) {
+				final Map<String, Object> map = new HashMap<>();
+				map.put("key", sample(arguments[1], name, depth));
+				return map;
+			}
+			return null;
+		}
+		if (!(type instanceof Class)) {
+			return null;
+		}
+		final Class<?> raw = (Class<?>) type;
+		if (raw == String.class) {
+			return name + "_value";
+		} else if (raw == int.class || raw == Integer.class) {
+			return 7;
+		} else if (raw == long.class || raw == Long.class) {
+			return 1234567890123L;
+		} else if (raw == double.class || raw == Double.class) {
+			return 12.5;
+		} else if (raw == float.class || raw == Float.class) {
+			return 2.5f;
+		} else if (raw == boolean.class || raw == Boolean.class) {
+			return true;
+		} else if (raw == BigDecimal.class) {
+			return new BigDecimal("1234.5678");
+		} else if (raw == Date.class) {
+			return new Date(1500000000000L);
+		} else if (raw.isEnum()) {
+			final Object[] constants = raw.getEnumConstants();
+			return constants[constants.length - 1];
+		} else if (raw.isInterface() || Modifier.isAbstract(raw.getModifiers()) || raw == Object.class
+			|| depth >= MAX_DEPTH) {
+			return null;
+		}
+		try {
+			return populate(raw, depth + 1);
+		} catch (NoSuchMethodException e) {
+			// No no args constructor, not a model.
+			return null;
+		}
+	}
+}
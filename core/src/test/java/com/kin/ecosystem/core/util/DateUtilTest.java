@@ -0,0 +1,126 @@
+package com.kin.ecosystem.core.util;
+
+import static com.kin.ecosystem.core.util.DateUtil.INVALID_TIME;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Locale;
+import java.util.Random;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+import org.junit.Before;
+import org.junit.Test;
+
+public class DateUtilTest {
+
+	private static final String[] MALFORMED = {
+		null,
+		"",
+		"2018-03-01",
+		"2018-03-01T12:3",
+		"2018/03/01T12:34",
+		"2018-03-01 12:34",
+		"2018-03-01T12-34",
+		"20a8-03-01T12:34",
+		"2018-+3-01T12:34",
+		"2018-00-01T12:34",
+		"2018-13-01T12:34",
+		"2018-03-00T12:34",
+		"2018-03-32T12:34",
+		"2018-03-01T24:00",
+		"2018-03-01T12:60",
+	};
+
+	private SimpleDateFormat utcFormat;
+	private SimpleDateFormat localFormat;
+
+	@Before
+	public void setUp() {
+		utcFormat = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm", Locale.US);
+		utcFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
+		utcFormat.setLenient(false);
+		localFormat = new SimpleDateFormat("dd.MM.yy", Locale.US);
+	}
+
+	@Test
+	public void epoch() {
+		assertEquals(0, DateUtil.getTimeFromUTCString("1970-01-01T00:00"));
+		assertEquals(-TimeUnit.MINUTES.toMillis(1), DateUtil.getTimeFromUTCString("1969-12-31T23:59"));
+		assertEquals(0, DateUtil.getDateFromUTCString("1970-01-01T00:00:00Z").getTime());
+	}
+
+	@Test
+	public void leap_years() throws Exception {
+		final String[] dates = {
+			"2016-02-28T23:59", "2016-02-29T00:00", "2016-02-29T23:59", "2016-03-01T00:00",
+			"2000-02-29T12:00", "2000-03-01T00:00",
+			"1900-02-28T23:59", "1900-03-01T00:00",
+			"2100-02-28T23:59", "2100-03-01T00:00",
+			"2400-02-29T12:00", "2400-12-31T23:59",
+			"2017-12-31T23:59", "2018-01-01T00:00",
+		};
+		for (String date : dates) {
+			assertParsed(date);
+			assertFormatted(date);
+		}
+	}
+
+	@Test
+	public void after_minutes_ignored() throws Exception {
+		final long time = utcFormat.parse("2018-07-15T10:20").getTime();
+		assertEquals(time, DateUtil.getTimeFromUTCString("2018-07-15T10:20"));
+		assertEquals(time, DateUtil.getTimeFromUTCString("2018-07-15T10:20:59Z"));
+		assertEquals(time, DateUtil.getTimeFromUTCString("2018-07-15T10:20:59.999Z"));
+		assertEquals(time, DateUtil.getTimeFromUTCString("2018-07-15T10:20:30.123456"));
+		// Like the "yyyy-MM-dd'T'HH:mm" SimpleDateFormat it replaced, an offset is not applied.
+		assertEquals(time, DateUtil.getTimeFromUTCString("2018-07-15T10:20:00+02:00"));
+		assertEquals(time, DateUtil.getTimeFromUTCString("2018-07-15T10:20:00-05:30"));
+	}
+
+	@Test
+	public void formatted_in_device_time_zone() throws Exception {
+		// Around midnight UTC the device date differs from the UTC date in most time zones.
+		final String[] dates = {
+			"2018-06-30T23:30", "2018-07-01T00:30", "2018-12-31T22:00", "2019-01-01T01:00",
+			"2018-03-25T01:30", "2018-10-28T00:30", "2018-03-11T07:30", "2018-11-04T06:30",
+		};
+		for (String date : dates) {
+			assertFormatted(date);
+		}
+	}
+
+	@Test
+	public void malformed_invalid_time() {
+		for (String date : MALFORMED) {
+			assertEquals(date, INVALID_TIME, DateUtil.getTimeFromUTCString(date));
+			assertNull(date, DateUtil.getDateFromUTCString(date));
+			assertEquals(date, "", DateUtil.getDateFormatted(date));
+		}
+	}
+
+	@Test
+	public void random_dates_same_as_simple_date_format() throws Exception {
+		final SimpleDateFormat serverFormat = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'", Locale.US);
+		serverFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
+		final long from = utcFormat.parse("1900-01-01T00:00").getTime();
+		final long to = utcFormat.parse("2400-01-01T00:00").getTime();
+		final Random random = new Random(42);
+		for (int i = 0; i < 20000; i++) {
+			final long time = from + (long) (random.nextDouble() * (to - from));
+			final String date = serverFormat.format(time);
+			assertParsed(date);
+			assertFormatted(date);
+		}
+	}
+
+	private void assertParsed(String date) throws ParseException {
+		assertEquals(date, utcFormat.parse(date).getTime(), DateUtil.getTimeFromUTCString(date));
+		assertEquals(date, utcFormat.parse(date), DateUtil.getDateFromUTCString(date));
+	}
+
+	private void assertFormatted(String date) throws ParseException {
+		assertEquals(date, localFormat.format(utcFormat.parse(date)), DateUtil.getDateFormatted(date));
+	}
+}
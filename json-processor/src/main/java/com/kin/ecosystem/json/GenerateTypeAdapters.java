@@ -0,0 +1,20 @@
+package com.kin.ecosystem.json;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generate Gson type adapters for the models of the annotated package, see {@link TypeAdapterProcessor}.
+ * Register the generated factory with {@code GsonBuilder.registerTypeAdapterFactory}.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.PACKAGE)
+public @interface GenerateTypeAdapters {
+
+    /**
+     * @return the simple name of the generated {@code TypeAdapterFactory}.
+     */
+    String value();
+}
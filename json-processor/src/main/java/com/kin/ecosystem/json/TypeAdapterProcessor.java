@@ -0,0 +1,510 @@
+package com.kin.ecosystem.json;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic.Kind;
+
+/**
+ * Generates a Gson {@code TypeAdapterFactory} for each package annotated with {@link GenerateTypeAdapters},
+ * so the models of the package are serialized without reflection.
+ * <p>
+ * A model is a top level, non abstract class of the package that has a {@code @SerializedName} field.
+ * The generated adapters follow the reflective adapter of Gson: the fields of the class and its super classes
+ * except static and transient ones, {@code @SerializedName} names and alternates, field {@code @JsonAdapter}s,
+ * nulls are written as nulls and unknown names are skipped. Models with a class {@code @JsonAdapter} are left to it.
+ * <p>
+ * Fields that are not private are accessed directly, private fields through their getter and setter, never through
+ * reflection, so the adapters keep working after R8 renames the fields. A field that can't be reached that way, or a
+ * model without a no args constructor, fails the build. The swagger models of network/model have a few fields made
+ * package-private and a package-private no args constructor for this, a regenerated model that drops them is
+ * reported here.
+ */
+public class TypeAdapterProcessor extends AbstractProcessor {
+
+    private static final String SERIALIZED_NAME = "com.google.gson.annotations.SerializedName";
+    private static final String JSON_ADAPTER = "com.google.gson.annotations.JsonAdapter";
+    private static final String TYPE_ADAPTER = "com.google.gson.TypeAdapter";
+    private static final String TYPE_ADAPTER_FACTORY = "com.google.gson.TypeAdapterFactory";
+
+    private Types types;
+    private Elements elements;
+    private Messager messager;
+    private Filer filer;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        types = processingEnv.getTypeUtils();
+        elements = processingEnv.getElementUtils();
+        messager = processingEnv.getMessager();
+        filer = processingEnv.getFiler();
+    }
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Collections.singleton(GenerateTypeAdapters.class.getCanonicalName());
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(GenerateTypeAdapters.class)) {
+            if (element.getKind() != ElementKind.PACKAGE) {
+                continue;
+            }
+            final PackageElement packageElement = (PackageElement) element;
+            final String factoryName = element.getAnnotation(GenerateTypeAdapters.class).value();
+            final List<Model> models = new ArrayList<>();
+            for (TypeElement type : ElementFilter.typesIn(packageElement.getEnclosedElements())) {
+                if (isModel(type)) {
+                    final Model model = createModel(packageElement, type);
+                    if (model != null) {
+                        models.add(model);
+                    }
+                }
+            }
+            Collections.sort(models, new Comparator<Model>() {
+                @Override
+                public int compare(Model lhs, Model rhs) {
+                    return lhs.name.compareTo(rhs.name);
+                }
+            });
+            writeFactory(packageElement, factoryName, models);
+        }
+        return true;
+    }
+
+    private boolean isModel(TypeElement type) {
+        if (type.getKind() != ElementKind.CLASS || type.getModifiers().contains(Modifier.ABSTRACT)
+            || type.getModifiers().contains(Modifier.PRIVATE) || !type.getTypeParameters().isEmpty()
+            || getAnnotation(type, JSON_ADAPTER) != null) {
+            return false;
+        }
+        for (VariableElement field : getFields(type)) {
+            if (getAnnotation(field, SERIALIZED_NAME) != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the serialized fields, in the order the reflective adapter writes them: the class fields first.
+     */
+    private List<VariableElement> getFields(TypeElement type) {
+        final List<VariableElement> fields = new ArrayList<>();
+        TypeElement current = type;
+        while (current != null && !current.getQualifiedName().contentEquals(Object.class.getName())) {
+            for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+                final Set<Modifier> modifiers = field.getModifiers();
+                if (!modifiers.contains(Modifier.STATIC) && !modifiers.contains(Modifier.TRANSIENT)) {
+                    fields.add(field);
+                }
+            }
+            final TypeMirror superclass = current.getSuperclass();
+            current = superclass.getKind() == TypeKind.DECLARED ? (TypeElement) types.asElement(superclass) : null;
+        }
+        return fields;
+    }
+
+    private Model createModel(PackageElement packageElement, TypeElement type) {
+        if (!hasNoArgsConstructor(packageElement, type)) {
+            error(type, "Models need a no args constructor that is not private.");
+            return null;
+        }
+
+        final Model model = new Model(type);
+        final Set<String> jsonNames = new HashSet<>();
+        final Set<String> adapterNames = new HashSet<>();
+        for (VariableElement field : getFields(type)) {
+            final Property property = createProperty(packageElement, type, field);
+            if (property == null) {
+                return null;
+            }
+            for (String jsonName : property.jsonNames) {
+                if (!jsonNames.add(jsonName)) {
+                    error(field, "Duplicate serialized name " + jsonName + ".");
+                    return null;
+                }
+            }
+            String adapterName = property.fieldName + "Adapter";
+            for (int i = 2; !adapterNames.add(adapterName); i++) {
+                adapterName = property.fieldName + "Adapter" + i;
+            }
+            property.adapterName = adapterName;
+            model.properties.add(property);
+        }
+        return model;
+    }
+
+    private boolean hasNoArgsConstructor(PackageElement packageElement, TypeElement type) {
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if (constructor.getParameters().isEmpty() && isAccessible(packageElement, constructor)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Property createProperty(PackageElement packageElement, TypeElement type, VariableElement field) {
+        final TypeMirror fieldType = types.asMemberOf((DeclaredType) type.asType(), field);
+        if (!isSupported(fieldType)) {
+            error(field, "Unsupported field type " + fieldType + ".");
+            return null;
+        }
+
+        final Property property = new Property(field.getSimpleName().toString(), fieldType);
+        final AnnotationMirror serializedName = getAnnotation(field, SERIALIZED_NAME);
+        if (serializedName != null) {
+            final Map<? extends ExecutableElement, ? extends AnnotationValue> values =
+                elements.getElementValuesWithDefaults(serializedName);
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : values.entrySet()) {
+                final String name = entry.getKey().getSimpleName().toString();
+                if (name.equals("value")) {
+                    property.jsonNames.add(0, (String) entry.getValue().getValue());
+                } else if (name.equals("alternate")) {
+                    for (Object alternate : (List<?>) entry.getValue().getValue()) {
+                        property.jsonNames.add((String) ((AnnotationValue) alternate).getValue());
+                    }
+                }
+            }
+        } else {
+            property.jsonNames.add(property.fieldName);
+        }
+
+        final String cap = Character.toUpperCase(property.fieldName.charAt(0)) + property.fieldName.substring(1);
+        final boolean isFinal = field.getModifiers().contains(Modifier.FINAL);
+        if (isAccessible(packageElement, field) && !isFinal) {
+            property.getter = property.fieldName;
+            property.setter = property.fieldName + " = ";
+        } else {
+            final ExecutableElement getter = findGetter(packageElement, type, fieldType, cap);
+            final ExecutableElement setter = findSetter(packageElement, type, fieldType, cap);
+            if (getter == null || setter == null) {
+                error(field, "Serialized field " + property.fieldName
+                    + " must not be private or final, or must have a getter and a setter.");
+                return null;
+            }
+            property.getter = getter.getSimpleName() + "()";
+            property.setter = setter.getSimpleName() + "(";
+        }
+
+        property.adapterInit = createAdapterInit(field, fieldType);
+        return property.adapterInit != null ? property : null;
+    }
+
+    private String createAdapterInit(VariableElement field, TypeMirror fieldType) {
+        final AnnotationMirror jsonAdapter = getAnnotation(field, JSON_ADAPTER);
+        if (jsonAdapter == null) {
+            return "gson.getAdapter(" + typeToken(fieldType, false) + ")";
+        }
+
+        TypeMirror adapterClass = null;
+        boolean nullSafe = false;
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+            : elements.getElementValuesWithDefaults(jsonAdapter).entrySet()) {
+            final String name = entry.getKey().getSimpleName().toString();
+            if (name.equals("value")) {
+                adapterClass = (TypeMirror) entry.getValue().getValue();
+            } else if (name.equals("nullSafe")) {
+                nullSafe = (Boolean) entry.getValue().getValue();
+            }
+        }
+
+        String init;
+        if (isSubtype(adapterClass, TYPE_ADAPTER)) {
+            init = "new " + types.erasure(adapterClass) + "()";
+        } else if (isSubtype(adapterClass, TYPE_ADAPTER_FACTORY)) {
+            init = "new " + types.erasure(adapterClass) + "().create(gson, " + typeToken(fieldType, true) + ")";
+        } else {
+            error(field, "Only TypeAdapter and TypeAdapterFactory are supported by @JsonAdapter.");
+            return null;
+        }
+        return nullSafe ? init + ".nullSafe()" : init;
+    }
+
+    /**
+     * @return a class literal, or a TypeToken when the type is generic or when a TypeToken is required.
+     */
+    private String typeToken(TypeMirror type, boolean required) {
+        final TypeMirror boxed = box(type);
+        if (isGeneric(type)) {
+            return "new TypeToken<" + boxed + ">() {}";
+        }
+        final String classLiteral = types.erasure(type) + ".class";
+        return required ? "TypeToken.get(" + box(types.erasure(type)) + ".class)" : classLiteral;
+    }
+
+    private ExecutableElement findGetter(PackageElement packageElement, TypeElement type, TypeMirror fieldType,
+        String cap) {
+        final Set<String> names = new HashSet<>();
+        names.add("get" + cap);
+        if (fieldType.getKind() == TypeKind.BOOLEAN) {
+            names.add("is" + cap);
+        }
+        for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(type))) {
+            if (names.contains(method.getSimpleName().toString()) && method.getParameters().isEmpty()
+                && !method.getModifiers().contains(Modifier.STATIC) && isAccessible(packageElement, method)
+                && types.isSameType(method.getReturnType(), fieldType)) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    private ExecutableElement findSetter(PackageElement packageElement, TypeElement type, TypeMirror fieldType,
+        String cap) {
+        final String name = "set" + cap;
+        for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(type))) {
+            if (method.getSimpleName().contentEquals(name) && method.getParameters().size() == 1
+                && !method.getModifiers().contains(Modifier.STATIC) && isAccessible(packageElement, method)
+                && types.isSameType(method.getParameters().get(0).asType(), fieldType)) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    private void writeFactory(PackageElement packageElement, String factoryName, List<Model> models) {
+        final String packageName = packageElement.getQualifiedName().toString();
+        final StringBuilder source = new StringBuilder();
+        source.append("package ").append(packageName).append(";\n\n");
+        source.append("import com.google.gson.Gson;\n");
+        source.append("import com.google.gson.TypeAdapter;\n");
+        source.append("import com.google.gson.TypeAdapterFactory;\n");
+        source.append("import com.google.gson.reflect.TypeToken;\n");
+        source.append("import com.google.gson.stream.JsonReader;\n");
+        source.append("import com.google.gson.stream.JsonToken;\n");
+        source.append("import com.google.gson.stream.JsonWriter;\n");
+        source.append("import java.io.IOException;\n\n");
+        source.append("/**\n");
+        source.append(" * Type adapters for the models of ").append(packageName).append(".\n");
+        source.append(" * Generated by ").append(TypeAdapterProcessor.class.getName()).append(", do not edit.\n");
+        source.append(" */\n");
+        source.append("public final class ").append(factoryName).append(" implements TypeAdapterFactory {\n\n");
+        source.append("    @Override\n");
+        source.append("    @SuppressWarnings(\"unchecked\")\n");
+        source.append("    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {\n");
+        source.append("        final Class<? super T> rawType = type.getRawType();\n");
+        for (Model model : models) {
+            source.append("        if (rawType == ").append(model.type).append(".class) {\n");
+            source.append("            return (TypeAdapter<T>) new ").append(model.adapterName).append("(gson);\n");
+            source.append("        }\n");
+        }
+        source.append("        return null;\n");
+        source.append("    }\n");
+        for (Model model : models) {
+            writeAdapter(source, model);
+        }
+        source.append("}\n");
+
+        try {
+            final Writer writer = filer.createSourceFile(packageName + "." + factoryName, packageElement)
+                .openWriter();
+            try {
+                writer.write(source.toString());
+            } finally {
+                writer.close();
+            }
+        } catch (IOException e) {
+            messager.printMessage(Kind.ERROR, "Failed to write " + factoryName + ": " + e.getMessage(),
+                packageElement);
+        }
+    }
+
+    private void writeAdapter(StringBuilder source, Model model) {
+        final String type = model.type.toString();
+        source.append("\n    private static final class ").append(model.adapterName)
+            .append(" extends TypeAdapter<").append(type).append("> {\n\n");
+        for (Property property : model.properties) {
+            source.append("        private final TypeAdapter<").append(box(property.type)).append("> ")
+                .append(property.adapterName).append(";\n");
+        }
+        source.append("\n        ").append(model.adapterName).append("(Gson gson) {\n");
+        for (Property property : model.properties) {
+            source.append("            ").append(property.adapterName).append(" = ").append(property.adapterInit)
+                .append(";\n");
+        }
+        source.append("        }\n\n");
+
+        source.append("        @Override\n");
+        source.append("        public void write(JsonWriter out, ").append(type).append(" value) throws IOException {\n");
+        source.append("            if (value == null) {\n");
+        source.append("                out.nullValue();\n");
+        source.append("                return;\n");
+        source.append("            }\n");
+        source.append("            out.beginObject();\n");
+        for (Property property : model.properties) {
+            source.append("            out.name(\"").append(property.jsonNames.get(0)).append("\");\n");
+            source.append("            ").append(property.adapterName).append(".write(out, value.")
+                .append(property.getter).append(");\n");
+        }
+        source.append("            out.endObject();\n");
+        source.append("        }\n\n");
+
+        source.append("        @Override\n");
+        source.append("        public ").append(type).append(" read(JsonReader in) throws IOException {\n");
+        source.append("            if (in.peek() == JsonToken.NULL) {\n");
+        source.append("                in.nextNull();\n");
+        source.append("                return null;\n");
+        source.append("            }\n");
+        source.append("            final ").append(type).append(" value = new ").append(type).append("();\n");
+        source.append("            in.beginObject();\n");
+        source.append("            while (in.hasNext()) {\n");
+        source.append("                switch (in.nextName()) {\n");
+        for (Property property : model.properties) {
+            for (String jsonName : property.jsonNames) {
+                source.append("                    case \"").append(jsonName).append("\":\n");
+            }
+            final String read = property.adapterName + ".read(in)";
+            if (property.type.getKind().isPrimitive()) {
+                // Like the reflective adapter, a null doesn't override the default of a primitive.
+                source.append("                    {\n");
+                source.append("                        final ").append(box(property.type)).append(" read = ")
+                    .append(read).append(";\n");
+                source.append("                        if (read != null) {\n");
+                source.append("                            ").append(setStatement(property, "read")).append("\n");
+                source.append("                        }\n");
+                source.append("                    }\n");
+            } else {
+                source.append("                        ").append(setStatement(property, read)).append("\n");
+            }
+            source.append("                        break;\n");
+        }
+        source.append("                    default:\n");
+        source.append("                        in.skipValue();\n");
+        source.append("                        break;\n");
+        source.append("                }\n");
+        source.append("            }\n");
+        source.append("            in.endObject();\n");
+        source.append("            return value;\n");
+        source.append("        }\n");
+        source.append("    }\n");
+    }
+
+    private static String setStatement(Property property, String value) {
+        return property.setter.endsWith("(") ? "value." + property.setter + value + ");"
+            : "value." + property.setter + value + ";";
+    }
+
+    private boolean isAccessible(PackageElement packageElement, Element element) {
+        final Set<Modifier> modifiers = element.getModifiers();
+        if (modifiers.contains(Modifier.PRIVATE)) {
+            return false;
+        }
+        return modifiers.contains(Modifier.PUBLIC) || elements.getPackageOf(element).equals(packageElement);
+    }
+
+    private boolean isSupported(TypeMirror type) {
+        switch (type.getKind()) {
+            case DECLARED:
+                for (TypeMirror typeArgument : ((DeclaredType) type).getTypeArguments()) {
+                    if (typeArgument.getKind() != TypeKind.WILDCARD && !isSupported(typeArgument)) {
+                        return false;
+                    }
+                }
+                return true;
+            case ARRAY:
+                return isSupported(((ArrayType) type).getComponentType());
+            default:
+                return type.getKind().isPrimitive();
+        }
+    }
+
+    private boolean isGeneric(TypeMirror type) {
+        if (type.getKind() == TypeKind.ARRAY) {
+            return isGeneric(((ArrayType) type).getComponentType());
+        }
+        return type.getKind() == TypeKind.DECLARED && !((DeclaredType) type).getTypeArguments().isEmpty();
+    }
+
+    private TypeMirror box(TypeMirror type) {
+        return type.getKind().isPrimitive() ? types.boxedClass(types.getPrimitiveType(type.getKind())).asType()
+            : type;
+    }
+
+    private boolean isSubtype(TypeMirror type, String superTypeName) {
+        final TypeElement superType = elements.getTypeElement(superTypeName);
+        return type != null && superType != null
+            && types.isSubtype(types.erasure(type), types.erasure(superType.asType()));
+    }
+
+    private static AnnotationMirror getAnnotation(Element element, String annotationName) {
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            if (((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName()
+                .contentEquals(annotationName)) {
+                return annotation;
+            }
+        }
+        return null;
+    }
+
+    private void error(Element element, String message) {
+        messager.printMessage(Kind.ERROR, message, element);
+    }
+
+    private static class Model {
+
+        private final TypeMirror type;
+        private final String name;
+        private final String adapterName;
+        private final List<Property> properties = new ArrayList<>();
+
+        Model(TypeElement element) {
+            this.type = element.asType();
+            this.name = element.getSimpleName().toString();
+            this.adapterName = name + "TypeAdapter";
+        }
+    }
+
+    private static class Property {
+
+        private final String fieldName;
+        private final TypeMirror type;
+        // The first is the name to write, the others are accepted when reading.
+        private final List<String> jsonNames = new ArrayList<>();
+
+        private String getter;
+        private String setter;
+        private String adapterName;
+        private String adapterInit;
+
+        Property(String fieldName, TypeMirror type) {
+            this.fieldName = fieldName;
+            this.type = type;
+        }
+    }
+}
@@ -1,9 +1,14 @@
 package com.kin.ecosystem;
 
+import android.content.BroadcastReceiver;
 import android.content.Context;
+import android.content.Intent;
+import android.content.IntentFilter;
 import android.os.Build;
 import android.os.Build.VERSION;
 import android.telephony.TelephonyManager;
+import com.kin.ecosystem.common.ObservableData;
+import com.kin.ecosystem.common.Observer;
 import com.kin.ecosystem.core.bi.EventsStore;
 import com.kin.ecosystem.core.bi.EventsStore.ClientModifier;
 import com.kin.ecosystem.core.bi.EventsStore.CommonModifier;
@@ -19,7 +24,13 @@ import java.util.UUID;
 
 class EventCommonDataUtil {
 
-	static void setBaseData(Context context) {
+	// Registered once, also when start is called again after it failed, and released by Kin.reset().
+	private static ObservableData<String> observedAppID;
+	private static Observer<String> appIDObserver;
+	private static Context receiverContext;
+	private static BroadcastReceiver localeReceiver;
+
+	static synchronized void setBaseData(Context context) {
 		TelephonyManager telephonyManager = (TelephonyManager) context.getSystemService(Context.TELEPHONY_SERVICE);
 		final String carrierName = telephonyManager != null ? safeguardNullString(telephonyManager.getSimOperatorName()) : "null";
 		final CommonModifier commonModifier = new CommonModifier() {
@@ -79,7 +90,7 @@ class EventCommonDataUtil {
 				userProxy.setBalance(new DynamicValue<Double>() {
 					@Override
 					public Double get() {
-						return BlockchainSourceImpl.getInstance().getBalance().getAmount().doubleValue();
+						return BlockchainSourceImpl.getInstance().getCachedBalanceValue();
 					}
 				});
 
@@ -113,6 +124,43 @@ class EventCommonDataUtil {
 		EventsStore.update(userModifier);
 		EventsStore.update(commonModifier);
 		EventsStore.update(clientModifier);
+
+		// The digital service id is posted to the main thread, refresh after it is set.
+		if (appIDObserver == null) {
+			appIDObserver = new Observer<String>() {
+				@Override
+				public void onChanged(String appID) {
+					EventsStore.refresh();
+				}
+			};
+			observedAppID = AuthRepository.getInstance().getAppID();
+			observedAppID.addObserver(appIDObserver);
+		}
+
+		// The language is cached in the client snapshot, refresh it when the user changes it.
+		if (localeReceiver == null) {
+			localeReceiver = new BroadcastReceiver() {
+				@Override
+				public void onReceive(Context context, Intent intent) {
+					EventsStore.refresh();
+				}
+			};
+			receiverContext = context.getApplicationContext();
+			receiverContext.registerReceiver(localeReceiver, new IntentFilter(Intent.ACTION_LOCALE_CHANGED));
+		}
+	}
+
+	static synchronized void release() {
+		if (appIDObserver != null) {
+			observedAppID.removeObserver(appIDObserver);
+			observedAppID = null;
+			appIDObserver = null;
+		}
+		if (localeReceiver != null) {
+			receiverContext.unregisterReceiver(localeReceiver);
+			receiverContext = null;
+			localeReceiver = null;
+		}
 	}
 
 	private static String safeguardNullString(final String text) {
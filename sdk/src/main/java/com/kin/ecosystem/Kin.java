@@ -7,19 +7,24 @@ import android.content.Context;
 import android.content.Intent;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
+import android.support.annotation.VisibleForTesting;
 import com.kin.ecosystem.common.KinCallback;
+import com.kin.ecosystem.common.KinCallbackAdapter;
 import com.kin.ecosystem.common.KinEnvironment;
 import com.kin.ecosystem.common.NativeOfferClickEvent;
 import com.kin.ecosystem.common.ObservableData;
 import com.kin.ecosystem.common.Observer;
+import com.kin.ecosystem.common.TraceSink;
 import com.kin.ecosystem.common.exception.BlockchainException;
 import com.kin.ecosystem.common.exception.ClientException;
 import com.kin.ecosystem.common.model.Balance;
 import com.kin.ecosystem.common.model.NativeSpendOffer;
 import com.kin.ecosystem.common.model.OrderConfirmation;
+import com.kin.ecosystem.common.model.OrderLatency;
 import com.kin.ecosystem.common.model.WhitelistData;
 import com.kin.ecosystem.core.Configuration;
 import com.kin.ecosystem.core.Logger;
+import com.kin.ecosystem.core.Tracer;
 import com.kin.ecosystem.core.accountmanager.AccountManagerImpl;
 import com.kin.ecosystem.core.accountmanager.AccountManagerLocal;
 import com.kin.ecosystem.core.bi.EventLogger;
@@ -31,11 +36,17 @@ import com.kin.ecosystem.core.data.auth.AuthRemoteData;
 import com.kin.ecosystem.core.data.auth.AuthRepository;
 import com.kin.ecosystem.core.data.blockchain.BlockchainSourceImpl;
 import com.kin.ecosystem.core.data.blockchain.BlockchainSourceLocal;
+import com.kin.ecosystem.core.data.offer.OfferLocalData;
 import com.kin.ecosystem.core.data.offer.OfferRemoteData;
 import com.kin.ecosystem.core.data.offer.OfferRepository;
 import com.kin.ecosystem.core.data.order.OrderLocalData;
 import com.kin.ecosystem.core.data.order.OrderRemoteData;
 import com.kin.ecosystem.core.data.order.OrderRepository;
+import com.kin.ecosystem.core.network.model.AuthToken;
+import com.kin.ecosystem.core.network.model.OfferList;
+import com.kin.ecosystem.core.network.model.OpenOrder;
+import com.kin.ecosystem.core.network.model.Order;
+import com.kin.ecosystem.core.network.model.OrderList;
 import com.kin.ecosystem.core.network.model.SignInData;
 import com.kin.ecosystem.core.network.model.SignInData.SignInTypeEnum;
 import com.kin.ecosystem.core.util.DeviceUtils;
@@ -43,6 +54,9 @@ import com.kin.ecosystem.core.util.ErrorUtil;
 import com.kin.ecosystem.core.util.ExecutorsUtil;
 import com.kin.ecosystem.main.view.EcosystemActivity;
 import com.kin.ecosystem.splash.view.SplashActivity;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import kin.core.KinAccount;
 import kin.core.KinClient;
@@ -54,19 +68,32 @@ public class Kin {
 	private static final String KIN_ECOSYSTEM_STORE_PREFIX_KEY = "kinecosystem_store";
 	private static volatile Kin instance;
 
+	private static volatile boolean lazyStart;
+	// The configuration of a lazy start, until the SDK is first used.
+	private static volatile PendingStart pendingStart;
+	// Set after all the subsystems were created.
+	private static volatile boolean isStarted;
+	private static volatile boolean sendOrderLatencyEvents;
+
 	private final ExecutorsUtil executorsUtil;
 	private final EventLogger eventLogger;
+	private volatile StartupTimings startupTimings;
+
+	private Kin(@NonNull Context appContext) {
+		this(appContext, new ExecutorsUtil());
+	}
 
-	private Kin() {
-		executorsUtil = new ExecutorsUtil();
+	private Kin(@NonNull Context appContext, @NonNull ExecutorsUtil executorsUtil) {
+		this.executorsUtil = executorsUtil;
+		EventLoggerImpl.init(appContext, executorsUtil);
 		eventLogger = EventLoggerImpl.getInstance();
 	}
 
-	private static Kin getInstance() {
+	private static Kin getInstance(@NonNull Context appContext) {
 		if (instance == null) {
 			synchronized (Kin.class) {
 				if (instance == null) {
-					instance = new Kin();
+					instance = new Kin(appContext);
 				}
 			}
 		}
@@ -74,19 +101,38 @@ public class Kin {
 		return instance;
 	}
 
+	/**
+	 * Create the instance with the given executors instead of the shared pools, start uses it.
+	 */
+	@VisibleForTesting
+	static synchronized void initInstance(@NonNull Context appContext, @NonNull ExecutorsUtil executorsUtil) {
+		instance = new Kin(appContext, executorsUtil);
+	}
+
 	public static void start(@NonNull Context appContext, @NonNull WhitelistData whitelistData,
 		@NonNull KinEnvironment environment)
 		throws ClientException, BlockchainException {
-		if (isInstanceNull()) {
+		if (!isStarted) {
 			SignInData signInData = getWhiteListSignInData(whitelistData);
-			init(appContext, signInData, environment);
+			start(appContext, signInData, environment);
 		}
 	}
 
 	public static void start(@NonNull Context appContext, @NonNull String jwt, @NonNull KinEnvironment environment)
 		throws ClientException, BlockchainException {
-		if (isInstanceNull()) {
+		if (!isStarted) {
 			SignInData signInData = getJwtSignInData(jwt);
+			start(appContext, signInData, environment);
+		}
+	}
+
+	private static void start(@NonNull Context appContext, @NonNull SignInData signInData,
+		@NonNull KinEnvironment environment) throws ClientException, BlockchainException {
+		if (lazyStart) {
+			if (pendingStart == null) {
+				pendingStart = new PendingStart(appContext.getApplicationContext(), signInData, environment);
+			}
+		} else {
 			init(appContext, signInData, environment);
 		}
 	}
@@ -95,6 +141,70 @@ public class Kin {
 		Logger.enableLogs(enableLogs);
 	}
 
+	/**
+	 * Receive the SDK spans and counters: http calls per endpoint, json parsing, order phases, startup phases,
+	 * blockchain stream opens and closes, and queue depths.
+	 * Can be called before {@link #start}, nothing is recorded while no sink is added.
+	 * {@link com.kin.ecosystem.common.RingBufferTraceSink} keeps the last events in memory and can dump them.
+	 */
+	public static void addTraceSink(@NonNull final TraceSink traceSink) {
+		Tracer.addSink(traceSink);
+	}
+
+	public static void removeTraceSink(@NonNull final TraceSink traceSink) {
+		Tracer.removeSink(traceSink);
+	}
+
+	/**
+	 * Should be called before {@link #start}, when enabled start only keeps the configuration,
+	 * and the SDK is created on the first call that uses it, like {@link #launchMarketplace(Activity)},
+	 * {@link #getBalance(KinCallback)} or {@link #purchase(String, KinCallback)}.
+	 * Errors that start would throw are thrown from that call instead, as a {@link ClientException}.
+	 * Use {@link #ensureStarted()} to create the SDK at a convenient time before it is used.
+	 */
+	public static void enableLazyStart(final boolean enableLazyStart) {
+		Kin.lazyStart = enableLazyStart;
+	}
+
+	/**
+	 * Create the SDK now if {@link #start} was called with lazy start enabled, and it wasn't created yet.
+	 *
+	 * @throws ClientException if start wasn't called, or creating the SDK failed.
+	 */
+	public static void ensureStarted() throws ClientException {
+		checkInstanceNotNull();
+	}
+
+	/**
+	 * @return how long each phase of creating the SDK took in milliseconds, in the order they ended.
+	 * Background warm-up phases are added when they end, it is empty until the SDK is created.
+	 */
+	public static Map<String, Long> getStartupTimings() {
+		final Kin kin = instance;
+		final StartupTimings timings = kin != null ? kin.startupTimings : null;
+		return timings != null ? timings.getPhases() : Collections.<String, Long>emptyMap();
+	}
+
+	/**
+	 * @return the p50, p95 and p99 durations of each phase of the recent completed orders, per offer type and origin.
+	 * It is empty until the SDK is created and orders are completed.
+	 */
+	public static List<OrderLatency> getOrderLatencies() {
+		final OrderRepository orderRepository = OrderRepository.getInstance();
+		return orderRepository != null ? orderRepository.getOrderLatencies() : Collections.<OrderLatency>emptyList();
+	}
+
+	/**
+	 * Report how long each phase of every finished order took as a BI event, disabled by default.
+	 */
+	public static void enableOrderLatencyEvents(final boolean enableOrderLatencyEvents) {
+		Kin.sendOrderLatencyEvents = enableOrderLatencyEvents;
+		final OrderRepository orderRepository = OrderRepository.getInstance();
+		if (orderRepository != null) {
+			orderRepository.setSendOrderLatencyEvents(enableOrderLatencyEvents);
+		}
+	}
+
 	private static SignInData getWhiteListSignInData(@NonNull final WhitelistData whitelistData) {
 		return new SignInData()
 			.signInType(SignInTypeEnum.WHITELIST)
@@ -109,25 +219,88 @@ public class Kin {
 			.jwt(jwt);
 	}
 
+	/**
+	 * The steps depend on each other and run in order on the calling thread, so their errors can be thrown.
+	 * Blocking work that they don't need right away runs meanwhile on the background pools,
+	 * and the data the marketplace opens with is prefetched at the end.
+	 */
 	private synchronized static void init(@NonNull Context appContext, @NonNull SignInData signInData,
 		@NonNull KinEnvironment environment) throws ClientException, BlockchainException {
+		if (isStarted) {
+			return;
+		}
+		final StartupTimings timings = new StartupTimings();
 		Configuration.setEnvironment(environment);
-		instance = getInstance();
 		appContext = appContext.getApplicationContext(); // use application context to avoid leaks.
+		instance = getInstance(appContext);
+		instance.startupTimings = timings;
+		timings.endPhase("createInstance");
+		warmUp(appContext, timings);
 		DeviceUtils.init(appContext);
 		initBlockchain(appContext);
+		timings.endPhase("initBlockchain");
 		initAuthRepository(appContext, signInData);
+		timings.endPhase("initAuthRepository");
 		initEventCommonData(appContext);
 		instance.eventLogger.send(KinSdkInitiated.create());
+		timings.endPhase("initEventCommonData");
 		initAccountManager(appContext);
+		timings.endPhase("initAccountManager");
 		initOrderRepository(appContext);
-		initOfferRepository();
+		initOfferRepository(appContext);
 		setAppID();
+		timings.endPhase("initRepositories");
+		prefetch();
+		timings.endPhase("prefetch");
+		timings.endStart();
+		isStarted = true;
+	}
+
+	/**
+	 * Starts the shared preferences loads of the data sources, and creates the API client and its json adapters,
+	 * on the background pools while start continues.
+	 */
+	private static void warmUp(@NonNull final Context context, @NonNull final StartupTimings timings) {
+		final ExecutorsUtil executorsUtil = instance.executorsUtil;
+		executorsUtil.diskIO().execute(new Runnable() {
+			@Override
+			public void run() {
+				final long startTime = System.nanoTime();
+				AuthLocalData.getInstance(context, executorsUtil);
+				BlockchainSourceLocal.getInstance(context, executorsUtil);
+				AccountManagerLocal.getInstance(context);
+				OrderLocalData.getInstance(context, executorsUtil);
+				OfferLocalData.getInstance(context, executorsUtil);
+				timings.record("warmUpLocalData", System.nanoTime() - startTime);
+			}
+		});
+		executorsUtil.networkIO().execute(new Runnable() {
+			@Override
+			public void run() {
+				final long startTime = System.nanoTime();
+				Configuration.getDefaultApiClient().getJSON()
+					.warmUp(AuthToken.class, OfferList.class, OrderList.class, Order.class, OpenOrder.class);
+				timings.record("warmUpJson", System.nanoTime() - startTime);
+			}
+		});
+	}
+
+	/**
+	 * The offers and order history the marketplace opens with, the balance is fetched when the blockchain source is
+	 * created.
+	 */
+	private static void prefetch() {
+		OfferRepository.getInstance().getOffers(null);
+		if (AuthRepository.getInstance().isActivated()) {
+			OrderRepository.getInstance().getAllOrderHistory(new KinCallbackAdapter<OrderList>() {
+			});
+		}
 	}
 
 	private static void initAccountManager(@NonNull final Context context) {
 		AccountManagerImpl
-			.init(AccountManagerLocal.getInstance(context), instance.eventLogger, AuthRepository.getInstance());
+			.init(AccountManagerLocal.getInstance(context), instance.eventLogger, AuthRepository.getInstance(),
+				BlockchainSourceImpl.getInstance(), instance.executorsUtil);
 		if (!AccountManagerImpl.getInstance().isAccountCreated()) {
 			KinAccount account = BlockchainSourceImpl.getInstance().getKinAccount();
 			if (account != null) {
@@ -154,6 +327,10 @@ public class Kin {
 	}
 
 	private static void initBlockchain(@NonNull final Context context) throws BlockchainException {
+		if (BlockchainSourceImpl.getInstance() != null) {
+			// Created by an earlier start that failed after it, don't load the accounts again.
+			return;
+		}
 		final String networkUrl = Configuration.getEnvironment().getBlockchainNetworkUrl();
 		final String networkId = Configuration.getEnvironment().getBlockchainPassphrase();
 		KinClient kinClient = new KinClient(context, new ServiceProvider(networkUrl, networkId) {
@@ -162,7 +339,8 @@ public class Kin {
 				return Configuration.getEnvironment().getIssuer();
 			}
 		}, KIN_ECOSYSTEM_STORE_PREFIX_KEY);
-		BlockchainSourceImpl.init(instance.eventLogger, kinClient, BlockchainSourceLocal.getInstance(context));
+		BlockchainSourceImpl.init(instance.eventLogger, kinClient,
+			BlockchainSourceLocal.getInstance(context, instance.executorsUtil), instance.executorsUtil);
 	}
 
 	private static void initAuthRepository(@NonNull final Context context, @NonNull final SignInData signInData)
@@ -171,31 +349,79 @@ public class Kin {
 			AuthRemoteData.getInstance(instance.executorsUtil));
 		String deviceID = AuthRepository.getInstance().getDeviceID();
 		signInData.setDeviceId(deviceID != null ? deviceID : UUID.randomUUID().toString());
-		signInData.setWalletAddress(getPublicAddress());
+		// Not Kin.getPublicAddress(), the SDK isn't started yet.
+		signInData.setWalletAddress(BlockchainSourceImpl.getInstance().getPublicAddress());
 		AuthRepository.getInstance().setSignInData(signInData);
 	}
 
-	private static void initOfferRepository() {
-		OfferRepository.init(OfferRemoteData.getInstance(instance.executorsUtil), OrderRepository.getInstance());
-		OfferRepository.getInstance().getOffers(null);
+	private static void initOfferRepository(@NonNull final Context context) {
+		OfferRepository.init(OfferRemoteData.getInstance(instance.executorsUtil),
+			OfferLocalData.getInstance(context, instance.executorsUtil), OrderRepository.getInstance(),
+			AuthRepository.getInstance());
 	}
 
 	private static void initOrderRepository(@NonNull final Context context) {
 		OrderRepository.init(BlockchainSourceImpl.getInstance(),
 			instance.eventLogger,
 			OrderRemoteData.getInstance(instance.executorsUtil),
-			OrderLocalData.getInstance(context, instance.executorsUtil));
+			OrderLocalData.getInstance(context, instance.executorsUtil),
+			AuthRepository.getInstance(),
+			instance.executorsUtil);
+		OrderRepository.getInstance().setSendOrderLatencyEvents(sendOrderLatencyEvents);
 	}
 
-	private static boolean isInstanceNull() {
-		return instance == null;
+	/**
+	 * Clears the state of Kin. The data source singletons are kept, tests replace their instances themselves.
+	 */
+	@VisibleForTesting
+	static synchronized void reset() {
+		EventCommonDataUtil.release();
+		instance = null;
+		isStarted = false;
+		pendingStart = null;
+		lazyStart = false;
 	}
 
+	/**
+	 * The public API gate, the steps of {@link #init} use the data sources directly instead of going through it.
+	 */
 	private static void checkInstanceNotNull() throws ClientException {
-		if (isInstanceNull()) {
+		if (!isStarted) {
+			initPendingStart();
+		}
+	}
+
+	/**
+	 * Callers that race on the first use wait for one of them to create the SDK.
+	 */
+	private synchronized static void initPendingStart() throws ClientException {
+		if (isStarted) {
+			return;
+		}
+		final PendingStart pending = pendingStart;
+		if (pending == null) {
 			throw ErrorUtil.getClientException(SDK_NOT_STARTED,
 				new IllegalStateException("Kin.start(...) should be called first"));
 		}
+		try {
+			init(pending.context, pending.signInData, pending.environment);
+		} catch (BlockchainException e) {
+			throw ErrorUtil.getClientException(SDK_NOT_STARTED, e);
+		}
+		pendingStart = null;
+	}
+
+	private static class PendingStart {
+
+		private final Context context;
+		private final SignInData signInData;
+		private final KinEnvironment environment;
+
+		PendingStart(@NonNull Context context, @NonNull SignInData signInData, @NonNull KinEnvironment environment) {
+			this.context = context;
+			this.signInData = signInData;
+			this.environment = environment;
+		}
 	}
 
 	/**
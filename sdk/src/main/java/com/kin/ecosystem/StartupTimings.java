@@ -0,0 +1,54 @@
+package com.kin.ecosystem;
+
+import com.kin.ecosystem.core.Log;
+import com.kin.ecosystem.core.Logger;
+import com.kin.ecosystem.core.Tracer;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * How long each phase of {@link Kin#start} took, phases of the background warm-up are recorded when they finish.
+ */
+class StartupTimings {
+
+	private static final String TAG = StartupTimings.class.getSimpleName();
+
+	private final Map<String, Long> phases = new LinkedHashMap<>();
+	private final long startTime = System.nanoTime();
+	private long phaseStartTime = startTime;
+
+	/**
+	 * Record the time since the previous phase ended, should be called on the thread that runs start.
+	 */
+	void endPhase(String phase) {
+		final long now = System.nanoTime();
+		record(phase, now - phaseStartTime);
+		phaseStartTime = now;
+	}
+
+	/**
+	 * Record the duration of a phase that ran concurrently, can be called from any thread.
+	 */
+	void record(String phase, long durationNanos) {
+		final long millis = TimeUnit.NANOSECONDS.toMillis(durationNanos);
+		synchronized (phases) {
+			phases.put(phase, millis);
+		}
+		Logger.log(Log.create(TAG).put(phase, millis));
+		if (Tracer.isEnabled()) {
+			Tracer.span("startup." + phase, null, System.currentTimeMillis() - millis, durationNanos);
+		}
+	}
+
+	void endStart() {
+		record("total", System.nanoTime() - startTime);
+	}
+
+	Map<String, Long> getPhases() {
+		synchronized (phases) {
+			return Collections.unmodifiableMap(new LinkedHashMap<>(phases));
+		}
+	}
+}
@@ -8,12 +8,14 @@ import static com.kin.ecosystem.main.Title.ORDER_HISTORY_TITLE;
 import android.os.Bundle;
 import android.support.annotation.Nullable;
 import android.view.View;
+import com.kin.ecosystem.Kin;
 import com.kin.ecosystem.R;
 import com.kin.ecosystem.balance.presenter.BalancePresenter;
 import com.kin.ecosystem.balance.presenter.IBalancePresenter;
 import com.kin.ecosystem.balance.presenter.IBalancePresenter.BalanceClickListener;
 import com.kin.ecosystem.balance.view.IBalanceView;
 import com.kin.ecosystem.base.BaseToolbarActivity;
+import com.kin.ecosystem.common.exception.ClientException;
 import com.kin.ecosystem.core.bi.EventLoggerImpl;
 import com.kin.ecosystem.core.data.blockchain.BlockchainSourceImpl;
 import com.kin.ecosystem.core.data.offer.OfferRepository;
@@ -67,6 +69,13 @@ public class EcosystemActivity extends BaseToolbarActivity implements IEcosystem
 	@Override
 	protected void onCreate(@Nullable Bundle savedInstanceState) {
 		super.onCreate(savedInstanceState);
+		try {
+			// Restored after the process was killed, the SDK is not created yet if it was started lazily.
+			Kin.ensureStarted();
+		} catch (ClientException e) {
+			finish();
+			return;
+		}
 		IBalanceView balanceView = findViewById(R.id.balance_view);
 		balancePresenter = new BalancePresenter(balanceView, EventLoggerImpl.getInstance(),
 			BlockchainSourceImpl.getInstance(), OrderRepository.getInstance());
@@ -192,7 +201,9 @@ public class EcosystemActivity extends BaseToolbarActivity implements IEcosystem
 	@Override
 	protected void onDestroy() {
 		super.onDestroy();
-		ecosystemPresenter.onDetach();
+		if (ecosystemPresenter != null) {
+			ecosystemPresenter.onDetach();
+		}
 		if (balancePresenter != null) {
 			balancePresenter.onDetach();
 		}
@@ -180,12 +180,12 @@ class SpendDialogPresenter extends BaseDialogPresenter<ISpendDialog> implements
 		orderRepository.submitOrder(offerID, null, orderID, new KinCallback<Order>() {
             @Override
             public void onResponse(Order response) {
-				Logger.log(new Log().withTag(TAG).put(" Submit onResponse", response));
+				Logger.log(Log.create(TAG).put(" Submit onResponse", response));
             }
 
             @Override
             public void onFailure(KinEcosystemException exception) {
-				Logger.log(new Log().withTag(TAG).put(" Submit onFailure", exception));
+				Logger.log(Log.create(TAG).put(" Submit onFailure", exception));
             }
         });
     }
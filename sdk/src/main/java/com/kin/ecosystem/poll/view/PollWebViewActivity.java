@@ -9,6 +9,7 @@ import android.support.annotation.NonNull;
 import android.view.View;
 import android.widget.LinearLayout;
 import android.widget.Toast;
+import com.kin.ecosystem.Kin;
 import com.kin.ecosystem.R;
 import com.kin.ecosystem.base.BaseToolbarActivity;
 import com.kin.ecosystem.core.bi.EventLoggerImpl;
@@ -59,6 +60,13 @@ public class PollWebViewActivity extends BaseToolbarActivity implements IPollWeb
 	@Override
 	protected void onCreate(Bundle savedInstanceState) {
 		super.onCreate(savedInstanceState);
+		try {
+			// Restored after the process was killed, the SDK is not created yet if it was started lazily.
+			Kin.ensureStarted();
+		} catch (ClientException e) {
+			finish();
+			return;
+		}
 		PollBundle pollBundle = new PollBundle(getIntent().getExtras());
 		attachPresenter(
 			new PollWebViewPresenter(pollBundle.getJsonData(),
@@ -149,7 +157,9 @@ public class PollWebViewActivity extends BaseToolbarActivity implements IPollWeb
 	protected void onDestroy() {
 		super.onDestroy();
 		close();
-		pollWebViewPresenter.onDetach();
+		if (pollWebViewPresenter != null) {
+			pollWebViewPresenter.onDetach();
+		}
 	}
 
 	public static class PollBundle {
@@ -37,7 +37,7 @@ public class SplashPresenter extends BasePresenter<ISplashView> implements ISpla
 	private final Observer<Integer> accountStateObserver = new Observer<Integer>() {
 		@Override
 		public void onChanged(@AccountState Integer value) {
-			Logger.log(new Log().withTag(TAG).put("accountStateObserver", value));
+			Logger.log(Log.create(TAG).put("accountStateObserver", value));
 			if (value == CREATION_COMPLETED || value == ERROR) {
 				removeAccountStateObserver();
 				cancelTimeoutTask();
@@ -46,7 +46,7 @@ public class SplashPresenter extends BasePresenter<ISplashView> implements ISpla
 					isAccountCreated = true;
 					navigateToMarketplace();
 				} else {
-					Logger.log(new Log().withTag(TAG).text("accountStateObserver -> showTryAgainLater"));
+					Logger.log(Log.create(TAG).text("accountStateObserver -> showTryAgainLater"));
 					showTryAgainLater();
 					stopLoading(true);
 					shouldShowError = false;
@@ -86,7 +86,7 @@ public class SplashPresenter extends BasePresenter<ISplashView> implements ISpla
 	}
 
 	private void removeAccountStateObserver() {
-		Logger.log(new Log().withTag(TAG).text("removeAccountStateObserver"));
+		Logger.log(Log.create(TAG).text("removeAccountStateObserver"));
 		accountManager.removeAccountStateObserver(accountStateObserver);
 	}
 
@@ -96,17 +96,17 @@ public class SplashPresenter extends BasePresenter<ISplashView> implements ISpla
 		shouldShowError = true;
 		isAccountActivated = authRepository.isActivated();
 		animateLoading();
-		Logger.log(new Log().withTag(TAG).text("getStartedClicked")
+		Logger.log(Log.create(TAG).text("getStartedClicked")
 			.put("isActivate", isAccountCreated)
 			.put("accountState", accountManager.getAccountState()));
 
 		if (!accountManager.isAccountCreated()) {
-			Logger.log(new Log().withTag(TAG).text("addAccountStateObserver"));
+			Logger.log(Log.create(TAG).text("addAccountStateObserver"));
 			startCreationTimeout(TIME_OUT_DURATION);
 			accountManager.addAccountStateObserver(accountStateObserver);
 
 			if (accountManager.getAccountState() == AccountManager.ERROR) {
-				Logger.log(new Log().withTag(TAG).text("accountManager -> retry"));
+				Logger.log(Log.create(TAG).text("accountManager -> retry"));
 				accountManager.retry();
 			}
 
@@ -123,7 +123,7 @@ public class SplashPresenter extends BasePresenter<ISplashView> implements ISpla
 		return new TimerTask() {
 			@Override
 			public void run() {
-				Logger.log(new Log().withTag(TAG).text("Account creation time out"));
+				Logger.log(Log.create(TAG).text("Account creation time out"));
 				stopLoading(true);
 				showTryAgainLater();
 				removeAccountStateObserver();
@@ -168,14 +168,14 @@ public class SplashPresenter extends BasePresenter<ISplashView> implements ISpla
 		authRepository.activateAccount(new KinCallback<Void>() {
 			@Override
 			public void onResponse(Void response) {
-				Logger.log(new Log().withTag(TAG).text("Activate account response"));
+				Logger.log(Log.create(TAG).text("Activate account response"));
 				isAccountActivated = true;
 				navigateToMarketplace();
 			}
 
 			@Override
 			public void onFailure(KinEcosystemException exception) {
-				Logger.log(new Log().withTag(TAG).put("Activate account fail", exception));
+				Logger.log(Log.create(TAG).put("Activate account fail", exception));
 				cancelTimeoutTask();
 				showSomethingWentWrong();
 				stopLoading(true);
@@ -199,7 +199,7 @@ public class SplashPresenter extends BasePresenter<ISplashView> implements ISpla
 	private void navigateToMarketplace() {
 		if (animationEnded && isAccountActivated && isAccountCreated) {
 			if (view != null) {
-				Logger.log(new Log().withTag(TAG).text("navigateToMarketPlace"));
+				Logger.log(Log.create(TAG).text("navigateToMarketPlace"));
 				view.navigateToMarketPlace();
 			}
 		}
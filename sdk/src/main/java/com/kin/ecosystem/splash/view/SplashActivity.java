@@ -15,6 +15,8 @@ import android.view.animation.Animation.AnimationListener;
 import android.widget.ImageView;
 import android.widget.TextView;
 import android.widget.Toast;
+import com.kin.ecosystem.Kin;
+import com.kin.ecosystem.common.exception.ClientException;
 import com.kin.ecosystem.core.accountmanager.AccountManagerImpl;
 import com.kin.ecosystem.R;
 import com.kin.ecosystem.core.bi.EventLoggerImpl;
@@ -42,6 +44,13 @@ public class SplashActivity extends AppCompatActivity implements ISplashView {
     @Override
     protected void onCreate(@Nullable Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
+        try {
+            // Restored after the process was killed, the SDK is not created yet if it was started lazily.
+            Kin.ensureStarted();
+        } catch (ClientException e) {
+            finish();
+            return;
+        }
         setContentView(R.layout.kinecosystem_activity_splash);
         attachPresenter(new SplashPresenter(AccountManagerImpl.getInstance(), AuthRepository.getInstance(), EventLoggerImpl.getInstance(), new Timer()));
         initViews();
@@ -175,6 +184,8 @@ public class SplashActivity extends AppCompatActivity implements ISplashView {
     @Override
     protected void onDestroy() {
         super.onDestroy();
-        splashPresenter.onDetach();
+        if (splashPresenter != null) {
+            splashPresenter.onDetach();
+        }
     }
 }
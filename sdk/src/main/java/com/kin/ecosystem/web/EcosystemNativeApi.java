@@ -12,7 +12,7 @@ class EcosystemNativeApi {
 
     @JavascriptInterface
     public void loaded() {
-        Logger.log(new Log().withTag(TAG).text("loaded()"));
+        Logger.log(Log.create(TAG).text("loaded()"));
         if (listener != null) {
             listener.onPageLoaded();
         }
@@ -20,7 +20,7 @@ class EcosystemNativeApi {
 
     @JavascriptInterface
     public void handleCancel() {
-        Logger.log(new Log().withTag(TAG).text("handleCancel()"));
+        Logger.log(Log.create(TAG).text("handleCancel()"));
         if (listener != null) {
             listener.onPageCancel();
         }
@@ -28,7 +28,7 @@ class EcosystemNativeApi {
 
     @JavascriptInterface
     public void handleResult(final String result) {
-        Logger.log(new Log().withTag(TAG).text("handleResult(\"" + result + "\")"));
+        Logger.log(Log.create(TAG).text("handleResult(\"" + result + "\")"));
         if (listener != null) {
             listener.onPageResult(result);
         }
@@ -36,7 +36,7 @@ class EcosystemNativeApi {
 
     @JavascriptInterface
     public void displayTopBar(boolean shouldDisplay) {
-        Logger.log(new Log().withTag(TAG).text("displayTopBar(\"" + shouldDisplay + "\")"));
+        Logger.log(Log.create(TAG).text("displayTopBar(\"" + shouldDisplay + "\")"));
         if (listener != null) {
             if (shouldDisplay) {
                 listener.showToolbar();
@@ -48,7 +48,7 @@ class EcosystemNativeApi {
 
     @JavascriptInterface
     public void handleClose() {
-        Logger.log(new Log().withTag(TAG).text("handleClose()"));
+        Logger.log(Log.create(TAG).text("handleClose()"));
         if (listener != null) {
             listener.onPageClosed();
         }
@@ -21,13 +21,13 @@ public class EcosystemWebChromeClient extends WebChromeClient {
 
     @Override
     public boolean onConsoleMessage(final ConsoleMessage consoleMessage) {
-        Logger.log(new Log().withTag(TAG).text("onConsoleMessage(\"" + consoleMessage.message() + "\")"));
+        Logger.log(Log.create(TAG).text("onConsoleMessage(\"" + consoleMessage.message() + "\")"));
         return true;
     }
 
     @Override
     public boolean onJsAlert(WebView view, String url, String message, JsResult result) {
-        Logger.log(new Log().withTag(TAG).text("onJsAlert(WEB_VIEW, \"" + url + "\"), \"" + message + "\", RESULT)"));
+        Logger.log(Log.create(TAG).text("onJsAlert(WEB_VIEW, \"" + url + "\"), \"" + message + "\", RESULT)"));
         Toast.makeText(context, message, Toast.LENGTH_SHORT).show();
         return true;
     }
@@ -17,11 +17,11 @@ public class EcosystemWebViewClient extends WebViewClient {
 
     @Override
     public void onPageFinished(WebView view, String url) {
-		Logger.log(new Log().withTag(TAG).text("onPageFinished(WEB_VIEW, \"" + url + "\")"));
+		Logger.log(Log.create(TAG).text("onPageFinished(WEB_VIEW, \"" + url + "\")"));
     }
 
     @Override
     public void onReceivedError(WebView view, WebResourceRequest request, WebResourceError error) {
-		Logger.log(new Log().withTag(TAG).text("onReceivedError(WEB_VIEW, REQUEST, \"" + error.toString() + "\")"));
+		Logger.log(Log.create(TAG).text("onReceivedError(WEB_VIEW, REQUEST, \"" + error.toString() + "\")"));
     }
 }
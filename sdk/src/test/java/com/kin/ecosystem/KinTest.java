@@ -0,0 +1,152 @@
+package com.kin.ecosystem;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.kin.ecosystem.common.ObservableData;
+import com.kin.ecosystem.common.exception.ClientException;
+import com.kin.ecosystem.common.model.WhitelistData;
+import com.kin.ecosystem.core.accountmanager.AccountManagerImpl;
+import com.kin.ecosystem.core.bi.EventLoggerImpl;
+import com.kin.ecosystem.core.data.auth.AuthRepository;
+import com.kin.ecosystem.core.data.blockchain.BlockchainSourceImpl;
+import com.kin.ecosystem.core.data.offer.OfferRepository;
+import com.kin.ecosystem.core.data.order.OrderRepository;
+import com.kin.ecosystem.core.network.model.SignInData;
+import com.kin.ecosystem.core.util.ExecutorsUtil;
+import java.lang.reflect.Field;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+/**
+ * The start and the lazy start gating, with mocked data sources and executors that never run the background work,
+ * so start makes no network calls and doesn't load the blockchain accounts.
+ */
+@Config(manifest = Config.NONE)
+@RunWith(RobolectricTestRunner.class)
+public class KinTest {
+
+	private static final String PUBLIC_ADDRESS = "GPUBLICADDRESS";
+
+	private final WhitelistData whitelistData = new WhitelistData("user_id", "test", "A2XEJTdN8hGiuUvg9VSHZ");
+
+	@Mock
+	private AuthRepository authRepository;
+
+	@Mock
+	private BlockchainSourceImpl blockchainSource;
+
+	@Mock
+	private AccountManagerImpl accountManager;
+
+	@Mock
+	private OrderRepository orderRepository;
+
+	@Mock
+	private OfferRepository offerRepository;
+
+	@Mock
+	private ExecutorsUtil executorsUtil;
+
+	@Before
+	public void setUp() throws Exception {
+		MockitoAnnotations.initMocks(this);
+		Kin.reset();
+
+		when(authRepository.getAppID()).thenReturn(ObservableData.<String>create());
+		when(blockchainSource.getPublicAddress()).thenReturn(PUBLIC_ADDRESS);
+		when(accountManager.isAccountCreated()).thenReturn(true);
+
+		final Executor notRun = new Executor() {
+			@Override
+			public void execute(Runnable command) {
+			}
+		};
+		when(executorsUtil.diskIO()).thenReturn(notRun);
+		when(executorsUtil.networkIO()).thenReturn(notRun);
+		when(executorsUtil.mainThread()).thenReturn(notRun);
+		when(executorsUtil.scheduled()).thenReturn(mock(ScheduledExecutorService.class));
+
+		setInstances(authRepository, blockchainSource, accountManager, orderRepository, offerRepository, null);
+		Kin.initInstance(RuntimeEnvironment.application, executorsUtil);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		Kin.reset();
+		setInstances(null, null, null, null, null, null);
+	}
+
+	@Test
+	public void eager_start_creates_sdk() throws Exception {
+		Kin.start(RuntimeEnvironment.application, whitelistData, Environment.getPlayground());
+
+		assertFalse(Kin.getStartupTimings().isEmpty());
+		assertEquals(PUBLIC_ADDRESS, Kin.getPublicAddress());
+		verify(authRepository).setSignInData(any(SignInData.class));
+	}
+
+	@Test
+	public void start_twice_creates_sdk_once() throws Exception {
+		Kin.start(RuntimeEnvironment.application, whitelistData, Environment.getPlayground());
+		Kin.start(RuntimeEnvironment.application, whitelistData, Environment.getPlayground());
+
+		verify(authRepository, times(1)).setSignInData(any(SignInData.class));
+	}
+
+	@Test
+	public void lazy_start_creates_sdk_on_first_use() throws Exception {
+		Kin.enableLazyStart(true);
+		Kin.start(RuntimeEnvironment.application, whitelistData, Environment.getPlayground());
+		assertTrue(Kin.getStartupTimings().isEmpty());
+		verify(authRepository, never()).setSignInData(any(SignInData.class));
+
+		assertEquals(PUBLIC_ADDRESS, Kin.getPublicAddress());
+		assertFalse(Kin.getStartupTimings().isEmpty());
+		verify(authRepository, times(1)).setSignInData(any(SignInData.class));
+	}
+
+	@Test
+	public void not_started_throws() {
+		try {
+			Kin.ensureStarted();
+			fail("ensureStarted should throw before start");
+		} catch (ClientException e) {
+			assertEquals(ClientException.SDK_NOT_STARTED, e.getCode());
+		}
+	}
+
+	private static void setInstances(AuthRepository authRepository, BlockchainSourceImpl blockchainSource,
+		AccountManagerImpl accountManager, OrderRepository orderRepository, OfferRepository offerRepository,
+		EventLoggerImpl eventLogger) throws Exception {
+		setInstance(AuthRepository.class, authRepository);
+		setInstance(BlockchainSourceImpl.class, blockchainSource);
+		setInstance(AccountManagerImpl.class, accountManager);
+		setInstance(OrderRepository.class, orderRepository);
+		setInstance(OfferRepository.class, offerRepository);
+		setInstance(EventLoggerImpl.class, eventLogger);
+	}
+
+	private static void setInstance(Class<?> type, Object value) throws Exception {
+		Field instance = type.getDeclaredField("instance");
+		instance.setAccessible(true);
+		instance.set(null, value);
+	}
+}